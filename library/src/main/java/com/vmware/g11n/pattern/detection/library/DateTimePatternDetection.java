@@ -5,18 +5,31 @@
 
 package com.vmware.g11n.pattern.detection.library;
 
+import com.vmware.g11n.pattern.detection.library.data.CacheStatistics;
+import com.vmware.g11n.pattern.detection.library.data.DetectorStatistics;
+import com.vmware.g11n.pattern.detection.library.data.PruningStatistics;
+import com.vmware.g11n.pattern.detection.library.exceptions.DateTimePatternDetectionException;
+import com.vmware.g11n.pattern.detection.library.patterns.DetectorChain;
+import com.vmware.g11n.pattern.detection.library.patterns.FormatMatcher;
+import com.vmware.g11n.pattern.detection.library.patterns.FormatterCache;
+import com.vmware.g11n.pattern.detection.library.patterns.InputShapeCache;
 import com.vmware.g11n.pattern.detection.library.services.CldrService;
 import com.vmware.g11n.pattern.detection.library.services.ConvertorService;
+import com.vmware.g11n.pattern.detection.library.services.ResultCache;
 import com.vmware.g11n.pattern.detection.library.services.ValidatorService;
 import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.DateFormats;
 import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.TimeFormats;
 import com.vmware.g11n.pattern.detection.model.serviceData.BatchValidationRequest;
 import com.vmware.g11n.pattern.detection.model.serviceData.ConversionResult;
 import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+import com.vmware.g11n.pattern.detection.library.utils.CldrDataRegistry;
 import com.vmware.g11n.pattern.detection.library.utils.ResourceLoaders;
 import com.vmware.g11n.pattern.detection.library.utils.UserInputProcessors;
 import org.yaml.snakeyaml.Yaml;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -27,6 +40,11 @@ public class DateTimePatternDetection {
     static Map<String, Object> yamlConfigs;
 
     public static void setCldrVersion(String providedCldrVersion) {
+        setCldrVersion(providedCldrVersion, null);
+    }
+
+    // Regenerates the CLDR resources from an already downloaded CLDR JSON zip instead of downloading it
+    public static void setCldrVersion(String providedCldrVersion, String cldrJsonZipPath) {
         yamlConfigs = new Yaml().load(DateTimePatternDetection.class.getClassLoader()
                 .getResourceAsStream("cldr-data.yml"));
 
@@ -34,12 +52,80 @@ public class DateTimePatternDetection {
 
         if (!providedCldrVersion.equals(currentCldrVersion)) {
             ResourceLoaders resourceLoaders = new ResourceLoaders();
-            resourceLoaders.generateCldrData(providedCldrVersion, Arrays.stream(String.valueOf(yamlConfigs.get("locales")).split(", ")).toList());
+            List<String> locales = Arrays.stream(String.valueOf(yamlConfigs.get("locales")).split(", ")).toList();
+            if (cldrJsonZipPath == null) {
+                resourceLoaders.generateCldrData(providedCldrVersion, locales);
+            } else {
+                try {
+                    resourceLoaders.generateCldrData(providedCldrVersion, cldrJsonZipPath, locales);
+                } catch (IOException e) {
+                    throw new DateTimePatternDetectionException("Can't generate CLDR version " + providedCldrVersion + " from " + cldrJsonZipPath + ": " + e.getMessage());
+                }
+            }
             yamlConfigs.replace("cldr-version", providedCldrVersion);
             resourceLoaders.saveYamlToFile(yamlConfigs);
+            CldrDataRegistry.invalidateAll();
+        }
+    }
+
+    /*
+    Switches to another CLDR version at runtime, without touching the packaged resources. The locales currently supported
+    are read from the local CLDR JSON zip and fully warmed up before they replace the data in use.
+     */
+    public static void loadCldrVersion(String cldrVersion, String cldrJsonZipPath) {
+        try {
+            CldrDataRegistry.loadCldrVersion(Path.of(cldrJsonZipPath), cldrVersion, new CldrService().getSupportedLocales());
+        } catch (IOException | RuntimeException e) {
+            throw new DateTimePatternDetectionException("Can't load CLDR version " + cldrVersion + " from " + cldrJsonZipPath + ": " + e.getMessage());
         }
     }
 
+    public static void warmUpCldrData() {
+        CldrDataRegistry.warmUp();
+    }
+
+    public static CacheStatistics getCldrDataStatistics() {
+        return CldrDataRegistry.getStatistics();
+    }
+
+    public static CacheStatistics getFormatterStatistics() {
+        return FormatterCache.getStatistics();
+    }
+
+    public static CacheStatistics getInputShapeStatistics() {
+        return InputShapeCache.getStatistics();
+    }
+
+    public static PruningStatistics getCandidatePruningStatistics() {
+        return FormatMatcher.getStatistics();
+    }
+
+    // Caches up to maximumSize validation and conversion results each, for the repeated inputs of UI forms and logs
+    public static void enableResultCache(long maximumSize, Duration expireAfterWrite) {
+        ResultCache.enable(maximumSize, expireAfterWrite);
+    }
+
+    public static void disableResultCache() {
+        ResultCache.disable();
+    }
+
+    public static CacheStatistics getValidationResultStatistics() {
+        return ResultCache.getValidationStatistics();
+    }
+
+    public static CacheStatistics getConversionResultStatistics() {
+        return ResultCache.getConversionStatistics();
+    }
+
+    // Lets each locale try its mutually exclusive detectors in the order measured to be cheapest
+    public static void setAdaptiveDetectorOrdering(boolean enabled) {
+        DetectorChain.setAdaptiveOrdering(enabled);
+    }
+
+    public static List<DetectorStatistics> getDetectorStatistics() {
+        return DetectorChain.getAllStatistics();
+    }
+
     public ValidationResult validateLocalizedInput(String input, String locale) {
         ValidatorService validatorService = new ValidatorService();
         return validatorService.validateInput(input, locale);
@@ -50,6 +136,12 @@ public class DateTimePatternDetection {
         return validatorService.validateInput(input);
     }
 
+    // Returns the maximumResults locales the input matches best, the best first
+    public List<ValidationResult> validateLocalizedInput(String input, int maximumResults) {
+        ValidatorService validatorService = new ValidatorService();
+        return validatorService.validateInput(input, maximumResults);
+    }
+
     public List<ValidationResult> batchValidateLocalizedInput(List<BatchValidationRequest> batchValidationRequest) {
         ValidatorService validatorService = new ValidatorService();
         return validatorService.bulkValidateLocalizedInput(batchValidationRequest);
@@ -72,16 +164,16 @@ public class DateTimePatternDetection {
 
     public TimeFormats getStandardCldrTimePatterns(String locale) {
         Locale providedLocale = UserInputProcessors.verifyAndLoadLocale(locale);
-        return ResourceLoaders.loadCldrData(providedLocale).gregorianCalendar.timeFormats;
+        return ResourceLoaders.loadCldrData(providedLocale).getGregorianCalendar().timeFormats;
     }
 
     public DateFormats getStandardCldrDatePatterns(String locale) {
         Locale providedLocale = UserInputProcessors.verifyAndLoadLocale(locale);
-        return ResourceLoaders.loadCldrData(providedLocale).gregorianCalendar.dateFormats;
+        return ResourceLoaders.loadCldrData(providedLocale).getGregorianCalendar().dateFormats;
     }
 
     public Map<String, String> getStandardCldrDateTimePatterns(String locale) {
         Locale providedLocale = UserInputProcessors.verifyAndLoadLocale(locale);
-        return ResourceLoaders.loadCldrData(providedLocale).gregorianCalendar.getStandardDateTimeMap();
+        return ResourceLoaders.loadCldrData(providedLocale).getGregorianCalendar().getStandardDateTimeMap();
     }
 }
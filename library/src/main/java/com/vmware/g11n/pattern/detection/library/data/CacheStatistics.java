@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+/**
+ * Point-in-time snapshot of the counters kept by the library caches.
+ */
+public class CacheStatistics {
+
+    public final long hitCount;
+    public final long missCount;
+    public final long loadCount;
+    public final long totalLoadTimeNanos;
+    public final long size;
+
+    public CacheStatistics(long hitCount, long missCount, long loadCount, long totalLoadTimeNanos, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+        this.size = size;
+    }
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public double averageLoadPenaltyNanos() {
+        return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{hitCount=" + hitCount + ", missCount=" + missCount + ", loadCount=" + loadCount
+                + ", totalLoadTimeNanos=" + totalLoadTimeNanos + ", size=" + size + "}";
+    }
+}
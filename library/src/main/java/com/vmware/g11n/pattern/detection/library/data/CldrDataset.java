@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.google.common.collect.ImmutableMap;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable CLDR data of a fixed set of locales, all of the same CLDR version.
+ */
+public class CldrDataset {
+
+    public final String cldrVersion;
+    public final ImmutableMap<Locale, CldrData> cldrDataByLocale;
+
+    public CldrDataset(String cldrVersion, ImmutableMap<Locale, CldrData> cldrDataByLocale) {
+        this.cldrVersion = cldrVersion;
+        this.cldrDataByLocale = cldrDataByLocale;
+    }
+
+    public List<String> getSupportedLocales() {
+        return cldrDataByLocale.keySet().stream().map(Locale::toLanguageTag).toList();
+    }
+
+    @Override
+    public String toString() {
+        return "CldrDataset{cldrVersion=" + cldrVersion + ", locales=" + getSupportedLocales() + "}";
+    }
+}
@@ -30,26 +30,26 @@ public class CldrMappers {
         Map<String, List<String>> mapToReturn = new LinkedHashMap<>();
 
         // DAYS
-        mapToReturn.put(FORMATTED_ABBREVIATED_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.gregorianCalendar.days.daysFormat.abbreviated.values().stream().toList());
-        mapToReturn.put(FORMATTED_NARROW_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.gregorianCalendar.days.daysFormat.narrow.values().stream().toList());
-        mapToReturn.put(FORMATTED_WIDE_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.gregorianCalendar.days.daysFormat.wide.values().stream().toList());
-        mapToReturn.put(STANDALONE_ABBREVIATED_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.gregorianCalendar.days.daysStandalone.abbreviated.values().stream().toList());
-        mapToReturn.put(STANDALONE_NARROW_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.gregorianCalendar.days.daysStandalone.narrow.values().stream().toList());
-        mapToReturn.put(STANDALONE_WIDE_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.gregorianCalendar.days.daysStandalone.wide.values().stream().toList());
+        mapToReturn.put(FORMATTED_ABBREVIATED_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.getGregorianCalendar().days.daysFormat.abbreviated.values().stream().toList());
+        mapToReturn.put(FORMATTED_NARROW_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.getGregorianCalendar().days.daysFormat.narrow.values().stream().toList());
+        mapToReturn.put(FORMATTED_WIDE_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.getGregorianCalendar().days.daysFormat.wide.values().stream().toList());
+        mapToReturn.put(STANDALONE_ABBREVIATED_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.getGregorianCalendar().days.daysStandalone.abbreviated.values().stream().toList());
+        mapToReturn.put(STANDALONE_NARROW_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.getGregorianCalendar().days.daysStandalone.narrow.values().stream().toList());
+        mapToReturn.put(STANDALONE_WIDE_CLDR_DATA_KEY + DAYS_SUFFIX, cldrData.getGregorianCalendar().days.daysStandalone.wide.values().stream().toList());
 
         // MONTHS
-        mapToReturn.put(FORMATTED_ABBREVIATED_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.gregorianCalendar.months.monthsFormat.abbreviated.values().stream().toList());
-        mapToReturn.put(FORMATTED_NARROW_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.gregorianCalendar.months.monthsFormat.narrow.values().stream().toList());
-        mapToReturn.put(FORMATTED_WIDE_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.gregorianCalendar.months.monthsFormat.wide.values().stream().toList());
-        mapToReturn.put(STANDALONE_ABBREVIATED_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.gregorianCalendar.months.monthsStandalone.abbreviated.values().stream().toList());
-        mapToReturn.put(STANDALONE_NARROW_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.gregorianCalendar.months.monthsStandalone.narrow.values().stream().toList());
-        mapToReturn.put(STANDALONE_WIDE_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.gregorianCalendar.months.monthsStandalone.wide.values().stream().toList());
+        mapToReturn.put(FORMATTED_ABBREVIATED_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.getGregorianCalendar().months.monthsFormat.abbreviated.values().stream().toList());
+        mapToReturn.put(FORMATTED_NARROW_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.getGregorianCalendar().months.monthsFormat.narrow.values().stream().toList());
+        mapToReturn.put(FORMATTED_WIDE_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.getGregorianCalendar().months.monthsFormat.wide.values().stream().toList());
+        mapToReturn.put(STANDALONE_ABBREVIATED_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.getGregorianCalendar().months.monthsStandalone.abbreviated.values().stream().toList());
+        mapToReturn.put(STANDALONE_NARROW_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.getGregorianCalendar().months.monthsStandalone.narrow.values().stream().toList());
+        mapToReturn.put(STANDALONE_WIDE_CLDR_DATA_KEY + MONTHS_SUFFIX, cldrData.getGregorianCalendar().months.monthsStandalone.wide.values().stream().toList());
 
         // DAY PERIODS
-        mapToReturn.put(FORMATTED_ABBREVIATED_CLDR_DATA_KEY_AM_PM_ONLY + DAY_PERIOD_SUFFIX, cldrData.gregorianCalendar.dayPeriods.dayPeriodsFormat.getDayPeriodsTypeForAmPmOnly(cldrData.gregorianCalendar.dayPeriods.dayPeriodsFormat.wide));
-        mapToReturn.put(FORMATTED_ABBREVIATED_CLDR_DATA_KEY + DAY_PERIOD_SUFFIX, cldrData.gregorianCalendar.dayPeriods.dayPeriodsFormat.getDayPeriodsTypeWithoutAmPm(cldrData.gregorianCalendar.dayPeriods.dayPeriodsFormat.abbreviated));
-        mapToReturn.put(FORMATTED_NARROW_CLDR_DATA_KEY + DAY_PERIOD_SUFFIX, cldrData.gregorianCalendar.dayPeriods.dayPeriodsFormat.getNarrow().values().stream().toList());
-        mapToReturn.put(FORMATTED_WIDE_CLDR_DATA_KEY + DAY_PERIOD_SUFFIX, cldrData.gregorianCalendar.dayPeriods.dayPeriodsFormat.getWide().values().stream().toList());
+        mapToReturn.put(FORMATTED_ABBREVIATED_CLDR_DATA_KEY_AM_PM_ONLY + DAY_PERIOD_SUFFIX, cldrData.getGregorianCalendar().dayPeriods.dayPeriodsFormat.getDayPeriodsTypeForAmPmOnly(cldrData.getGregorianCalendar().dayPeriods.dayPeriodsFormat.wide));
+        mapToReturn.put(FORMATTED_ABBREVIATED_CLDR_DATA_KEY + DAY_PERIOD_SUFFIX, cldrData.getGregorianCalendar().dayPeriods.dayPeriodsFormat.getDayPeriodsTypeWithoutAmPm(cldrData.getGregorianCalendar().dayPeriods.dayPeriodsFormat.abbreviated));
+        mapToReturn.put(FORMATTED_NARROW_CLDR_DATA_KEY + DAY_PERIOD_SUFFIX, cldrData.getGregorianCalendar().dayPeriods.dayPeriodsFormat.getNarrow().values().stream().toList());
+        mapToReturn.put(FORMATTED_WIDE_CLDR_DATA_KEY + DAY_PERIOD_SUFFIX, cldrData.getGregorianCalendar().dayPeriods.dayPeriodsFormat.getWide().values().stream().toList());
 
         return mapToReturn;
     }
@@ -103,10 +103,10 @@ public class CldrMappers {
     }
 
     public static List<String> getAllSubsidiaryElements(CldrData cldrData) {
-        List<String> dateTimeFormats = new ArrayList<>(cldrData.gregorianCalendar.dateFormats.getAllDateFormatsAsMap().values());
-        dateTimeFormats.addAll(cldrData.gregorianCalendar.timeFormats.getAllTimeFormatsAsMap().values());
-        dateTimeFormats.addAll(cldrData.gregorianCalendar.dateTimeFormats.getAllDateTimeFormats());
-        dateTimeFormats.addAll(cldrData.gregorianCalendar.dateTimeFormats.getAvailableFormats().values());
+        List<String> dateTimeFormats = new ArrayList<>(cldrData.getGregorianCalendar().dateFormats.getAllDateFormatsAsMap().values());
+        dateTimeFormats.addAll(cldrData.getGregorianCalendar().timeFormats.getAllTimeFormatsAsMap().values());
+        dateTimeFormats.addAll(cldrData.getGregorianCalendar().dateTimeFormats.getAllDateTimeFormats());
+        dateTimeFormats.addAll(cldrData.getGregorianCalendar().dateTimeFormats.getAvailableFormats().values());
 
         return dateTimeFormats.stream()
                 .map(Matchers::detectSingleQuotationWordsAndGetMatchedGroup).toList()
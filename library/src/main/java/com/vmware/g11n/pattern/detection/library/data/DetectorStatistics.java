@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+/**
+ * Point-in-time snapshot of the counters kept for one stage of a detector chain of a locale.
+ */
+public class DetectorStatistics {
+
+    public final String chain;
+    public final String locale;
+    public final String stage;
+    // Position of the stage in the order the chain currently runs its stages
+    public final int position;
+    public final long invocationCount;
+    public final long hitCount;
+    public final long totalTimeNanos;
+
+    public DetectorStatistics(String chain, String locale, String stage, int position, long invocationCount, long hitCount, long totalTimeNanos) {
+        this.chain = chain;
+        this.locale = locale;
+        this.stage = stage;
+        this.position = position;
+        this.invocationCount = invocationCount;
+        this.hitCount = hitCount;
+        this.totalTimeNanos = totalTimeNanos;
+    }
+
+    public double hitRate() {
+        return invocationCount == 0 ? 0.0 : (double) hitCount / invocationCount;
+    }
+
+    public double averageTimeNanos() {
+        return invocationCount == 0 ? 0.0 : (double) totalTimeNanos / invocationCount;
+    }
+
+    @Override
+    public String toString() {
+        return "DetectorStatistics{chain=" + chain + ", locale=" + locale + ", stage=" + stage + ", position=" + position
+                + ", invocationCount=" + invocationCount + ", hitCount=" + hitCount + ", totalTimeNanos=" + totalTimeNanos + "}";
+    }
+}
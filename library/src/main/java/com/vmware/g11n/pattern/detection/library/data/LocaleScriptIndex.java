@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import com.ibm.icu.util.ULocale;
+
+import java.lang.Character.UnicodeScript;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The scripts a locale writes its names in, derived from the likely script of the locale without reading its CLDR
+ * data. An input with letters of a script its locale doesn't use can't be detected in that locale, as every word of an
+ * input is matched against the locale's names, patterns and timezones, so such locales are skipped when detecting the
+ * locale of an input.
+ * <p>
+ * Latin letters never rule a locale out, because the ISO formats, timezone ids and GMT formats are accepted in all
+ * locales. Digits, punctuation and the letters shared by several scripts are ignored as well.
+ */
+public class LocaleScriptIndex {
+
+    private static final Set<UnicodeScript> SHARED_SCRIPTS = EnumSet.of(UnicodeScript.COMMON, UnicodeScript.INHERITED,
+            UnicodeScript.UNKNOWN, UnicodeScript.LATIN);
+
+    // The ISO 15924 codes standing for a mix of scripts, the others name a single script
+    private static final Map<String, Set<UnicodeScript>> SCRIPTS_BY_COMBINED_CODE = ImmutableMap.of(
+            "Jpan", Sets.immutableEnumSet(UnicodeScript.HAN, UnicodeScript.HIRAGANA, UnicodeScript.KATAKANA),
+            "Kore", Sets.immutableEnumSet(UnicodeScript.HANGUL, UnicodeScript.HAN),
+            "Hans", Sets.immutableEnumSet(UnicodeScript.HAN),
+            "Hant", Sets.immutableEnumSet(UnicodeScript.HAN));
+
+    private static final Map<Locale, LocaleScriptIndex> indexByLocale = new ConcurrentHashMap<>();
+
+    // Null if the script of the locale is unknown, then no input is ruled out
+    private final Set<UnicodeScript> scripts;
+
+    private LocaleScriptIndex(Locale locale) {
+        this.scripts = readScripts(locale);
+    }
+
+    public static LocaleScriptIndex forLocale(Locale locale) {
+        return indexByLocale.computeIfAbsent(locale, LocaleScriptIndex::new);
+    }
+
+    // The scripts of the input's letters which only some locales use
+    public static Set<UnicodeScript> getDistinctiveScripts(String input) {
+        Set<UnicodeScript> scripts = EnumSet.noneOf(UnicodeScript.class);
+        input.codePoints().filter(Character::isLetter).mapToObj(UnicodeScript::of)
+                .filter(script -> !SHARED_SCRIPTS.contains(script))
+                .forEach(scripts::add);
+        return scripts;
+    }
+
+    public boolean usesAll(Set<UnicodeScript> inputScripts) {
+        return scripts == null || scripts.containsAll(inputScripts);
+    }
+
+    private static Set<UnicodeScript> readScripts(Locale locale) {
+        String scriptCode = ULocale.addLikelySubtags(ULocale.forLocale(locale)).getScript();
+        if (SCRIPTS_BY_COMBINED_CODE.containsKey(scriptCode)) {
+            return SCRIPTS_BY_COMBINED_CODE.get(scriptCode);
+        }
+        try {
+            return EnumSet.of(UnicodeScript.forName(scriptCode));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
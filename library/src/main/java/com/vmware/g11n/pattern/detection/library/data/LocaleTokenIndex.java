@@ -0,0 +1,239 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.MapMaker;
+import com.vmware.g11n.pattern.detection.library.utils.AhoCorasickMatcher;
+import com.vmware.g11n.pattern.detection.library.utils.CldrDataRegistry;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.calendar.GregorianCalendar;
+
+import java.lang.Character.UnicodeScript;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.vmware.g11n.pattern.detection.library.utils.UserInputProcessors.foldCase;
+
+/**
+ * Case-insensitive index from the words of all supported locales to the locales they are found in, as a bitset over
+ * the supported locales. A word of an input can only be detected in a locale which has the word, or a name contained
+ * in it, somewhere in its CLDR data, so the candidate locales of an input are the intersection of its words' locales.
+ * <p>
+ * The words are taken from the sections which are detected in an input: the names of the calendar, the formats, whose
+ * literals like 'de' and 'um' are detected as subsidiary elements, the relative date fields and the timezone names.
+ * The index is built when the registry warms up the data, not on the request path. Words accepted in every locale (timezone ids, GMT, single letters
+ * like the T of ISO formats), words not found in any locale and words of the CJK scripts don't narrow the candidates.
+ */
+public class LocaleTokenIndex {
+
+    private static final Set<UnicodeScript> UNSPACED_SCRIPTS = EnumSet.of(UnicodeScript.HAN, UnicodeScript.HIRAGANA,
+            UnicodeScript.KATAKANA, UnicodeScript.HANGUL);
+
+    private static final List<String> FORMATTER_TEXT_PATTERNS = List.of("G", "GGGG", "GGGGG", "MMM", "MMMM", "MMMMM", "LLL",
+            "LLLL", "LLLLL", "E", "EEEE", "EEEEE", "ccc", "cccc", "ccccc", "a", "QQQ", "QQQQ", "qqq", "qqqq");
+
+    // Words of the locale independent timezone ids and GMT formats
+    private static final ImmutableSet<String> LOCALE_INDEPENDENT_WORDS = Stream.of(
+                    ZoneId.getAvailableZoneIds().stream(), ZoneId.SHORT_IDS.keySet().stream(), Stream.of("GMT", "UTC", "UT"))
+            .flatMap(ids -> ids)
+            .flatMap(id -> splitIntoWords(id).stream())
+            .map(word -> foldCase(word))
+            .collect(ImmutableSet.toImmutableSet());
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    // The index of each dataset activated at runtime, built before the dataset is activated
+    private static final ConcurrentMap<CldrDataset, LocaleTokenIndex> indexByDataset = new MapMaker().weakKeys().makeMap();
+
+    // The index of the bundled data
+    private static volatile LocaleTokenIndex bundledIndex;
+
+    private final String cldrVersion;
+    private final List<String> locales;
+
+    // Words longer than one char, matched as a whole or contained in a longer input word (e.g. the name in Märzchen)
+    private final List<BitSet> localesOfEmbeddableWords = new ArrayList<>();
+    private final AhoCorasickMatcher embeddableWordsMatcher;
+
+    private LocaleTokenIndex(String cldrVersion, List<String> locales, Function<Locale, CldrData> cldrDataLoader) {
+        this.cldrVersion = cldrVersion;
+        this.locales = ImmutableList.copyOf(locales);
+
+        Map<String, BitSet> localesByFoldedWord = new HashMap<>();
+        for (int i = 0; i < locales.size(); i++) {
+            Locale locale = Locale.forLanguageTag(locales.get(i));
+            for (String word : Iterables.concat(getWords(cldrDataLoader.apply(locale)), getFormatterWords(locale))) {
+                localesByFoldedWord.computeIfAbsent(foldCase(word), key -> new BitSet()).set(i);
+            }
+        }
+
+        List<String> embeddableWords = new ArrayList<>();
+        localesByFoldedWord.forEach((word, wordLocales) -> {
+            if (word.length() > 1) {
+                embeddableWords.add(word);
+                localesOfEmbeddableWords.add(wordLocales);
+            }
+        });
+        this.embeddableWordsMatcher = new AhoCorasickMatcher(embeddableWords);
+    }
+
+    public static LocaleTokenIndex forDataset(CldrDataset dataset) {
+        return indexByDataset.computeIfAbsent(dataset,
+                key -> new LocaleTokenIndex(key.cldrVersion, key.getSupportedLocales(), key.cldrDataByLocale::get));
+    }
+
+    /*
+    The index of the supported locales of the CLDR version in use. The registry builds it while warming up, only the
+    bundled data is indexed on first use when it wasn't warmed up.
+     */
+    public static LocaleTokenIndex forSupportedLocales() {
+        CldrDataset dataset = CldrDataRegistry.getActiveDataset();
+        if (dataset != null) {
+            return forDataset(dataset);
+        }
+
+        String cldrVersion = CldrDataRegistry.getCldrVersion();
+        List<String> locales = CldrDataRegistry.getSupportedLocales();
+        LocaleTokenIndex current = bundledIndex;
+        if (current != null && current.cldrVersion.equals(cldrVersion) && current.locales.equals(locales)) {
+            return current;
+        }
+
+        synchronized (LocaleTokenIndex.class) {
+            current = bundledIndex;
+            if (current == null || !current.cldrVersion.equals(cldrVersion) || !current.locales.equals(locales)) {
+                current = new LocaleTokenIndex(cldrVersion, locales, CldrDataRegistry::getCldrData);
+                bundledIndex = current;
+            }
+            return current;
+        }
+    }
+
+    // Returns the locales the input may be detected in, in the order of the supported locales
+    public List<String> getCandidateLocales(String input) {
+        BitSet candidates = new BitSet();
+        candidates.set(0, locales.size());
+
+        for (String word : splitIntoWords(input)) {
+            String foldedWord = foldCase(word);
+            if (foldedWord.length() == 1 || LOCALE_INDEPENDENT_WORDS.contains(foldedWord)
+                    || UNSPACED_SCRIPTS.contains(UnicodeScript.of(foldedWord.codePointAt(0)))) {
+                continue;
+            }
+
+            // The word itself is one of the embeddable words if any locale has it
+            BitSet wordLocales = new BitSet();
+            embeddableWordsMatcher.findContained(foldedWord).stream()
+                    .forEach(embeddedWord -> wordLocales.or(localesOfEmbeddableWords.get(embeddedWord)));
+
+            // Unknown everywhere, so it says nothing about the locale
+            if (!wordLocales.isEmpty()) {
+                candidates.and(wordLocales);
+            }
+        }
+
+        return candidates.stream().mapToObj(locales::get).toList();
+    }
+
+    // The eras and quarters are detected too, through the G and Q symbols of the formats
+    private static List<String> getWords(CldrData cldrData) {
+        GregorianCalendar calendar = cldrData.getGregorianCalendar();
+        List<String> words = new ArrayList<>();
+        Stream.of(calendar.months, calendar.days, calendar.dayPeriods, calendar.eras, calendar.quarters, calendar.dateFormats,
+                        calendar.timeFormats, calendar.dateTimeFormats, cldrData.getDateFields(), cldrData.getTimezoneNames())
+                .filter(Objects::nonNull)
+                .forEach(section -> collectWords(mapper.valueToTree(section), words));
+        return words;
+    }
+
+    private static void collectWords(JsonNode node, List<String> words) {
+        if (node.isTextual()) {
+            words.addAll(splitIntoWords(node.textValue()));
+        } else {
+            node.elements().forEachRemaining(child -> collectWords(child, words));
+        }
+    }
+
+    /*
+    The names the formatters parse come from the JDK's locale data, which may differ from the CLDR data in use (e.g. the
+    es eras), so they are added for every text symbol.
+     */
+    private static List<String> getFormatterWords(Locale locale) {
+        List<LocalDateTime> dateTimes = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            dateTimes.add(LocalDateTime.of(2022, month, 1, 0, 0));
+        }
+        for (int day = 1; day <= 7; day++) {
+            dateTimes.add(LocalDateTime.of(2022, 8, day, 12, 0));
+        }
+        dateTimes.add(LocalDateTime.of(-1, 1, 1, 0, 0));
+
+        List<String> words = new ArrayList<>();
+        for (String pattern : FORMATTER_TEXT_PATTERNS) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale);
+            dateTimes.forEach(dateTime -> words.addAll(splitIntoWords(formatter.format(dateTime))));
+        }
+        return words;
+    }
+
+    // Runs of letters of one script, so pattern symbols glued to a literal (e.g. y년) are split from it
+    static List<String> splitIntoWords(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        UnicodeScript wordScript = null;
+        for (int i = 0; i < text.length(); i = text.offsetByCodePoints(i, 1)) {
+            int codePoint = text.codePointAt(i);
+            if (!isWordChar(codePoint)) {
+                if (start >= 0) {
+                    words.add(text.substring(start, i));
+                    start = -1;
+                }
+                continue;
+            }
+
+            UnicodeScript script = UnicodeScript.of(codePoint);
+            boolean sharedScript = script == UnicodeScript.COMMON || script == UnicodeScript.INHERITED;
+            if (start >= 0 && !sharedScript && wordScript != null && script != wordScript) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+            if (start < 0) {
+                start = i;
+                wordScript = null;
+            }
+            if (!sharedScript) {
+                wordScript = script;
+            }
+        }
+        if (start >= 0) {
+            words.add(text.substring(start));
+        }
+        return words;
+    }
+
+    private static boolean isWordChar(int codePoint) {
+        int type = Character.getType(codePoint);
+        return Character.isLetter(codePoint) || type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.vmware.g11n.pattern.detection.library.utils.AhoCorasickMatcher;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.FORMATS_TO_PATTERNS_MAP;
+import static com.vmware.g11n.pattern.detection.library.utils.UserInputProcessors.foldCase;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+/**
+ * Case-insensitive index from the localized month, day and day period names of a locale to their pattern symbols.
+ * When a name is used by several of them, the symbol of the first one in {@link CldrMappers#mapAllDatesData} wins.
+ * Also finds the names and day periods embedded in inputs without spacing (e.g. 2022年3月5日午後3:00) in one pass.
+ */
+public class LocalizedStringIndex {
+
+    private static final PerCldrData<LocalizedStringIndex> indexes = PerCldrData.of(LocalizedStringIndex::new);
+
+    private final ImmutableMap<String, String> patternsByFoldedName;
+    // All symbols of the names used by several fields (e.g. May as MMM and MMMM), comma-separated
+    private final ImmutableMap<String, String> allPatternsByFoldedName;
+
+    // Names without digits and longer than one char, in the order of mapAllDatesData
+    private final List<String> embeddableNames = new ArrayList<>();
+    private final AhoCorasickMatcher embeddableNamesMatcher;
+
+    private final List<String> dayPeriods;
+    private final AhoCorasickMatcher dayPeriodsMatcher;
+
+    private LocalizedStringIndex(CldrData cldrData) {
+        Map<String, String> patternsByFoldedName = new HashMap<>();
+        Map<String, Set<String>> allPatternsByFoldedName = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : CldrMappers.mapAllDatesData(cldrData).entrySet()) {
+            String pattern = FORMATS_TO_PATTERNS_MAP.get(entry.getKey());
+            entry.getValue().stream()
+                    .filter(name -> name != null)
+                    .forEach(name -> {
+                        patternsByFoldedName.putIfAbsent(foldCase(name), pattern);
+                        allPatternsByFoldedName.computeIfAbsent(foldCase(name), key -> new LinkedHashSet<>()).add(pattern);
+                        if (name.length() > 1 && name.chars().noneMatch(c -> c >= '0' && c <= '9')) {
+                            embeddableNames.add(name);
+                        }
+                    });
+        }
+        this.patternsByFoldedName = ImmutableMap.copyOf(patternsByFoldedName);
+        this.allPatternsByFoldedName = ImmutableMap.copyOf(Maps.transformValues(allPatternsByFoldedName, patterns -> String.join(",", patterns)));
+        this.embeddableNamesMatcher = new AhoCorasickMatcher(embeddableNames);
+
+        this.dayPeriods = cldrData.getGregorianCalendar().dayPeriods.getAllDayPeriods();
+        this.dayPeriodsMatcher = new AhoCorasickMatcher(dayPeriods);
+    }
+
+    public static LocalizedStringIndex forCldrData(CldrData cldrData) {
+        return indexes.get(cldrData);
+    }
+
+    // Returns the pattern symbol of the localized name, ignoring case and surrounding whitespace, or an empty string
+    public String getPattern(String input) {
+        return patternsByFoldedName.getOrDefault(foldCase(input.trim()), EMPTY);
+    }
+
+    // Returns all symbols of the localized name, comma-separated in the order of mapAllDatesData, or an empty string
+    public String getAllPatterns(String input) {
+        return allPatternsByFoldedName.getOrDefault(foldCase(input.trim()), EMPTY);
+    }
+
+    // Returns the longest name contained in the input, the first one in mapAllDatesData order on equal length
+    public String getLongestContainedName(String input) {
+        BitSet contained = embeddableNamesMatcher.findContained(input);
+        String longestName = EMPTY;
+        for (int i = contained.nextSetBit(0); i >= 0; i = contained.nextSetBit(i + 1)) {
+            if (embeddableNames.get(i).length() > longestName.length()) {
+                longestName = embeddableNames.get(i);
+            }
+        }
+        return longestName;
+    }
+
+    // Returns the first day period, in the order of DayPeriods.getAllDayPeriods, contained in the input
+    public String getFirstContainedDayPeriod(String input) {
+        int firstDayPeriod = dayPeriodsMatcher.findContained(input).nextSetBit(0);
+        return firstDayPeriod >= 0 ? dayPeriods.get(firstDayPeriod) : EMPTY;
+    }
+}
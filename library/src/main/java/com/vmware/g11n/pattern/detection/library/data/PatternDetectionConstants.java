@@ -62,6 +62,8 @@ public final class PatternDetectionConstants {
     public static String INVALID_LOCALE_ERROR = "Provided locale is invalid. Please check input.";
     public static String NOT_SUPPORTED_LOCALE_ERROR = "Provided locale is not supported.";
     public static String UNDETECTED_COMPONENTS_ERROR = "Cannot generate/validate skeleton pattern for the following components: ";
+    public static String INVALID_MAXIMUM_RESULTS_ERROR = "The maximum number of results must be positive.";
+    public static String INTERRUPTED_VALIDATION_ERROR = "The validation was interrupted before all locales were checked.";
     public static String NON_CONVERTABLE_INPUT = "Localized output cannot be generated. The detected pattern of the source input is invalid or not full date.";
 
     // This is needed as VIP and standard libraries accept locales in different way. Example: zh-Hant and zh-TW
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.google.common.collect.MapMaker;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A value derived from the CLDR data of a locale, like an index or a detector chain, built once per CldrData instance
+ * on first use. The instances are compared by identity and held weakly, so the value is released together with the
+ * CldrData it was built from, e.g. when the registry drops its data or activates another CLDR version.
+ */
+public final class PerCldrData<T> {
+
+    private final ConcurrentMap<CldrData, T> valueByCldrData = new MapMaker().weakKeys().makeMap();
+    private final Function<CldrData, T> builder;
+
+    private PerCldrData(Function<CldrData, T> builder) {
+        this.builder = builder;
+    }
+
+    public static <T> PerCldrData<T> of(Function<CldrData, T> builder) {
+        return new PerCldrData<>(builder);
+    }
+
+    public T get(CldrData cldrData) {
+        return valueByCldrData.computeIfAbsent(cldrData, builder);
+    }
+
+    // The values built so far whose data is still in use
+    public Collection<T> values() {
+        return valueByCldrData.values();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.timezones.MetaZoneFields;
+import com.vmware.g11n.pattern.detection.model.timezones.SubZone;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Word-level trie of the CLDR phrases of a locale which the user input splits into several space separated words and
+ * which need to be detected as one component: timezone names and exemplar cities (e.g. Los Angeles), relative times
+ * (e.g. last friday) and day periods (e.g. in the morning, p. m.). All day periods are part of the trie, including the
+ * single-word ones, so they can be recognized while matching.
+ */
+public class PhraseTrie {
+
+    private static final PerCldrData<PhraseTrie> tries = PerCldrData.of(PhraseTrie::new);
+
+    private static final String NBSP = "\u00A0";
+
+    private static class Node {
+        final Map<String, Node> children = new HashMap<>();
+        // The CLDR form of the phrase ending in this node, null if no phrase ends here
+        String phrase;
+        boolean dayPeriod;
+    }
+
+    public static class Match {
+        // Index of the last input word of the phrase
+        public final int end;
+        // The phrase in its CLDR form (e.g. with NBSP), followed by the trailing ',' or '.' of the last word if any
+        public final String phrase;
+        public final boolean dayPeriod;
+
+        private Match(int end, String phrase, boolean dayPeriod) {
+            this.end = end;
+            this.phrase = phrase;
+            this.dayPeriod = dayPeriod;
+        }
+    }
+
+    private final Node root = new Node();
+
+    private PhraseTrie(CldrData cldrData) {
+        Stream<String> exemplarCities = cldrData.getTimezoneNames().getZones().values().stream()
+                .flatMap(zone -> zone.values().stream())
+                .map(SubZone::getExemplarCity);
+        Stream<String> longMetaZoneNames = cldrData.getTimezoneNames().getMetazone().values().stream()
+                .map(MetaZoneFields::getLongMetaZone)
+                .filter(Objects::nonNull)
+                .flatMap(longMetaZone -> Stream.of(longMetaZone.getGeneric(), longMetaZone.getDaylight(), longMetaZone.getStandard()));
+
+        Stream.of(exemplarCities, longMetaZoneNames, cldrData.getDateFields().getAllDateFieldsValues().stream())
+                .flatMap(phrases -> phrases)
+                .filter(Objects::nonNull)
+                .forEach(phrase -> addPhrase(phrase, false));
+
+        cldrData.getGregorianCalendar().dayPeriods.getAllDayPeriods().stream()
+                .filter(Objects::nonNull)
+                .forEach(dayPeriod -> addPhrase(dayPeriod, true));
+    }
+
+    public static PhraseTrie forCldrData(CldrData cldrData) {
+        return tries.get(cldrData);
+    }
+
+    /*
+    Returns the longest phrase made of the words starting at the given index, or null if there is none. Only the last
+    word may carry a trailing ',' or '.' which is not part of the phrase.
+     */
+    public Match getLongestMatch(List<String> words, int start) {
+        Match longestMatch = null;
+        Node node = root;
+        for (int i = start; i < words.size() && node != null; i++) {
+            String word = words.get(i);
+            Node exactMatch = node.children.get(word);
+            if (exactMatch != null && exactMatch.phrase != null) {
+                longestMatch = new Match(i, exactMatch.phrase, exactMatch.dayPeriod);
+            } else if (word.length() > 1 && (word.endsWith(",") || word.endsWith("."))) {
+                Node punctuatedMatch = node.children.get(word.substring(0, word.length() - 1));
+                if (punctuatedMatch != null && punctuatedMatch.phrase != null) {
+                    longestMatch = new Match(i, punctuatedMatch.phrase + word.charAt(word.length() - 1), punctuatedMatch.dayPeriod);
+                }
+            }
+            node = exactMatch;
+        }
+        return longestMatch;
+    }
+
+    private void addPhrase(String phrase, boolean dayPeriod) {
+        // The input is only split by spaces, so a phrase with NBSP is matched both as one word and split by the NBSP
+        addWords(phrase, Arrays.asList(phrase.split(" ")), dayPeriod);
+        if (phrase.contains(NBSP)) {
+            addWords(phrase, Arrays.asList(phrase.replace(NBSP, " ").split(" ")), dayPeriod);
+        }
+    }
+
+    private void addWords(String phrase, List<String> words, boolean dayPeriod) {
+        // Single words of other phrases are components on their own and don't need to be combined
+        if (words.isEmpty() || words.contains("") || (words.size() == 1 && !dayPeriod)) {
+            return;
+        }
+
+        Node node = root;
+        for (String word : words) {
+            node = node.children.computeIfAbsent(word, key -> new Node());
+        }
+        if (node.phrase == null || dayPeriod) {
+            node.phrase = phrase;
+        }
+        node.dayPeriod |= dayPeriod;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+/**
+ * Point-in-time snapshot of how many CLDR format candidates were ruled out before being parsed.
+ */
+public class PruningStatistics {
+
+    public final long requestCount;
+    public final long candidateCount;
+    // Ruled out by the shape signature of the input
+    public final long shapePrunedCount;
+    // Ruled out by walking the input through the compiled formats
+    public final long matcherPrunedCount;
+
+    public PruningStatistics(long requestCount, long candidateCount, long shapePrunedCount, long matcherPrunedCount) {
+        this.requestCount = requestCount;
+        this.candidateCount = candidateCount;
+        this.shapePrunedCount = shapePrunedCount;
+        this.matcherPrunedCount = matcherPrunedCount;
+    }
+
+    public long remainingCount() {
+        return candidateCount - shapePrunedCount - matcherPrunedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "PruningStatistics{requestCount=" + requestCount + ", candidateCount=" + candidateCount
+                + ", shapePrunedCount=" + shapePrunedCount + ", matcherPrunedCount=" + matcherPrunedCount + "}";
+    }
+}
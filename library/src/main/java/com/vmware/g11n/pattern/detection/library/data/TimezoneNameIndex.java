@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.vmware.g11n.pattern.detection.library.utils.Matchers;
+import com.vmware.g11n.pattern.detection.library.utils.UserInputProcessors;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.timezones.MetaZoneFields;
+import com.vmware.g11n.pattern.detection.model.timezones.SubZone;
+import com.vmware.g11n.pattern.detection.model.timezones.TimezoneNames;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.vmware.g11n.pattern.detection.library.data.DateFieldSymbols.*;
+import static com.vmware.g11n.pattern.detection.library.utils.UserInputProcessors.foldCase;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+/**
+ * Timezone names of a locale mapped to their pattern symbols. The detection order is kept from the original detectors:
+ * specific and generic metazone names, offsets, localized GMT, exemplar cities and at last the zone ids.
+ */
+public class TimezoneNameIndex {
+
+    // Zone ids don't depend on the locale, so they are read and folded only once
+    private static final ImmutableSet<String> FOLDED_LONG_TIME_ZONE_IDS;
+    private static final ImmutableSet<String> FOLDED_SHORT_TIME_ZONE_IDS;
+
+    static {
+        Set<String> longTimeZoneIds = ZoneId.getAvailableZoneIds();
+        longTimeZoneIds.removeAll(ZoneId.SHORT_IDS.keySet());
+
+        FOLDED_LONG_TIME_ZONE_IDS = longTimeZoneIds.stream().map(UserInputProcessors::foldCase).collect(ImmutableSet.toImmutableSet());
+        FOLDED_SHORT_TIME_ZONE_IDS = ZoneId.SHORT_IDS.keySet().stream().map(UserInputProcessors::foldCase).collect(ImmutableSet.toImmutableSet());
+    }
+
+    private static final PerCldrData<TimezoneNameIndex> indexes = PerCldrData.of(key -> new TimezoneNameIndex(key.getTimezoneNames()));
+
+    private final ImmutableMap<String, String> metaZoneSymbolsByFoldedName;
+    // Matched case-sensitively as 'AT' is valid zone and 'at' is subsidiary element
+    private final ImmutableSet<String> shortGenericNames;
+    private final ImmutableSet<String> foldedExemplarCities;
+
+    private TimezoneNameIndex(TimezoneNames timezoneNames) {
+        Map<String, String> metaZoneSymbolsByFoldedName = new HashMap<>();
+        putAllFolded(metaZoneSymbolsByFoldedName, LONG_SPECIFIC_NON_LOCATION_TIME_ZONE_SYMBOL, timezoneNames.getMetazone().values().stream()
+                .map(MetaZoneFields::getLongMetaZone).filter(Objects::nonNull)
+                .flatMap(metaZone -> Stream.of(metaZone.getDaylight(), metaZone.getStandard())));
+        putAllFolded(metaZoneSymbolsByFoldedName, SHORT_SPECIFIC_NON_LOCATION_TIME_ZONE_SYMBOL, timezoneNames.getMetazone().values().stream()
+                .map(MetaZoneFields::getShortMetaZone).filter(Objects::nonNull)
+                .flatMap(metaZone -> Stream.of(metaZone.getDaylight(), metaZone.getStandard())));
+        putAllFolded(metaZoneSymbolsByFoldedName, LONG_GENERIC_NON_LOCATION_TIME_ZONE_SYMBOL, timezoneNames.getMetazone().values().stream()
+                .map(MetaZoneFields::getLongMetaZone).filter(Objects::nonNull)
+                .map(metaZone -> metaZone.getGeneric()));
+        this.metaZoneSymbolsByFoldedName = ImmutableMap.copyOf(metaZoneSymbolsByFoldedName);
+
+        this.shortGenericNames = timezoneNames.getMetazone().values().stream()
+                .map(MetaZoneFields::getShortMetaZone).filter(Objects::nonNull)
+                .map(metaZone -> metaZone.getGeneric()).filter(Objects::nonNull)
+                .collect(ImmutableSet.toImmutableSet());
+        this.foldedExemplarCities = timezoneNames.getZones().values().stream()
+                .flatMap(zone -> zone.values().stream())
+                .map(SubZone::getExemplarCity).filter(Objects::nonNull)
+                .map(UserInputProcessors::foldCase)
+                .collect(ImmutableSet.toImmutableSet());
+    }
+
+    public static TimezoneNameIndex forCldrData(CldrData cldrData) {
+        return indexes.get(cldrData);
+    }
+
+    public static boolean isLongTimeZoneId(String input) {
+        return FOLDED_LONG_TIME_ZONE_IDS.contains(foldCase(input));
+    }
+
+    public static boolean isShortTimeZoneId(String input) {
+        return FOLDED_SHORT_TIME_ZONE_IDS.contains(foldCase(input));
+    }
+
+    // Returns the pattern symbol of the timezone in the input, or an empty string
+    public String getPattern(String input) {
+        String foldedInput = foldCase(input);
+
+        String metaZoneSymbol = metaZoneSymbolsByFoldedName.get(foldedInput);
+        if (metaZoneSymbol != null) {
+            return metaZoneSymbol;
+        }
+        if (shortGenericNames.contains(input)) {
+            return SHORT_GENERIC_NON_LOCATION_TIME_ZONE_SYMBOL;
+        }
+        if (Matchers.detectBasicHmsFormat(input)) {
+            return BASIC_HMS_SYMBOL;
+        }
+        if (Matchers.detectExtendedHmsFormat(input)) {
+            return EXTENDED_HMS_SYMBOL;
+        }
+        if (Matchers.detectLongGmtFormat(input)) {
+            return LONG_LOCALIZED_GMT_SYMBOL;
+        }
+        if (Matchers.detectShortGmtFormat(input)) {
+            return SHORT_LOCALIZED_GMT_SYMBOL;
+        }
+        if (foldedExemplarCities.contains(foldedInput)) {
+            return TIME_ZONE_EXEMPLAR_CITY_SYMBOL;
+        }
+        if (FOLDED_LONG_TIME_ZONE_IDS.contains(foldedInput)) {
+            return LONG_TIME_ZONE_ID_SYMBOL;
+        }
+        return FOLDED_SHORT_TIME_ZONE_IDS.contains(foldedInput) ? SHORT_TIME_ZONE_ID_SYMBOL : EMPTY;
+    }
+
+    /*
+    Whether some casing of the name is found as a timezone. The names, cities and ids are matched ignoring case, the
+    short generic names exactly and the localized GMT formats only with GMT in upper case.
+     */
+    public boolean mayMatchIgnoringCase(String name) {
+        String foldedName = foldCase(name);
+        return !getPattern(name).isEmpty() || !getPattern(name.toUpperCase(Locale.ROOT)).isEmpty()
+                || shortGenericNames.stream().map(UserInputProcessors::foldCase).anyMatch(foldedName::equals);
+    }
+
+    // Names already used by a symbol of higher priority keep it
+    private static void putAllFolded(Map<String, String> symbolsByFoldedName, String symbol, Stream<String> names) {
+        names.filter(Objects::nonNull).forEach(name -> symbolsByFoldedName.putIfAbsent(foldCase(name), symbol));
+    }
+}
@@ -5,11 +5,27 @@
 
 package com.vmware.g11n.pattern.detection.library.exceptions;
 
+import com.vmware.g11n.pattern.detection.model.serviceData.ErrorsType;
+
+import java.util.Map;
+
 public class DateTimePatternDetectionException extends RuntimeException {
 
-    private static final long serialVersionUID = 121L;
+    private static final long serialVersionUID = 122L;
+
+    // Errors found while validating the input which caused the exception
+    private final Map<ErrorsType, String> errors;
 
     public DateTimePatternDetectionException(String message) {
+        this(message, Map.of());
+    }
+
+    public DateTimePatternDetectionException(String message, Map<ErrorsType, String> errors) {
         super(message);
+        this.errors = errors == null ? Map.of() : Map.copyOf(errors);
+    }
+
+    public Map<ErrorsType, String> getErrors() {
+        return errors;
     }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import com.vmware.g11n.pattern.detection.library.data.DetectorStatistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Ordered detector stages of one locale, run until the first one hits. The stages are the constants of an enum, in
+ * the order of their declaration, and every stage counts how often it ran, hit and how long it took.
+ * <p>
+ * Stages which can't hit the same input and don't change anything when they miss form exclusive groups: whichever of
+ * them runs first, the result is the same. With adaptive ordering enabled, the stages of each group are sorted by their
+ * measured cost per hit after every {@value #REORDER_INTERVAL} detections, so the cheap stages likely to hit run first.
+ * All other stages keep their place, as their order decides the result.
+ */
+public class DetectorChain<S extends Enum<S>> {
+
+    private static final long REORDER_INTERVAL = 1_024;
+
+    private static volatile boolean adaptiveOrdering;
+
+    // All chains, to report their statistics; a chain is released together with the CldrData it was built for
+    private static final Set<DetectorChain<?>> chains = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+
+    private final String name;
+    private final String locale;
+    private final List<S> stages;
+    // Stages of the same exclusive group share the group, the other stages are alone in theirs
+    private final int[] groupByOrdinal;
+
+    private final LongAdder[] invocationCounts;
+    private final LongAdder[] hitCounts;
+    private final LongAdder[] totalTimeNanos;
+    private final AtomicLong detectionCount = new AtomicLong();
+
+    private volatile List<S> adaptiveOrder;
+
+    public DetectorChain(String name, String locale, Class<S> stageType, List<EnumSet<S>> exclusiveGroups) {
+        this.name = name;
+        this.locale = locale;
+        this.stages = ImmutableList.copyOf(stageType.getEnumConstants());
+        this.groupByOrdinal = new int[stages.size()];
+        Arrays.setAll(groupByOrdinal, ordinal -> ordinal);
+        for (EnumSet<S> group : exclusiveGroups) {
+            int first = group.iterator().next().ordinal();
+            for (S stage : group) {
+                if (stage.ordinal() - first >= group.size()) {
+                    throw new IllegalArgumentException("The stages of an exclusive group must follow each other: " + group);
+                }
+                groupByOrdinal[stage.ordinal()] = first;
+            }
+        }
+
+        this.invocationCounts = newCounters(stages.size());
+        this.hitCounts = newCounters(stages.size());
+        this.totalTimeNanos = newCounters(stages.size());
+        this.adaptiveOrder = stages;
+        chains.add(this);
+    }
+
+    public static void setAdaptiveOrdering(boolean enabled) {
+        adaptiveOrdering = enabled;
+    }
+
+    public static List<DetectorStatistics> getAllStatistics() {
+        List<DetectorStatistics> statistics = new ArrayList<>();
+        chains.forEach(chain -> statistics.addAll(chain.getStatistics()));
+        return statistics;
+    }
+
+    // Returns the result of the first stage the detector returns a non-null result for, or null if none of them does
+    public <R> R detect(Function<S, R> detector) {
+        R result = null;
+        for (S stage : getOrder()) {
+            int ordinal = stage.ordinal();
+            long start = System.nanoTime();
+            result = detector.apply(stage);
+            totalTimeNanos[ordinal].add(System.nanoTime() - start);
+            invocationCounts[ordinal].increment();
+            if (result != null) {
+                hitCounts[ordinal].increment();
+                break;
+            }
+        }
+
+        if (adaptiveOrdering && detectionCount.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    public List<S> getOrder() {
+        return adaptiveOrdering ? adaptiveOrder : stages;
+    }
+
+    public List<DetectorStatistics> getStatistics() {
+        List<S> order = getOrder();
+        List<DetectorStatistics> statistics = new ArrayList<>();
+        for (S stage : stages) {
+            int ordinal = stage.ordinal();
+            statistics.add(new DetectorStatistics(name, locale, stage.name(), order.indexOf(stage),
+                    invocationCounts[ordinal].sum(), hitCounts[ordinal].sum(), totalTimeNanos[ordinal].sum()));
+        }
+        return statistics;
+    }
+
+    static void reorderAll() {
+        chains.forEach(DetectorChain::reorder);
+    }
+
+    // Sorts the stages of each exclusive group by cost per hit, the groups follow each other as declared
+    synchronized void reorder() {
+        List<S> order = new ArrayList<>(stages);
+        int start = 0;
+        while (start < order.size()) {
+            int end = start + 1;
+            while (end < order.size() && groupByOrdinal[end] == groupByOrdinal[start]) {
+                end++;
+            }
+            order.subList(start, end).sort(Comparator.comparingDouble(this::getCostPerHit));
+            start = end;
+        }
+        adaptiveOrder = ImmutableList.copyOf(order);
+    }
+
+    // The hit rate is smoothed, so the stages which haven't run or hit yet get a finite cost too
+    private double getCostPerHit(S stage) {
+        int ordinal = stage.ordinal();
+        long invocations = invocationCounts[ordinal].sum();
+        double averageTimeNanos = invocations == 0 ? 0.0 : (double) totalTimeNanos[ordinal].sum() / invocations;
+        double hitRate = (hitCounts[ordinal].sum() + 1.0) / (invocations + 2.0);
+        return averageTimeNanos / hitRate;
+    }
+
+    private static LongAdder[] newCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        Arrays.setAll(counters, index -> new LongAdder());
+        return counters;
+    }
+}
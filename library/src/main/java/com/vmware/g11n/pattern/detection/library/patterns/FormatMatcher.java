@@ -0,0 +1,316 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import com.google.common.collect.ImmutableList;
+import com.vmware.g11n.pattern.detection.library.data.PerCldrData;
+import com.vmware.g11n.pattern.detection.library.data.PruningStatistics;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.calendar.GregorianCalendar;
+
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compiled matcher over the standard and available CLDR formats of a locale. All patterns are tokenized into typed
+ * fields (numeric, localized text, literal) which share a prefix tree, and the input is walked once through the tree
+ * to find the patterns whose shape it can have. Text fields match any text, so the matcher never rules out a pattern
+ * which {@link PatternValidators} would accept: it is only used to skip parsing the candidates which can't match.
+ */
+public class FormatMatcher {
+
+    private static final PerCldrData<FormatMatcher> matchers = PerCldrData.of(FormatMatcher::new);
+
+    // The format families, in the order they are tried
+    public enum FormatFamily {
+        STANDARD_DATE, STANDARD_TIME, STANDARD_DATE_TIME, AVAILABLE_FORMATS
+    }
+
+    enum FieldType {
+        LITERAL, NUMERIC, TEXT
+    }
+
+    private static final String NUMERIC_LETTERS = "uyDdhHKkmsSAnNgFWwY";
+    // Numeric with up to two letters, text from three letters on
+    private static final String NUMERIC_OR_TEXT_LETTERS = "MLQqec";
+    private static final String TEXT_LETTERS = "GEaBVvzOXxZ";
+
+    private static class Node {
+        final int id;
+        final Map<Character, Node> literals = new HashMap<>();
+        Node numeric;
+        Node text;
+        // The field type the node was reached with; numeric and text fields may continue in the node itself
+        final FieldType repeatable;
+        final BitSet patterns = new BitSet();
+        // The patterns ending in this node or below it
+        final BitSet reachablePatterns = new BitSet();
+
+        Node(int id, FieldType repeatable) {
+            this.id = id;
+            this.repeatable = repeatable;
+        }
+    }
+
+    /**
+     * The candidates of each format family which can match an input, in the order of the CLDR data.
+     */
+    public class Candidates {
+        private final BitSet matchingPatterns;
+        public final int shapePrunedCount;
+        public final int matcherPrunedCount;
+
+        private Candidates(BitSet matchingPatterns, int shapePrunedCount, int matcherPrunedCount) {
+            this.matchingPatterns = matchingPatterns;
+            this.shapePrunedCount = shapePrunedCount;
+            this.matcherPrunedCount = matcherPrunedCount;
+        }
+
+        public List<Map.Entry<String, String>> get(FormatFamily family) {
+            List<Map.Entry<String, String>> candidates = new ArrayList<>();
+            List<Map.Entry<String, String>> formats = formatsByFamily.get(family);
+            List<Integer> patternIds = patternIdsByFamily.get(family);
+            for (int i = 0; i < formats.size(); i++) {
+                int patternId = patternIds.get(i);
+                if (uncompiledPatterns.get(patternId) || matchingPatterns.get(patternId)) {
+                    candidates.add(formats.get(i));
+                }
+            }
+            return candidates;
+        }
+    }
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Node root = newNode(FieldType.LITERAL);
+    private final Map<FormatFamily, List<Map.Entry<String, String>>> formatsByFamily = new EnumMap<>(FormatFamily.class);
+    private final Map<FormatFamily, List<Integer>> patternIdsByFamily = new EnumMap<>(FormatFamily.class);
+    // Patterns with syntax the matcher doesn't model (e.g. optional sections), they are always candidates
+    private final BitSet uncompiledPatterns = new BitSet();
+    private final List<ShapeSignature> signatures = new ArrayList<>();
+    private final BitSet compiledPatterns = new BitSet();
+
+    private static final LongAdder requestCount = new LongAdder();
+    private static final LongAdder candidateCount = new LongAdder();
+    private static final LongAdder shapePrunedCount = new LongAdder();
+    private static final LongAdder matcherPrunedCount = new LongAdder();
+
+    private FormatMatcher(CldrData cldrData) {
+        GregorianCalendar gregorianCalendar = cldrData.getGregorianCalendar();
+
+        Map<String, Integer> patternIds = new HashMap<>();
+        addFamily(FormatFamily.STANDARD_DATE, gregorianCalendar.dateFormats.getAllDateFormatsAsMap(), patternIds);
+        addFamily(FormatFamily.STANDARD_TIME, gregorianCalendar.timeFormats.getAllTimeFormatsAsMap(), patternIds);
+        addFamily(FormatFamily.STANDARD_DATE_TIME, gregorianCalendar.getStandardDateTimeMap(), patternIds);
+        addFamily(FormatFamily.AVAILABLE_FORMATS, gregorianCalendar.dateTimeFormats.availableFormats, patternIds);
+    }
+
+    public static FormatMatcher forCldrData(CldrData cldrData) {
+        return matchers.get(cldrData);
+    }
+
+    // All patterns of the locale, so their formatters can be built before the first request
+    public List<String> getPatterns() {
+        return formatsByFamily.values().stream().flatMap(List::stream).map(Map.Entry::getValue).distinct().toList();
+    }
+
+    /*
+    Rules out the patterns whose shape signature doesn't admit the input, then walks the input through the remaining
+    patterns at once, keeping the set of reachable nodes after each char.
+     */
+    public Candidates match(String input) {
+        ShapeSignature inputSignature = ShapeSignature.ofInput(input);
+        BitSet admittedPatterns = new BitSet();
+        for (int patternId = compiledPatterns.nextSetBit(0); patternId >= 0; patternId = compiledPatterns.nextSetBit(patternId + 1)) {
+            if (signatures.get(patternId).admits(inputSignature)) {
+                admittedPatterns.set(patternId);
+            }
+        }
+
+        BitSet states = new BitSet(nodes.size());
+        states.set(root.id);
+        for (int i = 0; i < input.length() && !states.isEmpty(); i++) {
+            char current = input.charAt(i);
+            BitSet nextStates = new BitSet(nodes.size());
+            for (int id = states.nextSetBit(0); id >= 0; id = states.nextSetBit(id + 1)) {
+                Node node = nodes.get(id);
+                if (node.repeatable == FieldType.TEXT || (node.repeatable == FieldType.NUMERIC && isDigit(current))) {
+                    nextStates.set(id);
+                }
+                if (isAdmitted(node.text, admittedPatterns)) {
+                    nextStates.set(node.text.id);
+                }
+                if (isAdmitted(node.numeric, admittedPatterns) && (isDigit(current) || current == '+' || current == '-')) {
+                    nextStates.set(node.numeric.id);
+                }
+                for (Map.Entry<Character, Node> literal : node.literals.entrySet()) {
+                    if (charEqualsIgnoreCase(current, literal.getKey()) && isAdmitted(literal.getValue(), admittedPatterns)) {
+                        nextStates.set(literal.getValue().id);
+                    }
+                }
+            }
+            states = nextStates;
+        }
+
+        BitSet matchingPatterns = new BitSet();
+        for (int id = states.nextSetBit(0); id >= 0; id = states.nextSetBit(id + 1)) {
+            matchingPatterns.or(nodes.get(id).patterns);
+        }
+        matchingPatterns.and(admittedPatterns);
+
+        int shapePruned = compiledPatterns.cardinality() - admittedPatterns.cardinality();
+        int matcherPruned = admittedPatterns.cardinality() - matchingPatterns.cardinality();
+        requestCount.increment();
+        candidateCount.add(signatures.size());
+        shapePrunedCount.add(shapePruned);
+        matcherPrunedCount.add(matcherPruned);
+
+        return new Candidates(matchingPatterns, shapePruned, matcherPruned);
+    }
+
+    // Counted over the distinct patterns of the locales, across all requests
+    public static PruningStatistics getStatistics() {
+        return new PruningStatistics(requestCount.sum(), candidateCount.sum(), shapePrunedCount.sum(), matcherPrunedCount.sum());
+    }
+
+    private void addFamily(FormatFamily family, Map<String, String> formats, Map<String, Integer> patternIds) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        if (formats != null) {
+            for (Map.Entry<String, String> entry : formats.entrySet()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+                ids.add(patternIds.computeIfAbsent(entry.getValue(), pattern -> addPattern(pattern, patternIds.size())));
+            }
+        }
+        formatsByFamily.put(family, ImmutableList.copyOf(entries));
+        patternIdsByFamily.put(family, ImmutableList.copyOf(ids));
+    }
+
+    private int addPattern(String pattern, int patternId) {
+        List<Object> fields = tokenize(pattern);
+        // The patterns DateTimeFormatter rejects are parsed by ICU, which is not modeled
+        if (fields == null || !isDateTimeFormatterPattern(pattern)) {
+            uncompiledPatterns.set(patternId);
+            signatures.add(null);
+            return patternId;
+        }
+        compiledPatterns.set(patternId);
+        signatures.add(ShapeSignature.ofPattern(fields));
+
+        Node node = root;
+        root.reachablePatterns.set(patternId);
+        for (Object field : fields) {
+            if (field instanceof Character literal) {
+                node = node.literals.computeIfAbsent(literal, key -> newNode(FieldType.LITERAL));
+            } else if (field == FieldType.NUMERIC) {
+                node = node.numeric = node.numeric != null ? node.numeric : newNode(FieldType.NUMERIC);
+            } else {
+                node = node.text = node.text != null ? node.text : newNode(FieldType.TEXT);
+            }
+            node.reachablePatterns.set(patternId);
+        }
+        node.patterns.set(patternId);
+        return patternId;
+    }
+
+    private Node newNode(FieldType repeatable) {
+        Node node = new Node(nodes.size(), repeatable);
+        nodes.add(node);
+        return node;
+    }
+
+    /*
+    Splits a DateTimeFormatter pattern into literal chars and numeric or text fields, the same way
+    DateTimeFormatterBuilder.appendPattern reads it. Returns null for the syntax which is not modeled.
+     */
+    private static List<Object> tokenize(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            return null;
+        }
+
+        List<Object> fields = new ArrayList<>();
+        for (int i = 0; i < pattern.length(); i++) {
+            char current = pattern.charAt(i);
+            if ((current >= 'A' && current <= 'Z') || (current >= 'a' && current <= 'z')) {
+                int count = 1;
+                while (i + 1 < pattern.length() && pattern.charAt(i + 1) == current) {
+                    count++;
+                    i++;
+                }
+                FieldType fieldType;
+                if (NUMERIC_LETTERS.indexOf(current) >= 0) {
+                    fieldType = FieldType.NUMERIC;
+                } else if (NUMERIC_OR_TEXT_LETTERS.indexOf(current) >= 0) {
+                    fieldType = count <= 2 ? FieldType.NUMERIC : FieldType.TEXT;
+                } else if (TEXT_LETTERS.indexOf(current) >= 0) {
+                    fieldType = FieldType.TEXT;
+                } else {
+                    return null;
+                }
+                // Adjacent fields of the same type are matched as one
+                if (fields.isEmpty() || fields.get(fields.size() - 1) != fieldType) {
+                    fields.add(fieldType);
+                }
+            } else if (current == '\'') {
+                // A quoted literal, in which two quotes stand for one quote
+                StringBuilder literal = new StringBuilder();
+                int end = i + 1;
+                for (; end < pattern.length(); end++) {
+                    if (pattern.charAt(end) == '\'') {
+                        if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+                            end++;
+                        } else {
+                            break;
+                        }
+                    }
+                    literal.append(pattern.charAt(end));
+                }
+                if (end >= pattern.length()) {
+                    return null;
+                }
+                if (literal.isEmpty()) {
+                    literal.append('\'');
+                }
+                literal.chars().forEach(c -> fields.add((char) c));
+                i = end;
+            } else if ("[]{}#".indexOf(current) >= 0) {
+                return null;
+            } else {
+                fields.add(current);
+            }
+        }
+        return fields;
+    }
+
+    private static boolean isAdmitted(Node node, BitSet admittedPatterns) {
+        return node != null && node.reachablePatterns.intersects(admittedPatterns);
+    }
+
+    private static boolean isDateTimeFormatterPattern(String pattern) {
+        try {
+            new DateTimeFormatterBuilder().appendPattern(pattern);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Same comparison as the case-insensitive parsing of DateTimeFormatter
+    private static boolean charEqualsIgnoreCase(char first, char second) {
+        return first == second || Character.toUpperCase(first) == Character.toUpperCase(second)
+                || Character.toLowerCase(first) == Character.toLowerCase(second);
+    }
+}
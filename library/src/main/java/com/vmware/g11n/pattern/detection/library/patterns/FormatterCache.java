@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.vmware.g11n.pattern.detection.library.data.CacheStatistics;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/*
+Process-wide, size-bounded cache of the DateTimeFormatters built from the candidate patterns. The same few hundred CLDR
+patterns are validated for every input, so compiling them once per locale and casing saves most of the validation time.
+Patterns rejected by DateTimeFormatter are cached as well (as an empty Optional), so they go straight to the ICU fallback.
+DateTimeFormatter is immutable and thread-safe, so the instances are shared between all requests.
+ */
+public class FormatterCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private static final class FormatterKey {
+        final String pattern;
+        final Locale locale;
+        final boolean caseSensitive;
+
+        FormatterKey(String pattern, Locale locale, boolean caseSensitive) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.caseSensitive = caseSensitive;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof FormatterKey key)) {
+                return false;
+            }
+            return caseSensitive == key.caseSensitive && pattern.equals(key.pattern) && locale.equals(key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pattern, locale, caseSensitive);
+        }
+    }
+
+    private static final LoadingCache<FormatterKey, Optional<DateTimeFormatter>> formatters = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .recordStats()
+            .build(CacheLoader.from(FormatterCache::buildFormatter));
+
+    // Returns the formatter for the pattern, or an empty Optional if DateTimeFormatter doesn't support the pattern
+    public static Optional<DateTimeFormatter> getFormatter(String pattern, Locale locale, boolean caseSensitive) {
+        return formatters.getUnchecked(new FormatterKey(pattern, locale, caseSensitive));
+    }
+
+    // Builds the formatters of the patterns in both casings, so the first validations don't compile them
+    public static void warmUp(Collection<String> patterns, Locale locale) {
+        for (String pattern : patterns) {
+            getFormatter(pattern, locale, false);
+            getFormatter(pattern, locale, true);
+        }
+    }
+
+    public static CacheStatistics getStatistics() {
+        CacheStats stats = formatters.stats();
+        return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.loadCount(), stats.totalLoadTime(), formatters.size());
+    }
+
+    public static void invalidateAll() {
+        formatters.invalidateAll();
+    }
+
+    private static Optional<DateTimeFormatter> buildFormatter(FormatterKey key) {
+        try {
+            return Optional.of(key.caseSensitive
+                    ? DateTimeFormatter.ofPattern(key.pattern, key.locale)
+                    : new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern(key.pattern).toFormatter(key.locale));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.vmware.g11n.pattern.detection.library.data.CacheStatistics;
+import com.vmware.g11n.pattern.detection.library.data.LocalizedStringIndex;
+import com.vmware.g11n.pattern.detection.library.data.PerCldrData;
+import com.vmware.g11n.pattern.detection.library.services.DetectionContext;
+import com.vmware.g11n.pattern.detection.library.utils.InputTokenizer;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidatedPattern;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Per-locale cache of the CLDR patterns detected for the shapes of the inputs. Inputs like 03.11.2022 and 04.10.2021
+ * have the same shape and are detected with the same pattern, so once a pattern was found for a shape, the next inputs
+ * of that shape are only parsed with it. When that parse fails the input goes through all CLDR formats again.
+ * <p>
+ * The shape keeps the width of every digit run and the range of its value, which decides the numeric fields it can be
+ * (month, day, hour, minute, year). Names are replaced by all the symbols they stand for in the locale, ignoring case,
+ * and any other word or char is kept as is. Only patterns detected without errors are cached.
+ */
+public class InputShapeCache {
+
+    private static final long MAXIMUM_SHAPES_PER_LOCALE = 1_000;
+
+    private static final PerCldrData<InputShapeCache> caches = PerCldrData.of(InputShapeCache::new);
+
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+    private static final LongAdder loadCount = new LongAdder();
+
+    private static final class ShapeEntry {
+        final ValidatedPattern pattern;
+        // The suggestions for the pattern itself, the casing is checked again for every input
+        final ImmutableMap<SuggestionsType, String> suggestions;
+
+        ShapeEntry(ValidatedPattern pattern, Map<SuggestionsType, String> suggestions) {
+            this.pattern = pattern;
+            this.suggestions = ImmutableMap.copyOf(suggestions);
+        }
+    }
+
+    private final LocalizedStringIndex localizedStringIndex;
+    private final Cache<String, ShapeEntry> entriesByShape = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SHAPES_PER_LOCALE)
+            .build();
+
+    private InputShapeCache(CldrData cldrData) {
+        this.localizedStringIndex = LocalizedStringIndex.forCldrData(cldrData);
+    }
+
+    public static InputShapeCache forCldrData(CldrData cldrData) {
+        return caches.get(cldrData);
+    }
+
+    /*
+    Returns the cached pattern of the input's shape if the input parses with it, otherwise the pattern of the detection,
+    which is cached for the shape if it was found without errors.
+     */
+    public ValidatedPattern detect(String input, Locale locale, DetectionContext context, Supplier<ValidatedPattern> detection) {
+        String shape = getShape(input);
+        ShapeEntry entry = entriesByShape.getIfPresent(shape);
+        if (entry != null) {
+            // Confirm in a separate context, so a failed parse leaves no errors behind
+            DetectionContext confirmationContext = new DetectionContext();
+            if (PatternValidators.isValidPattern(entry.pattern.pattern, input, locale, entry.pattern.localizedType, confirmationContext)) {
+                hitCount.increment();
+                entry.suggestions.forEach(context::addSuggestion);
+                confirmationContext.getSuggestions().forEach(context::addSuggestion);
+                return entry.pattern.toBuilder().build();
+            }
+        }
+        missCount.increment();
+
+        ValidatedPattern detectedPattern = detection.get();
+        if (!detectedPattern.pattern.isEmpty() && context.getErrors().isEmpty()) {
+            Map<SuggestionsType, String> suggestions = new HashMap<>(context.getSuggestions());
+            suggestions.remove(SuggestionsType.LOCALIZED_DATA);
+            entriesByShape.put(shape, new ShapeEntry(detectedPattern.toBuilder().build(), suggestions));
+            loadCount.increment();
+        }
+        return detectedPattern;
+    }
+
+    String getShape(String input) {
+        StringBuilder shape = new StringBuilder(input.length() + 8);
+        for (InputTokenizer.Token token : InputTokenizer.tokenize(input)) {
+            switch (token.type) {
+                case NUMBER -> appendNumberShape(shape, token.text);
+                case TIME -> {
+                    shape.append('@');
+                    for (String number : token.text.split(":")) {
+                        appendNumberShape(shape, number);
+                        shape.append(':');
+                    }
+                }
+                case WORD, CJK -> {
+                    String patterns = localizedStringIndex.getAllPatterns(token.text);
+                    if (patterns.isEmpty()) {
+                        shape.append('"').append(token.text);
+                    } else {
+                        shape.append('{').append(patterns);
+                    }
+                }
+                default -> shape.append('\'').append(token.text);
+            }
+            // Tokens are kept apart by a char inputs don't contain
+            shape.append('\u0000');
+        }
+        return shape.toString();
+    }
+
+    public static void invalidateAll() {
+        caches.values().forEach(cache -> cache.entriesByShape.invalidateAll());
+    }
+
+    public static CacheStatistics getStatistics() {
+        long size = caches.values().stream().mapToLong(cache -> cache.entriesByShape.size()).sum();
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), loadCount.sum(), 0, size);
+    }
+
+    private static void appendNumberShape(StringBuilder shape, String number) {
+        shape.append('#').append(number.length()).append(getValueRange(number));
+    }
+
+    // The ranges are bounded by the smallest and largest values of the numeric fields
+    private static char getValueRange(String number) {
+        if (number.length() > 4) {
+            return '-';
+        }
+        int value = Integer.parseInt(number);
+        if (number.length() == 4) {
+            return value >= 1000 && value <= 2999 ? 'y' : '-';
+        }
+        if (number.length() == 3) {
+            return value <= 366 ? 'D' : '-';
+        }
+        if (value == 0) {
+            return '0';
+        } else if (value <= 11) {
+            return 'a';
+        } else if (value == 12) {
+            return 'b';
+        } else if (value <= 23) {
+            return 'c';
+        } else if (value == 24) {
+            return 'd';
+        } else if (value <= 31) {
+            return 'e';
+        } else if (value <= 59) {
+            return 'f';
+        }
+        return 'g';
+    }
+}
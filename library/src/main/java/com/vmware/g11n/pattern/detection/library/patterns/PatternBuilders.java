@@ -6,16 +6,25 @@
 package com.vmware.g11n.pattern.detection.library.patterns;
 
 import com.google.common.collect.ImmutableMap;
-import com.vmware.g11n.pattern.detection.library.services.ValidatorService;
+import com.vmware.g11n.pattern.detection.library.services.DetectionContext;
 import com.vmware.g11n.pattern.detection.library.data.CldrMappers;
+import com.vmware.g11n.pattern.detection.library.data.LocalizedStringIndex;
+import com.vmware.g11n.pattern.detection.library.data.PerCldrData;
+import com.vmware.g11n.pattern.detection.library.data.TimezoneNameIndex;
+import com.vmware.g11n.pattern.detection.library.utils.CldrDataRegistry;
+import com.vmware.g11n.pattern.detection.library.utils.InputTokenizer;
+import com.vmware.g11n.pattern.detection.library.utils.InputTokenizer.Token;
+import com.vmware.g11n.pattern.detection.library.utils.InputTokenizer.TokenType;
+import com.vmware.g11n.pattern.detection.library.utils.UserInputProcessors;
 import com.vmware.g11n.pattern.detection.model.CldrData;
 import com.vmware.g11n.pattern.detection.model.dateFields.DateFields;
 import com.vmware.g11n.pattern.detection.model.serviceData.LocalizedType;
 import com.vmware.g11n.pattern.detection.model.serviceData.ValidatedPattern;
-import com.vmware.g11n.pattern.detection.model.timezones.TimezoneNames;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.vmware.g11n.pattern.detection.library.data.CldrMappers.getAllSubsidiaryElements;
 import static com.vmware.g11n.pattern.detection.library.data.CldrMappers.getPatternFromDateField;
@@ -29,6 +38,8 @@ import static com.vmware.g11n.pattern.detection.library.patterns.PatternValidato
 import static com.vmware.g11n.pattern.detection.library.utils.CldrProcessors.*;
 import static com.vmware.g11n.pattern.detection.library.utils.IsoProcessors.detectPatternFromPredefinedIsoFormats;
 import static com.vmware.g11n.pattern.detection.library.utils.Matchers.*;
+import static com.vmware.g11n.pattern.detection.library.utils.UserInputProcessors.foldCase;
+import static com.google.common.base.Strings.emptyToNull;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
@@ -36,7 +47,55 @@ import static org.apache.commons.lang3.StringUtils.chop;
 
 public class PatternBuilders {
 
-    public ValidatedPattern generatePatternFromComponents(LinkedList<String> userInputComponents, Locale locale, CldrData cldrData) {
+    // The detectors tried for a component, in order. The first two and, in most locales, the three word lookups can't
+    // hit the same component, so adaptive ordering may reorder them. Localized names are only used if nothing else hits.
+    private enum ComponentStage {
+        DAY_OF_MONTH, YEAR, CLDR_TIME, ANY_TIME, TIMEZONE, SUBSIDIARY_ELEMENT, RELATIVE_PERIOD, SEPARATOR_VARIANT,
+        LOCALIZED_STRING, ASIAN_WORDS
+    }
+
+    private static final PerCldrData<ComponentDetectors> componentDetectors = PerCldrData.of(ComponentDetectors::new);
+
+    private static final class ComponentDetectors {
+        final DetectorChain<ComponentStage> chain;
+        // Read once instead of for every component
+        final List<String> subsidiaryElements;
+        final List<String> relativePeriods;
+
+        ComponentDetectors(CldrData cldrData) {
+            this.subsidiaryElements = Collections.unmodifiableList(getAllSubsidiaryElements(cldrData));
+            this.relativePeriods = Collections.unmodifiableList(cldrData.getDateFields().getAllDateFieldsValues());
+
+            List<EnumSet<ComponentStage>> exclusiveGroups = new ArrayList<>();
+            exclusiveGroups.add(EnumSet.of(ComponentStage.DAY_OF_MONTH, ComponentStage.YEAR));
+            if (areWordLookupsExclusive(TimezoneNameIndex.forCldrData(cldrData))) {
+                exclusiveGroups.add(EnumSet.of(ComponentStage.TIMEZONE, ComponentStage.SUBSIDIARY_ELEMENT, ComponentStage.RELATIVE_PERIOD));
+            }
+            this.chain = new DetectorChain<>("components", CldrDataRegistry.getLocaleTag(cldrData), ComponentStage.class, exclusiveGroups);
+        }
+
+        /*
+        The subsidiary elements and relative periods are matched ignoring case, so no element may fold to the same string
+        as a relative period, and no casing of either may be a timezone.
+         */
+        private boolean areWordLookupsExclusive(TimezoneNameIndex timezoneNameIndex) {
+            Set<String> foldedSubsidiaryElements = subsidiaryElements.stream()
+                    .map(element -> foldCase(element.replaceAll("'", ""))).collect(Collectors.toSet());
+            if (relativePeriods.stream().filter(Objects::nonNull).map(UserInputProcessors::foldCase).anyMatch(foldedSubsidiaryElements::contains)) {
+                return false;
+            }
+            return Stream.concat(subsidiaryElements.stream().map(element -> element.replaceAll("'", "")), relativePeriods.stream())
+                    .filter(Objects::nonNull)
+                    .noneMatch(timezoneNameIndex::mayMatchIgnoringCase);
+        }
+    }
+
+    // Builds the component detectors of the locale ahead of the first request
+    public static void warmUp(CldrData cldrData) {
+        componentDetectors.get(cldrData);
+    }
+
+    public ValidatedPattern generatePatternFromComponents(LinkedList<String> userInputComponents, Locale locale, CldrData cldrData, DetectionContext context) {
         String expectedFormat = "";
         List<String> unmatchedElements = new LinkedList<>();
 
@@ -49,11 +108,11 @@ public class PatternBuilders {
             String postfix = el.substring(postfixStartIndex) + " ";
 
             // Check each component with manual logic first
-            String patternForElement = processComponentAndGetPattern(cldrData, trimmedInput, locale, false);
+            String patternForElement = processComponentAndGetPattern(cldrData, trimmedInput, locale, false, context);
 
             // If component cannot be detected manually, try to detect it using Standard cldr data
             if (patternForElement.isBlank()) {
-                patternForElement = getValidatedPatternFromCldrFormats(cldrData, trimmedInput, locale).pattern + " ";
+                patternForElement = getValidatedPatternFromCldrFormats(cldrData, trimmedInput, locale, context).pattern + " ";
             }
 
             // Check component against ISO standard data
@@ -72,71 +131,48 @@ public class PatternBuilders {
         }
 
         if (!unmatchedElements.isEmpty()) {
-            ValidatorService.errors.put(UNDETECTED_COMPONENTS, UNDETECTED_COMPONENTS_ERROR + unmatchedElements);
+            context.addError(UNDETECTED_COMPONENTS, UNDETECTED_COMPONENTS_ERROR + unmatchedElements);
             return null;
         }
 
-        return verifyAndBuildPattern(expectedFormat.trim(), join(" ", userInputComponents), locale, cldrData);
+        return verifyAndBuildPattern(expectedFormat.trim(), join(" ", userInputComponents), locale, cldrData, context);
     }
 
-    private String processComponentAndGetPattern(CldrData cldrData, String component, Locale locale, boolean skipCombinedElementsCheck) {
-        String pattern;
-
-        String detectedDayOfMonth = buildDayOfMonthPattern(component);
-        if (!detectedDayOfMonth.isEmpty()) {
-            return detectedDayOfMonth;
-        }
-
-        String detectedYear = buildYearPattern(component);
-        if (!detectedYear.isEmpty()) {
-            return detectedYear;
-        }
-
-        // Check if the current element is valid time format
-        String detectedTimeFromCldr = detectAnyCldrTimePattern(cldrData, component, locale);
-        if (!detectedTimeFromCldr.isBlank()) {
-            return detectedTimeFromCldr;
-        }
-        String detectedNonCldrTime = generatePatternForAnyTimeFormat(cldrData, component);
-        if (!detectedNonCldrTime.isBlank()) {
-            return detectedNonCldrTime;
-        }
-
-        // Check if the current element is valid localized String
-        String patternForOriginalElement = generatePatternForLocalizedString(cldrData, component, false);
-        String patternForChoppedElement = generatePatternForLocalizedString(cldrData, component, true);
-        pattern = patternForOriginalElement.isEmpty() ? patternForChoppedElement : patternForOriginalElement;
-
-        //Detect timezone
-        String matchedTimeZone = detectAndBuildTimeZonePattern(cldrData, component);
-        if (!matchedTimeZone.isEmpty()) {
-            return matchedTimeZone;
-        }
-
-        // Check if current element is subsidiary element - localized element to be ignored. (Example: 'at', 'de', 'г.').
-        String subsidiaryElementPattern = detectSubsidiaryElementAndGetPattern(cldrData, component);
-        if (!subsidiaryElementPattern.isEmpty()) {
-            return subsidiaryElementPattern;
-        }
-
-        // Check if current element is relative period - localized element to be ignored (Example: 'yesterday', 'last friday')
-        String relativePeriod = detectRelativePeriod(cldrData, component);
-        if (!relativePeriod.isEmpty()) {
-            ValidatorService.suggestions.put(RELATIVE_TIME, RELATIVE_TIME_DETECTED_SUGGESTION + relativePeriod);
-            return relativePeriod;
-        }
-
-        String cldrDateWithDifferentCharSeparators = detectStandardCldrDateWithDifferentCharacters(cldrData, component, locale);
-        if (!cldrDateWithDifferentCharSeparators.isEmpty()) {
-            return cldrDateWithDifferentCharSeparators;
-        }
-
-        // Check if the current element is valid asian word with no spacings (could be date, time or localized string)
-        if (ASIAN_LANGUAGES_LIST.contains(locale.getLanguage()) && pattern.isBlank() && !skipCombinedElementsCheck && !component.contains(" ")) {
-            return generatePatternAsianWordsWithNoSpacing(component, cldrData, locale);
-        }
+    private String processComponentAndGetPattern(CldrData cldrData, String component, Locale locale, boolean skipCombinedElementsCheck, DetectionContext context) {
+        // Classify the component by the shape of its tokens instead of matching a regex for each kind of field
+        List<Token> tokens = InputTokenizer.tokenize(component);
+        ComponentDetectors detectors = componentDetectors.get(cldrData);
+
+        String pattern = detectors.chain.detect(stage -> switch (stage) {
+            case DAY_OF_MONTH -> emptyToNull(buildDayOfMonthPattern(tokens));
+            case YEAR -> emptyToNull(buildYearPattern(tokens));
+            // Check if the current element is valid time format
+            case CLDR_TIME -> blankToNull(detectAnyCldrTimePattern(cldrData, component, locale, context));
+            case ANY_TIME -> blankToNull(generatePatternForAnyTimeFormat(cldrData, component, InputTokenizer.containsType(tokens, TokenType.TIME)));
+            case TIMEZONE -> emptyToNull(detectAndBuildTimeZonePattern(cldrData, component));
+            // Check if current element is subsidiary element - localized element to be ignored. (Example: 'at', 'de', 'г.').
+            case SUBSIDIARY_ELEMENT -> emptyToNull(detectSubsidiaryElementAndGetPattern(detectors.subsidiaryElements, component));
+            // Check if current element is relative period - localized element to be ignored (Example: 'yesterday', 'last friday')
+            case RELATIVE_PERIOD -> {
+                String relativePeriod = detectRelativePeriod(detectors.relativePeriods, component);
+                if (!relativePeriod.isEmpty()) {
+                    context.addSuggestion(RELATIVE_TIME, RELATIVE_TIME_DETECTED_SUGGESTION + relativePeriod);
+                }
+                yield emptyToNull(relativePeriod);
+            }
+            case SEPARATOR_VARIANT -> emptyToNull(detectStandardCldrDateWithDifferentCharacters(cldrData, component, locale, context));
+            // Check if the current element is valid localized String
+            case LOCALIZED_STRING -> {
+                String patternForOriginalElement = generatePatternForLocalizedString(cldrData, component, false);
+                yield emptyToNull(patternForOriginalElement.isEmpty() ? generatePatternForLocalizedString(cldrData, component, true) : patternForOriginalElement);
+            }
+            // Check if the current element is valid asian word with no spacings (could be date, time or localized string)
+            case ASIAN_WORDS -> ASIAN_LANGUAGES_LIST.contains(locale.getLanguage()) && !skipCombinedElementsCheck
+                    && tokens.stream().noneMatch(token -> token.is(TokenType.SEPARATOR, " "))
+                    ? generatePatternAsianWordsWithNoSpacing(component, cldrData, locale, context) : null;
+        });
 
-        return pattern;
+        return pattern != null ? pattern : EMPTY;
     }
 
     /**
@@ -145,51 +181,70 @@ public class PatternBuilders {
      * 031 will be matched as ddd (as it has 3 digits)
      */
     public static String buildDayOfMonthPattern(String input) {
-        String matchedGroup = detectDayOfMonthAndGetMatchedGroup(input);
-        if (matchedGroup.isEmpty()) {
+        return buildDayOfMonthPattern(InputTokenizer.tokenize(input));
+    }
+
+    public static String buildYearPattern(String input) {
+        return buildYearPattern(InputTokenizer.tokenize(input));
+    }
+
+    public static String buildMonthPattern(String input) {
+        return buildMonthPattern(InputTokenizer.tokenize(input));
+    }
+
+    private static String buildDayOfMonthPattern(List<Token> tokens) {
+        Token number = InputTokenizer.getNumberWithOptionalPeriod(tokens);
+        if (number == null || number.width() > 4 || number.value < 1 || number.value > 31) {
             return EMPTY;
         }
 
-        int padding = StringUtils.countMatches(matchedGroup, '0');
+        int padding = StringUtils.countMatches(number.text, '0');
         // Cover cases like 021 and 031. to have 2 paddings instead of 1
-        if (padding > 0 && matchedGroup.replaceAll("0", "").matches("^\\d{2}\\.?$")) {
+        if (padding > 0 && number.width() - padding == 2) {
             padding++;
         }
 
-        return matchedGroup.replaceAll("\\d+", PADDING_LEADING_ZEROES_TO_DAY_OF_MONTH_SYMBOLS_MAP.get(padding));
+        return PADDING_LEADING_ZEROES_TO_DAY_OF_MONTH_SYMBOLS_MAP.get(padding) + getTrailingPeriod(tokens);
     }
 
-    public static String buildYearPattern(String input) {
-        String matchedGroup = detectYearAndGetMatchedGroup(input);
-        return matchedGroup.isEmpty() ? EMPTY : matchedGroup.replaceAll("\\d+", YEAR_4_DIGITS);
+    private static String buildYearPattern(List<Token> tokens) {
+        Token number = InputTokenizer.getNumberWithOptionalPeriod(tokens);
+        if (number == null || number.width() != 4 || (number.text.charAt(0) != '1' && number.text.charAt(0) != '2')) {
+            return EMPTY;
+        }
+        return YEAR_4_DIGITS + getTrailingPeriod(tokens);
     }
 
-    public static String buildMonthPattern(String input) {
-        String matchedGroup = detectMonthAndGetMatchedGroup(input);
-        return matchedGroup.isEmpty() ? EMPTY : matchedGroup.replaceAll("\\d+", MONTH_1_DIGIT);
+    private static String buildMonthPattern(List<Token> tokens) {
+        Token number = InputTokenizer.getNumberWithOptionalPeriod(tokens);
+        if (number == null || number.text.charAt(0) == '0' || number.value < 1 || number.value > 12) {
+            return EMPTY;
+        }
+        return MONTH_1_DIGIT + getTrailingPeriod(tokens);
     }
 
-    private static String detectSubsidiaryElementAndGetPattern(CldrData cldrData, String element) {
-        List<String> elementsToBeIgnored = getAllSubsidiaryElements(cldrData);
+    private static String blankToNull(String pattern) {
+        return pattern.isBlank() ? null : pattern;
+    }
+
+    private static String getTrailingPeriod(List<Token> tokens) {
+        return tokens.size() == 2 ? tokens.get(1).text : EMPTY;
+    }
+
+    private static String detectSubsidiaryElementAndGetPattern(List<String> elementsToBeIgnored, String element) {
         return elementsToBeIgnored.stream()
                 .filter(subsidiaryEl -> subsidiaryEl.replaceAll("'", "").equalsIgnoreCase(element))
                 .findFirst().orElse(EMPTY);
     }
 
     private static String generatePatternForLocalizedString(CldrData cldrData, String input, boolean removeTrailingPeriod) {
-        Map<String, List<String>> mappedData = CldrMappers.mapAllDatesData(cldrData);
-
         boolean isInputChopped = false;
         if (input.endsWith(".") && removeTrailingPeriod) {
             input = chop(input);
             isInputChopped = true;
         }
-        String finalInput = input;
 
-        String patternToReturn = mappedData.entrySet().stream().filter(
-                        entry -> entry.getValue().stream().anyMatch(finalInput.trim()::equalsIgnoreCase))
-                .findFirst()
-                .map(entry -> FORMATS_TO_PATTERNS_MAP.get(entry.getKey())).orElse("");
+        String patternToReturn = LocalizedStringIndex.forCldrData(cldrData).getPattern(input);
 
         if (!patternToReturn.isEmpty() && isInputChopped) {
             return patternToReturn + ".";
@@ -198,15 +253,16 @@ public class PatternBuilders {
         }
     }
 
-    private static String generatePatternForAnyTimeFormat(CldrData cldrData, String input) {
+    private static String generatePatternForAnyTimeFormat(CldrData cldrData, String input, boolean containsTime) {
+        // The time regexes can only match digits joined by a colon, which the tokenizer reports as a TIME token
         // Try to match 24hour time format and don't expect dayPeriod before or after
-        String matched24HourTime = getMatchedTimeOrPattern(input, standaloneTimePatternsToRegexMap, false);
+        String matched24HourTime = containsTime ? getMatchedTimeOrPattern(input, standaloneTimePatternsToRegexMap, false) : EMPTY;
         if (input.replace(matched24HourTime, "").isBlank()) {
             return getMatchedTimeOrPattern(input, standaloneTimePatternsToRegexMap, true);
         }
 
         // Try to match 12hour time and expect dayPeriod before or after
-        String matched12HourTime = getMatchedTimeOrPattern(input, formattedTimePatternsToRegexMap, false);
+        String matched12HourTime = containsTime ? getMatchedTimeOrPattern(input, formattedTimePatternsToRegexMap, false) : EMPTY;
         String periodData = input.replace(matched12HourTime, "");
         String[] splitInputArrayByTimeMatched = input.split(matched12HourTime);
 
@@ -216,7 +272,7 @@ public class PatternBuilders {
         String matchedDayPeriodPattern = generatePatternForLocalizedString(cldrData, periodData, false);
 
         if (!matchedDayPeriodPattern.isBlank()) {
-            String matched12HourTimePattern = getMatchedTimeOrPattern(input, formattedTimePatternsToRegexMap, true);
+            String matched12HourTimePattern = containsTime ? getMatchedTimeOrPattern(input, formattedTimePatternsToRegexMap, true) : EMPTY;
             return isTimeBeforeDayPeriod ? matched12HourTimePattern + timeDayPeriodDelimiter + matchedDayPeriodPattern :
                     matchedDayPeriodPattern + timeDayPeriodDelimiter + matched12HourTimePattern;
         }
@@ -224,15 +280,15 @@ public class PatternBuilders {
         return EMPTY;
     }
 
-    private String generatePatternAsianWordsWithNoSpacing(String input, CldrData cldrData, Locale locale) {
+    private String generatePatternAsianWordsWithNoSpacing(String input, CldrData cldrData, Locale locale, DetectionContext context) {
         // To assert correct order without using specific positions, create duplicate of the input which will replace the matched parts
         String patternToReturn = input;
 
         //Check if the input contains localized dayPeriod (for time) or time
         String detectedTime = getAsianTimeSubstring(input, cldrData);
-        String matchedTimePattern = processComponentAndGetPattern(cldrData, detectedTime, locale, true);
+        String matchedTimePattern = processComponentAndGetPattern(cldrData, detectedTime, locale, true, context);
         if (!matchedTimePattern.isBlank()) {
-            patternToReturn = patternToReturn.replace(detectedTime, processComponentAndGetPattern(cldrData, detectedTime, locale, true));
+            patternToReturn = patternToReturn.replace(detectedTime, processComponentAndGetPattern(cldrData, detectedTime, locale, true, context));
             input = input.replace(detectedTime, "");
         }
 
@@ -245,12 +301,12 @@ public class PatternBuilders {
         //Check if the input contains localized string, generate pattern and remove it from the input so logic can proceed with other sub-parts
         String longestLocalizedInputSubstring = getLongestLocalizedSubstring(input, cldrData);
         if (!longestLocalizedInputSubstring.isEmpty()) {
-            patternToReturn = patternToReturn.replace(longestLocalizedInputSubstring, processComponentAndGetPattern(cldrData, longestLocalizedInputSubstring, locale, true));
+            patternToReturn = patternToReturn.replace(longestLocalizedInputSubstring, processComponentAndGetPattern(cldrData, longestLocalizedInputSubstring, locale, true, context));
         }
         input = input.replace(longestLocalizedInputSubstring, "");
 
         //Check the leftover input for any match
-        String detectedLeftoverSubstring = processComponentAndGetPattern(cldrData, input, locale, true);
+        String detectedLeftoverSubstring = processComponentAndGetPattern(cldrData, input, locale, true, context);
         patternToReturn = patternToReturn.replace(input, detectedLeftoverSubstring);
 
         //If the left-over string has not matched anything AND the rest of the input has not been matched, return EMPTY string.
@@ -294,18 +350,12 @@ public class PatternBuilders {
     }
 
     private static String getLongestLocalizedSubstring(String input, CldrData cldrData) {
-        Map<String, List<String>> mappedData = CldrMappers.mapAllDatesData(cldrData);
-
-        // Get list of all matching elements which are NOT a number (For input February2022, we will get list of [Feb, February]
-        List<String> matchedLocalizedElements = new LinkedList<>();
-        mappedData.forEach((key, value) -> matchedLocalizedElements.addAll(value.stream()
-                .filter(el -> (input.contains(el) && !el.matches(".*[0-9].*") && el.length() > 1)).toList()));
-
-        return matchedLocalizedElements.stream().max(Comparator.comparingInt(String::length)).orElse("");
+        // Longest localized element which is NOT a number (For input February2022, we will match Feb and February)
+        return LocalizedStringIndex.forCldrData(cldrData).getLongestContainedName(input);
     }
 
     private static String getAsianTimeSubstring(String input, CldrData cldrData) {
-        String matchedDayPeriod = cldrData.gregorianCalendar.dayPeriods.getAllDayPeriods().stream().filter(input::contains).findFirst().orElse("");
+        String matchedDayPeriod = LocalizedStringIndex.forCldrData(cldrData).getFirstContainedDayPeriod(input);
 
         String matchedTime;
 
@@ -319,26 +369,11 @@ public class PatternBuilders {
     }
 
     private static String detectAndBuildTimeZonePattern(CldrData cldrData, String input) {
-        TimezoneNames timezoneNames = cldrData.getTimezoneNames();
-
-        List<String> detectedTimezones = new ArrayList<>();
-        detectedTimezones.add(detectLongSpecificNonLocationPattern(input, timezoneNames));
-        detectedTimezones.add(detectShortSpecificNonLocationPattern(input, timezoneNames));
-        detectedTimezones.add(detectLongGenericNonLocationPattern(input, timezoneNames));
-        detectedTimezones.add(detectShortGenericNonLocationPattern(input, timezoneNames));
-        detectedTimezones.add(detectBasicHmsPattern(input));
-        detectedTimezones.add(detectExtendedHmsPattern(input));
-        detectedTimezones.add(detectLongLocalizedGmtPattern(input));
-        detectedTimezones.add(detectShortLocalizedGmtPattern(input));
-        detectedTimezones.add(detectTimeZoneExemplarCityPattern(input, timezoneNames));
-        detectedTimezones.add(detectLongTimeZoneIdPattern(input));
-        detectedTimezones.add(detectShortTimeZoneIdPattern(input));
-
-        return detectedTimezones.stream().filter(pattern -> !pattern.isEmpty()).findFirst().orElse("");
+        return TimezoneNameIndex.forCldrData(cldrData).getPattern(input);
     }
 
-    private static String detectRelativePeriod(CldrData cldrData, String input) {
-        return cldrData.dateFields.getAllDateFieldsValues().stream()
+    private static String detectRelativePeriod(List<String> relativePeriods, String input) {
+        return relativePeriods.stream()
                 .filter(input::equalsIgnoreCase).map(s -> "'" + s + "'")
                 .findAny().orElse(EMPTY);
     }
@@ -347,8 +382,8 @@ public class PatternBuilders {
     Some elements are valid dates with correct ordering, but different separators - for example dd.m.y may be standard CLDR format,
     but dd/m/y should still be parsed. This method replaces the standard separators and if match is found, returns a pattern.
      */
-    private static String detectStandardCldrDateWithDifferentCharacters(CldrData cldrData, String input, Locale locale) {
-        String shortStandardCldrDateFormat = cldrData.gregorianCalendar.dateFormats.shortened;
+    private static String detectStandardCldrDateWithDifferentCharacters(CldrData cldrData, String input, Locale locale, DetectionContext context) {
+        String shortStandardCldrDateFormat = cldrData.getGregorianCalendar().dateFormats.shortened;
         List<String> commonSeparatorsChars = new ArrayList<>(List.of(".", "/", ",", "-", "|", "\\"));
         String standardCldrDataSeparatorChar = detectDateCharacterSeparatorAndGetMatchedGroup(shortStandardCldrDateFormat);
 
@@ -356,8 +391,8 @@ public class PatternBuilders {
 
         for (String separator : commonSeparatorsChars) {
             String changedSeparatorCldrDateFormat = shortStandardCldrDateFormat.replace(standardCldrDataSeparatorChar, separator);
-            if (isValidPattern(changedSeparatorCldrDateFormat, input, locale, LocalizedType.DATE)) {
-                ValidatorService.suggestions.put(INCORRECT_FORMAT_SEPARATOR, format(INCORRECT_FORMAT_SEPARATOR_SUGGESTION, input, standardCldrDataSeparatorChar));
+            if (isValidPattern(changedSeparatorCldrDateFormat, input, locale, LocalizedType.DATE, context)) {
+                context.addSuggestion(INCORRECT_FORMAT_SEPARATOR, format(INCORRECT_FORMAT_SEPARATOR_SUGGESTION, input, standardCldrDataSeparatorChar));
                 return changedSeparatorCldrDateFormat;
             }
         }
@@ -6,138 +6,160 @@
 package com.vmware.g11n.pattern.detection.library.patterns;
 
 import com.ibm.icu.text.SimpleDateFormat;
-import com.vmware.g11n.pattern.detection.library.services.ValidatorService;
+import com.vmware.g11n.pattern.detection.library.services.DetectionContext;
+import com.vmware.g11n.pattern.detection.library.utils.ParseProbe;
 import com.vmware.g11n.pattern.detection.model.CldrData;
 import com.vmware.g11n.pattern.detection.model.serviceData.LocalizedType;
 import com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType;
 import com.vmware.g11n.pattern.detection.model.serviceData.ValidatedPattern;
 import org.threeten.extra.YearQuarter;
 
-import java.text.ParseException;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.*;
 import static com.vmware.g11n.pattern.detection.model.serviceData.ErrorsType.INCORRECT_DATE;
 import static com.vmware.g11n.pattern.detection.model.serviceData.LocalizedType.*;
 import static com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType.*;
-import static java.util.Objects.requireNonNull;
 
 public class PatternValidators {
 
-    public static boolean isValidPattern(String pattern, String value, Locale locale, LocalizedType type) {
-
-        switch (type) {
-            case TEMPORAL -> {
-                boolean caseSensitiveMatch = parseInputToFormat(YearQuarter.class, locale, value, pattern, true);
-                boolean caseInsensitiveMatch = parseInputToFormat(YearQuarter.class, locale, value, pattern, false);
-
-                addSuggestionIfIncorrectCasing(caseSensitiveMatch, caseInsensitiveMatch);
-
-                return caseSensitiveMatch || caseInsensitiveMatch;
-            }
-            case DATE -> {
-                boolean caseSensitiveMatch = parseInputToFormat(LocalDate.class, locale, value, pattern, true);
-                boolean caseInsensitiveMatch = parseInputToFormat(LocalDate.class, locale, value, pattern, false);
-
-                addSuggestionIfIncorrectCasing(caseSensitiveMatch, caseInsensitiveMatch);
-                return caseSensitiveMatch || caseInsensitiveMatch;
-            }
-            case TIME -> {
-                boolean caseSensitiveMatch = parseInputToFormat(LocalTime.class, locale, value, pattern, true);
-                boolean caseInsensitiveMatch = parseInputToFormat(LocalTime.class, locale, value, pattern, false);
-
-                addSuggestionIfIncorrectCasing(caseSensitiveMatch, caseInsensitiveMatch);
-                return caseSensitiveMatch || caseInsensitiveMatch;
-            }
-            case DATE_TIME -> {
-                boolean caseSensitiveMatch = parseInputToFormat(ZonedDateTime.class, locale, value, pattern, true)
-                        || parseInputToFormat(LocalDateTime.class, locale, value, pattern, true);
-                boolean caseInsensitiveMatch = parseInputToFormat(ZonedDateTime.class, locale, value, pattern, false)
-                        || parseInputToFormat(LocalDateTime.class, locale, value, pattern, false);
-
-                boolean simpleDateFormatMatch = parseInputToFormat(SimpleDateFormat.class, locale, value, pattern, false);
+    private static final Pattern WORD = Pattern.compile("\\p{L}+");
+
+    public static boolean isValidPattern(String pattern, String value, Locale locale, LocalizedType type, DetectionContext context) {
+        List<Class<?>> possibleFormatTypes = switch (type) {
+            case TEMPORAL -> List.of(YearQuarter.class);
+            case DATE -> List.of(LocalDate.class);
+            case TIME -> List.of(LocalTime.class);
+            case DATE_TIME -> List.of(ZonedDateTime.class, LocalDateTime.class);
+            default -> List.of();
+        };
+        if (possibleFormatTypes.isEmpty()) {
+            return false;
+        }
 
-                // Don't check simpleDateFormatMatch for casing as it doesn't provide ability for case matching.
-                addSuggestionIfIncorrectCasing(caseSensitiveMatch, caseInsensitiveMatch);
+        Optional<DateTimeFormatter> caseInsensitiveFormatter = FormatterCache.getFormatter(pattern, locale, false);
+        if (caseInsensitiveFormatter.isEmpty()) {
+            // Fall back to ICU for the patterns DateTimeFormatter doesn't support. It doesn't provide ability for case matching.
+            return ParseProbe.probe(new SimpleDateFormat(pattern, locale), value).parsed;
+        }
 
-                return caseSensitiveMatch || caseInsensitiveMatch || simpleDateFormatMatch;
+        // Parse once ignoring case, the casing is checked afterwards on the parsed value
+        for (Class<?> possibleFormatType : possibleFormatTypes) {
+            TemporalAccessor parsed = parseInputToFormat(possibleFormatType, caseInsensitiveFormatter.get(), value, context);
+            if (parsed != null) {
+                DateTimeFormatter caseSensitiveFormatter = FormatterCache.getFormatter(pattern, locale, true).orElseThrow();
+                addSuggestionIfIncorrectCasing(isCaseMatched(possibleFormatTypes, caseSensitiveFormatter, value, parsed, context), true, context);
+                return true;
             }
         }
 
         return false;
     }
 
-    public static ValidatedPattern verifyAndBuildPattern(String pattern, String input, Locale locale, CldrData cldrData) {
-        if (isValidPattern(pattern, input, locale, DATE_TIME)) {
-            ValidatorService.suggestions.put(NON_STANDARD_DATE_TIME, NON_STANDARD_DATE_TIME_SUGGESTION + cldrData.gregorianCalendar.getStandardDateTimeMapToString());
+    public static ValidatedPattern verifyAndBuildPattern(String pattern, String input, Locale locale, CldrData cldrData, DetectionContext context) {
+        if (isValidPattern(pattern, input, locale, DATE_TIME, context)) {
+            context.addSuggestion(NON_STANDARD_DATE_TIME, NON_STANDARD_DATE_TIME_SUGGESTION + cldrData.getGregorianCalendar().getStandardDateTimeMapToString());
             return ValidatedPattern.builder().pattern(pattern).patternInfoMessage(VALID_NON_STANDARD_DATE_TIME_MESSAGE).localizedType(DATE_TIME).isValidDate(true).build();
-        } else if (isValidPattern(pattern, input, locale, DATE)) {
-            ValidatorService.suggestions.put(NON_STANDARD_DATE, NON_STANDARD_DATE_SUGGESTION + cldrData.gregorianCalendar.dateFormats.toString());
+        } else if (isValidPattern(pattern, input, locale, DATE, context)) {
+            context.addSuggestion(NON_STANDARD_DATE, NON_STANDARD_DATE_SUGGESTION + cldrData.getGregorianCalendar().dateFormats.toString());
             return ValidatedPattern.builder().pattern(pattern).patternInfoMessage(VALID_NON_STANDARD_DATE_MESSAGE).localizedType(DATE).isValidDate(true).build();
-        } else if (isValidPattern(pattern, input, locale, TIME)) {
-            ValidatorService.suggestions.put(NON_STANDARD_TIME, NON_STANDARD_TIME_SUGGESTION + " " + cldrData.gregorianCalendar.timeFormats.toString());
+        } else if (isValidPattern(pattern, input, locale, TIME, context)) {
+            context.addSuggestion(NON_STANDARD_TIME, NON_STANDARD_TIME_SUGGESTION + " " + cldrData.getGregorianCalendar().timeFormats.toString());
             return ValidatedPattern.builder().pattern(pattern).patternInfoMessage(VALID_NON_STANDARD_TIME_MESSAGE).localizedType(TIME).isValidDate(false).build();
-        } else if (isValidPattern(pattern, input, locale, TEMPORAL)) {
+        } else if (isValidPattern(pattern, input, locale, TEMPORAL, context)) {
             return ValidatedPattern.builder().pattern(pattern).patternInfoMessage(VALID_TEMPORAL_MESSAGE).isValidDate(false).build();
         } else {
             return ValidatedPattern.builder().pattern(pattern).localizedType(INVALID_TEMPORAL).patternInfoMessage(INVALID_TEMPORAL_OR_DATE_MESSAGE).isValidDate(false).build();
         }
     }
 
-    private static <T> boolean parseInputToFormat(Class<T> possibleFormatType, Locale locale, String value, String pattern, boolean caseSensitive) {
-        DateTimeFormatter formatterCaseSensitive;
-        DateTimeFormatter formatterCaseInsensitive;
-        DateTimeFormatter formatter = null;
-
-        try {
-            formatterCaseSensitive = DateTimeFormatter.ofPattern(pattern, locale);
-            formatterCaseInsensitive = new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern(pattern).toFormatter(locale);
-            formatter = caseSensitive ? formatterCaseSensitive : formatterCaseInsensitive;
-        } catch (Exception e) {
-            SimpleDateFormat format = new SimpleDateFormat(pattern, locale);
-            try {
-                return !format.parse(value).toString().isEmpty();
-
-            } catch (ParseException ignored) {
-            }
+    /*
+    Returns the parsed fields if the input matches the pattern as the given type, null otherwise. The type checks are the
+    same as parsing the input directly to the type.
+     */
+    private static TemporalAccessor parseInputToFormat(Class<?> possibleFormatType, DateTimeFormatter formatter, String value, DetectionContext context) {
+        // Rule out the non-matching candidates without paying for a DateTimeParseException
+        if (!ParseProbe.probe(formatter, value).parsed) {
+            return null;
         }
 
         try {
+            TemporalAccessor parsed = formatter.parse(value);
             if (possibleFormatType == LocalDateTime.class) {
-                return !LocalDateTime.parse(value, requireNonNull(formatter)).toString().isEmpty();
+                return !LocalDateTime.from(parsed).toString().isEmpty() ? parsed : null;
             }
             if (possibleFormatType == LocalDate.class) {
-                return LocalDate.parse(value, requireNonNull(formatter)).format(formatter).equalsIgnoreCase(value);
+                return LocalDate.from(parsed).format(formatter).equalsIgnoreCase(value) ? parsed : null;
             }
             if (possibleFormatType == LocalTime.class) {
-                return !LocalTime.parse(value, requireNonNull(formatter)).toString().isEmpty(); // Cannot compare as the DateTimeFormatter is not full
+                return !LocalTime.from(parsed).toString().isEmpty() ? parsed : null; // Cannot compare as the DateTimeFormatter is not full
             }
             if (possibleFormatType == YearQuarter.class) {
-                return YearQuarter.parse(value, requireNonNull(formatter)).format(formatter).equalsIgnoreCase(value);
+                return YearQuarter.from(parsed).format(formatter).equalsIgnoreCase(value) ? parsed : null;
             }
             if (possibleFormatType == ZonedDateTime.class) {
-                return !ZonedDateTime.parse(value, requireNonNull(formatter)).getZone().getId().isEmpty();
+                return !ZonedDateTime.from(parsed).getZone().getId().isEmpty() ? parsed : null;
             }
         } catch (DateTimeParseException e) {
             if (e.getMessage().contains("Conflict found")) {
-                ValidatorService.errors.put(INCORRECT_DATE, "Incorrect date/time. " + e.getCause().getMessage());
+                context.addError(INCORRECT_DATE, "Incorrect date/time. " + e.getCause().getMessage());
                 //throw new CustomErrorException("Incorrect date. " + e.getCause().getMessage(), HttpStatus.BAD_REQUEST);
             }
         } catch (Exception ignored) {
         }
-        return false;
+        return null;
+    }
+
+    /*
+    Checks if the input would also be parsed case-sensitively. An input without cased letters parses the same way in
+    both modes. Otherwise the words of the input are compared with the words of the parsed value formatted back with
+    the CLDR strings. Only if they don't correspond (e.g. another timezone name was used) the input is parsed again.
+     */
+    private static boolean isCaseMatched(List<Class<?>> possibleFormatTypes, DateTimeFormatter caseSensitiveFormatter, String value, TemporalAccessor parsed,
+                                         DetectionContext context) {
+        if (value.codePoints().noneMatch(codePoint -> Character.toUpperCase(codePoint) != codePoint || Character.toLowerCase(codePoint) != codePoint)) {
+            return true;
+        }
+
+        try {
+            List<String> inputWords = getWords(value);
+            List<String> cldrWords = getWords(caseSensitiveFormatter.format(parsed));
+            if (inputWords.size() == cldrWords.size()
+                    && IntStream.range(0, inputWords.size()).allMatch(i -> inputWords.get(i).equalsIgnoreCase(cldrWords.get(i)))) {
+                return inputWords.equals(cldrWords);
+            }
+        } catch (DateTimeException ignored) {
+        }
+
+        return possibleFormatTypes.stream().anyMatch(possibleFormatType -> parseInputToFormat(possibleFormatType, caseSensitiveFormatter, value, context) != null);
+    }
+
+    private static List<String> getWords(String text) {
+        List<String> words = new ArrayList<>();
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            words.add(matcher.group());
+        }
+        return words;
     }
 
-    private static void addSuggestionIfIncorrectCasing(boolean caseSensitiveMatch, boolean caseInsensitiveMatch) {
+    private static void addSuggestionIfIncorrectCasing(boolean caseSensitiveMatch, boolean caseInsensitiveMatch, DetectionContext context) {
         if (caseSensitiveMatch ^ caseInsensitiveMatch) {
-            ValidatorService.suggestions.put(SuggestionsType.LOCALIZED_DATA, INCORRECT_CASING_SUGGESTION);
+            context.addSuggestion(SuggestionsType.LOCALIZED_DATA, INCORRECT_CASING_SUGGESTION);
         }
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import java.util.List;
+
+/*
+Coarse shape of a pattern or an input, compared before any matching: the caseless literal chars a pattern needs (e.g.
+':', '/', '年'), whether it has a numeric field, and the minimal length of a matching input. The chars are kept in a
+64 bit set, so two chars may share a bit and the comparison can only rule out inputs which can't match.
+ */
+class ShapeSignature {
+
+    private final long charBits;
+    private final boolean digits;
+    private final int length;
+
+    private ShapeSignature(long charBits, boolean digits, int length) {
+        this.charBits = charBits;
+        this.digits = digits;
+        this.length = length;
+    }
+
+    // The fields are the literal chars and field types of a tokenized pattern, each field matching at least one char
+    static ShapeSignature ofPattern(List<Object> fields) {
+        long charBits = 0;
+        boolean digits = false;
+        int length = 0;
+        for (Object field : fields) {
+            if (field instanceof Character literal && isCaseless(literal)) {
+                charBits |= bit(literal);
+            }
+            digits |= field == FormatMatcher.FieldType.NUMERIC;
+            length++;
+        }
+        return new ShapeSignature(charBits, digits, length);
+    }
+
+    /*
+    The case-insensitive parsing also matches a literal with a char whose upper or lower case is that literal, so these
+    are added for every char of the input.
+     */
+    static ShapeSignature ofInput(String input) {
+        long charBits = 0;
+        boolean digits = false;
+        for (int i = 0; i < input.length(); i++) {
+            char current = input.charAt(i);
+            charBits |= bit(current) | bit(Character.toUpperCase(current)) | bit(Character.toLowerCase(current));
+            digits |= current >= '0' && current <= '9';
+        }
+        return new ShapeSignature(charBits, digits, input.length());
+    }
+
+    // Whether an input with the given signature may match the pattern with this signature
+    boolean admits(ShapeSignature input) {
+        return (charBits & ~input.charBits) == 0 && (!digits || input.digits) && length <= input.length;
+    }
+
+    private static boolean isCaseless(char c) {
+        return Character.toUpperCase(c) == c && Character.toLowerCase(c) == c;
+    }
+
+    private static long bit(char c) {
+        return 1L << ((c * 0x9E3779B9) >>> 26);
+    }
+}
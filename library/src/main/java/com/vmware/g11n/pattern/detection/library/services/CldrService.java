@@ -5,6 +5,7 @@
 
 package com.vmware.g11n.pattern.detection.library.services;
 
+import com.vmware.g11n.pattern.detection.library.utils.CldrDataRegistry;
 import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.DateFormats;
 import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.TimeFormats;
 import org.yaml.snakeyaml.Yaml;
@@ -26,28 +27,38 @@ public class CldrService {
                 .getResourceAsStream("cldr-data.yml"));
     }
 
+    // Locales of the CLDR version in use, which differ from the bundled ones after a version was loaded at runtime
     public List<String> getSupportedLocales() {
+        return CldrDataRegistry.getSupportedLocales();
+    }
+
+    public String getCldrVersion() {
+        return CldrDataRegistry.getCldrVersion();
+    }
+
+    // Locales of the CLDR data packaged with the library, as listed in cldr-data.yml
+    public List<String> getBundledSupportedLocales() {
         String[] supportedLocales = String.valueOf(yamlConfigs.get("locales")).split(", ");
         return Arrays.stream(supportedLocales).toList();
     }
 
-    public String getCldrVersion() {
+    public String getBundledCldrVersion() {
         return String.valueOf(yamlConfigs.get("cldr-version"));
     }
 
     public TimeFormats getStandardCldrTimePatterns(String locale) {
         Locale providedLocale = verifyAndLoadLocale(locale);
-        return loadCldrData(providedLocale).gregorianCalendar.timeFormats;
+        return loadCldrData(providedLocale).getGregorianCalendar().timeFormats;
     }
 
     public DateFormats getStandardCldrDatePatterns(String locale) {
         Locale providedLocale = verifyAndLoadLocale(locale);
-        return loadCldrData(providedLocale).gregorianCalendar.dateFormats;
+        return loadCldrData(providedLocale).getGregorianCalendar().dateFormats;
     }
 
     public Map<String, String> getStandardCldrDateTimePatterns(String locale) {
         Locale providedLocale = verifyAndLoadLocale(locale);
-        return loadCldrData(providedLocale).gregorianCalendar.getStandardDateTimeMap();
+        return loadCldrData(providedLocale).getGregorianCalendar().getStandardDateTimeMap();
     }
 
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionCon
 import static com.vmware.g11n.pattern.detection.model.serviceData.LocalizedType.INVALID_TEMPORAL;
 import static com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType.ASIAN_TO_NON_ASIAN_INPUTS_CONVERSION;
 import static com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType.NON_CONVERTABLE_COMPONENTS;
+import static com.vmware.g11n.pattern.detection.library.utils.UserInputProcessors.trimInput;
 import static com.vmware.g11n.pattern.detection.library.utils.UserInputProcessors.verifyAndLoadLocale;
 import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.util.Arrays.asList;
@@ -39,6 +40,13 @@ public class ConvertorService {
     }
 
     public ConversionResult convertLocalizeInput(String input, String sourceLocale, String targetLocale) {
+        // The target locale is only verified by the conversion, so a non-convertible input is still reported first
+        String sourceLanguageTag = verifyAndLoadLocale(sourceLocale).toLanguageTag();
+        return ResultCache.getConversionResult(trimInput(input), sourceLanguageTag, targetLocale,
+                () -> convert(input, sourceLocale, targetLocale));
+    }
+
+    private ConversionResult convert(String input, String sourceLocale, String targetLocale) {
         // Get the pattern and validation response for the source input. Verify if it's eligible for convert (full date and no errors)
         ValidationResult sourceInputValidation = validatorService.validateInput(input, sourceLocale);
         verifyInputEligibleForConvert(sourceInputValidation);
@@ -59,11 +67,11 @@ public class ConvertorService {
 
     private void verifyInputEligibleForConvert(ValidationResult sourceInputValidation) {
         if (isNull(sourceInputValidation.detectedPattern)) {
-            throw new DateTimePatternDetectionException(NON_CONVERTABLE_INPUT);
+            throw new DateTimePatternDetectionException(NON_CONVERTABLE_INPUT, sourceInputValidation.errors);
         }
 
         if (!sourceInputValidation.detectedPattern.isValidDate && sourceInputValidation.detectedPattern.localizedType.equals(INVALID_TEMPORAL)) {
-            throw new DateTimePatternDetectionException(NON_CONVERTABLE_INPUT);
+            throw new DateTimePatternDetectionException(NON_CONVERTABLE_INPUT, sourceInputValidation.errors);
         }
     }
 
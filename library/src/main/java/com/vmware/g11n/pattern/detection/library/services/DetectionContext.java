@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.services;
+
+import com.vmware.g11n.pattern.detection.model.serviceData.ErrorsType;
+import com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+Suggestions and errors collected while validating one input. Every validation creates its own context and passes it
+down the detection pipeline, so validations running at the same time on different threads don't share any state.
+A context is not thread-safe itself: it belongs to the one thread validating its input.
+ */
+public class DetectionContext {
+
+    private final Map<SuggestionsType, String> suggestions = new HashMap<>();
+    private final Map<ErrorsType, String> errors = new HashMap<>();
+
+    public void addSuggestion(SuggestionsType type, String suggestion) {
+        suggestions.put(type, suggestion);
+    }
+
+    public void addError(ErrorsType type, String error) {
+        errors.put(type, error);
+    }
+
+    public Map<SuggestionsType, String> getSuggestions() {
+        Map<SuggestionsType, String> suggestionsToReturn = new HashMap<>(suggestions);
+
+        // Remove suggestions for non-standard date/time if suggestion for dateTime is present.
+        if (suggestionsToReturn.containsKey(SuggestionsType.NON_STANDARD_DATE_TIME)) {
+            suggestionsToReturn.remove(SuggestionsType.NON_STANDARD_TIME);
+            suggestionsToReturn.remove(SuggestionsType.NON_STANDARD_DATE);
+        }
+
+        return suggestionsToReturn;
+    }
+
+    public Map<ErrorsType, String> getErrors() {
+        return new HashMap<>(errors);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.services;
+
+import com.vmware.g11n.pattern.detection.model.serviceData.LocalizedType;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidatedPattern;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+
+/*
+How well an input matches a locale, from best to worst: a standard CLDR or ISO format, a non-standard date or time,
+any other temporal pattern and a pattern which isn't valid as any of them.
+ */
+enum LocaleMatch {
+    STANDARD, NON_STANDARD, TEMPORAL, INVALID;
+
+    static LocaleMatch of(ValidationResult result) {
+        ValidatedPattern pattern = result.detectedPattern;
+        if (pattern == null || pattern.localizedType == LocalizedType.INVALID_TEMPORAL) {
+            return INVALID;
+        }
+        if (pattern.isStandardFormat) {
+            return STANDARD;
+        }
+        if (pattern.localizedType == LocalizedType.DATE || pattern.localizedType == LocalizedType.TIME
+                || pattern.localizedType == LocalizedType.DATE_TIME) {
+            return NON_STANDARD;
+        }
+        return TEMPORAL;
+    }
+}
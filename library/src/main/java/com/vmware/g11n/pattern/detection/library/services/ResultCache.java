@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import com.vmware.g11n.pattern.detection.library.data.CacheStatistics;
+import com.vmware.g11n.pattern.detection.library.utils.CldrDataRegistry;
+import com.vmware.g11n.pattern.detection.model.serviceData.ConversionResult;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidatedPattern;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/*
+Optional process-wide cache of the validation and conversion results, keyed by the trimmed input, the locales and the
+CLDR version in use. Disabled until enable is called. Entries expire a fixed time after they were written, which also
+bounds how long a converted time, formatted on the current date, is served.
+
+Caffeine admits a new result into a full cache only when its key was looked up more often than the key it would evict
+(Window TinyLFU), so a stream of one-off inputs doesn't flush the inputs that recur all the time.
+
+The cached results are frozen snapshots with immutable maps, and every lookup returns a copy of the snapshot, so the
+callers can't change each other's results through the public fields of the model classes.
+ */
+public class ResultCache {
+
+    // Null while the cache is disabled
+    private static volatile Caches caches;
+
+    private static final class ResultKey {
+        final String input;
+        final String sourceLocale;
+        final String targetLocale;
+        final String cldrVersion;
+
+        ResultKey(String input, String sourceLocale, String targetLocale, String cldrVersion) {
+            this.input = input;
+            this.sourceLocale = sourceLocale;
+            this.targetLocale = targetLocale;
+            this.cldrVersion = cldrVersion;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ResultKey key)) {
+                return false;
+            }
+            return input.equals(key.input) && sourceLocale.equals(key.sourceLocale)
+                    && Objects.equals(targetLocale, key.targetLocale) && cldrVersion.equals(key.cldrVersion);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(input, sourceLocale, targetLocale, cldrVersion);
+        }
+    }
+
+    public static void enable(long maximumSize, Duration expireAfterWrite) {
+        if (maximumSize <= 0 || expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("The result cache needs a positive size and expiry");
+        }
+        caches = new Caches(maximumSize, expireAfterWrite);
+    }
+
+    public static void disable() {
+        caches = null;
+    }
+
+    public static boolean isEnabled() {
+        return caches != null;
+    }
+
+    public static void invalidateAll() {
+        Caches current = caches;
+        if (current != null) {
+            current.validations.invalidateAll();
+            current.conversions.invalidateAll();
+        }
+    }
+
+    public static CacheStatistics getValidationStatistics() {
+        Caches current = caches;
+        return current == null ? new CacheStatistics(0, 0, 0, 0, 0) : getStatistics(current.validations);
+    }
+
+    public static CacheStatistics getConversionStatistics() {
+        Caches current = caches;
+        return current == null ? new CacheStatistics(0, 0, 0, 0, 0) : getStatistics(current.conversions);
+    }
+
+    static ValidationResult getValidationResult(String trimmedInput, String locale, Supplier<ValidationResult> validation) {
+        Caches current = caches;
+        if (current == null) {
+            return validation.get();
+        }
+        ResultKey key = new ResultKey(trimmedInput, locale, null, CldrDataRegistry.getCldrVersion());
+        return copyOf(get(current.validations, key, () -> freeze(validation.get())));
+    }
+
+    static ConversionResult getConversionResult(String trimmedInput, String sourceLocale, String targetLocale,
+                                                Supplier<ConversionResult> conversion) {
+        Caches current = caches;
+        if (current == null) {
+            return conversion.get();
+        }
+        ResultKey key = new ResultKey(trimmedInput, sourceLocale, targetLocale, CldrDataRegistry.getCldrVersion());
+        return copyOf(get(current.conversions, key, () -> freeze(conversion.get())));
+    }
+
+    private static final class Caches {
+        final Cache<ResultKey, ValidationResult> validations;
+        final Cache<ResultKey, ConversionResult> conversions;
+
+        Caches(long maximumSize, Duration expireAfterWrite) {
+            validations = newCache(maximumSize, expireAfterWrite);
+            conversions = newCache(maximumSize, expireAfterWrite);
+        }
+    }
+
+    /*
+    The maintenance (recording the lookups in the frequency sketch and evicting) runs on the calling threads, one at a
+    time and without blocking the others. On a background executor, a burst of lookups overflows the read buffers
+    before they are drained, and the recurring keys would be counted less often than they are looked up.
+     */
+    private static <V> Cache<ResultKey, V> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder().executor(Runnable::run).maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).recordStats().build();
+    }
+
+    private static <V> V get(Cache<ResultKey, V> cache, ResultKey key, Supplier<V> loader) {
+        return cache.get(key, missingKey -> loader.get());
+    }
+
+    // Runs the pending evictions first, so the size doesn't include entries already on their way out
+    private static CacheStatistics getStatistics(Cache<ResultKey, ?> cache) {
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.loadCount(), stats.totalLoadTime(), cache.estimatedSize());
+    }
+
+    private static ValidationResult freeze(ValidationResult result) {
+        return result.toBuilder()
+                .detectedPattern(copyOf(result.detectedPattern))
+                .suggestions(immutableCopyOf(result.suggestions))
+                .errors(immutableCopyOf(result.errors))
+                .build();
+    }
+
+    private static ConversionResult freeze(ConversionResult result) {
+        return result.toBuilder()
+                .sourcePattern(copyOf(result.sourcePattern))
+                .targetPattern(copyOf(result.targetPattern))
+                .conversionSuggestions(immutableCopyOf(result.conversionSuggestions))
+                .conversionErrors(immutableCopyOf(result.conversionErrors))
+                .build();
+    }
+
+    // The maps of a frozen result are immutable and can be shared, the result and pattern objects can't
+    private static ValidationResult copyOf(ValidationResult result) {
+        return result.toBuilder().detectedPattern(copyOf(result.detectedPattern)).build();
+    }
+
+    private static ConversionResult copyOf(ConversionResult result) {
+        return result.toBuilder()
+                .sourcePattern(copyOf(result.sourcePattern))
+                .targetPattern(copyOf(result.targetPattern))
+                .build();
+    }
+
+    private static ValidatedPattern copyOf(ValidatedPattern pattern) {
+        return pattern == null ? null : pattern.toBuilder().build();
+    }
+
+    private static <K, V> Map<K, V> immutableCopyOf(Map<K, V> map) {
+        return map == null ? null : ImmutableMap.copyOf(map);
+    }
+}
@@ -5,13 +5,27 @@
 
 package com.vmware.g11n.pattern.detection.library.services;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.vmware.g11n.pattern.detection.library.data.LocaleScriptIndex;
+import com.vmware.g11n.pattern.detection.library.data.LocaleTokenIndex;
+import com.vmware.g11n.pattern.detection.library.exceptions.DateTimePatternDetectionException;
+import com.vmware.g11n.pattern.detection.library.patterns.InputShapeCache;
 import com.vmware.g11n.pattern.detection.library.patterns.PatternBuilders;
 import com.vmware.g11n.pattern.detection.model.CldrData;
 import com.vmware.g11n.pattern.detection.model.serviceData.*;
 
+import java.lang.Character.UnicodeScript;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static com.vmware.g11n.pattern.detection.library.data.Builders.buildValidationResult;
+import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.INTERRUPTED_VALIDATION_ERROR;
+import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.INVALID_MAXIMUM_RESULTS_ERROR;
 import static com.vmware.g11n.pattern.detection.library.utils.CldrProcessors.getValidatedPatternFromCldrFormats;
 import static com.vmware.g11n.pattern.detection.library.utils.IsoProcessors.detectPatternFromPredefinedIsoFormats;
 import static com.vmware.g11n.pattern.detection.library.utils.ResourceLoaders.loadCldrData;
@@ -19,10 +33,17 @@ import static com.vmware.g11n.pattern.detection.library.utils.UserInputProcessor
 
 public class ValidatorService {
 
-    String[] supportedLocales;
+    /*
+    Shared by all validations of an input in every locale. The queue is bounded, so under load the callers run their
+    locales themselves instead of queueing without limit.
+     */
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private static final ExecutorService localeExecutor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM,
+            60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(256),
+            new ThreadFactoryBuilder().setNameFormat("locale-validation-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
 
-    public static Map<SuggestionsType, String> suggestions = new HashMap<>();
-    public static Map<ErrorsType, String> errors = new HashMap<>();
     private PatternBuilders patternBuilders;
 
     public ValidatorService() {
@@ -34,45 +55,121 @@ public class ValidatorService {
         Locale providedLocale = verifyAndLoadLocale(locale);
 
         // Trim the input if needed
-        input = trimInput(input);
+        String trimmedInput = trimInput(input);
+
+        // Repeated inputs are served from the result cache when it's enabled
+        return ResultCache.getValidationResult(trimmedInput, providedLocale.toLanguageTag(),
+                () -> validateTrimmedInput(trimmedInput, providedLocale));
+    }
 
+    private ValidationResult validateTrimmedInput(String input, Locale providedLocale) {
         // Load the needed CLDR data
         CldrData cldrData = loadCldrData(providedLocale);
 
-        // Try to match the input as a whole to a CLDR pattern
-        ValidatedPattern detectedPattern = getValidatedPatternFromCldrFormats(cldrData, input, providedLocale);
+        // Suggestions and errors of this validation only
+        DetectionContext context = new DetectionContext();
+
+        // Try to match the input as a whole to a CLDR pattern, inputs shaped like an earlier one are only parsed with its pattern
+        ValidatedPattern detectedPattern = InputShapeCache.forCldrData(cldrData).detect(input, providedLocale, context,
+                () -> getValidatedPatternFromCldrFormats(cldrData, input, providedLocale, context));
         if (!detectedPattern.pattern.isEmpty()) {
             return buildValidationResult(input, providedLocale.getDisplayName(), true, detectedPattern)
-                    .toBuilder().suggestions(generateSuggestions()).errors(getErrors()).build();
+                    .toBuilder().suggestions(context.getSuggestions()).errors(context.getErrors()).build();
         }
 
         // Try to match the input as a whole to ISO locale-independent patterns
         detectedPattern = detectPatternFromPredefinedIsoFormats(input);
         if (!detectedPattern.pattern.isEmpty()) {
             return buildValidationResult(input, providedLocale.getDisplayName(), true, detectedPattern)
-                    .toBuilder().suggestions(generateSuggestions()).errors(getErrors()).build();
+                    .toBuilder().suggestions(context.getSuggestions()).errors(context.getErrors()).build();
         }
 
         // Split the input to components and modify the user input if needed
         LinkedList<String> listOfDateElements = splitInputString(input, cldrData);
 
         // Generate pattern by traversing each component and mapping it to a skeleton pattern
-        ValidatedPattern generatedPattern = patternBuilders.generatePatternFromComponents(listOfDateElements, providedLocale, cldrData);
+        ValidatedPattern generatedPattern = patternBuilders.generatePatternFromComponents(listOfDateElements, providedLocale, cldrData, context);
         return buildValidationResult(input, providedLocale.getDisplayName(), generatedPattern != null, generatedPattern)
-                .toBuilder().suggestions(generateSuggestions()).errors(getErrors()).build();
+                .toBuilder().suggestions(context.getSuggestions()).errors(context.getErrors()).build();
     }
 
     public List<ValidationResult> validateInput(String input) {
+        // Collected in the order of the supported locales
+        return validateConcurrently(input, getPotentialLocales(input)).stream()
+                .filter(responseForCurrentLocale -> responseForCurrentLocale.isLocalizedContent)
+                .toList();
+    }
+
+    /*
+    Returns the best maximumResults locales of the input, ranked by how well the input matches them. The locales are
+    validated in batches until enough of them matched a standard format. The locales left out can't rank higher than
+    those, only as high. There are no usage based priors: the locales are validated, and the ones of the same rank
+    returned, in the order of the supported locales in cldr-data.yml, so an input always gets the same results and
+    reordering that list changes the priority.
+     */
+    public List<ValidationResult> validateInput(String input, int maximumResults) {
+        if (maximumResults <= 0) {
+            throw new DateTimePatternDetectionException(INVALID_MAXIMUM_RESULTS_ERROR);
+        }
+
+        List<String> potentialLocales = getPotentialLocales(input);
         List<ValidationResult> responseList = new ArrayList<>();
+        int standardMatches = 0;
+        for (int start = 0; start < potentialLocales.size() && standardMatches < maximumResults; start += PARALLELISM) {
+            List<String> batch = potentialLocales.subList(start, Math.min(start + PARALLELISM, potentialLocales.size()));
+            for (ValidationResult responseForCurrentLocale : validateConcurrently(input, batch)) {
+                if (responseForCurrentLocale.isLocalizedContent) {
+                    responseList.add(responseForCurrentLocale);
+                    if (LocaleMatch.of(responseForCurrentLocale) == LocaleMatch.STANDARD) {
+                        standardMatches++;
+                    }
+                }
+            }
+        }
+
+        // Stable, so the locales of the same rank keep the supported order
+        responseList.sort(Comparator.comparing(LocaleMatch::of));
+        return responseList.subList(0, Math.min(maximumResults, responseList.size()));
+    }
+
+    // Only the locales having all words of the input (e.g. März) and using the scripts of its letters are validated
+    private static List<String> getPotentialLocales(String input) {
+        Set<UnicodeScript> inputScripts = LocaleScriptIndex.getDistinctiveScripts(input);
+        return LocaleTokenIndex.forSupportedLocales().getCandidateLocales(input).stream()
+                .filter(locale -> inputScripts.isEmpty() || LocaleScriptIndex.forLocale(verifyAndLoadLocale(locale)).usesAll(inputScripts))
+                .toList();
+    }
+
+    // Returns the results of all locales, in their order
+    private List<ValidationResult> validateConcurrently(String input, List<String> locales) {
+        List<Future<ValidationResult>> responses = new ArrayList<>();
+        try {
+            for (String potentialLocale : locales) {
+                responses.add(localeExecutor.submit(() -> validateInput(input, potentialLocale)));
+            }
 
-        for (String potentialLocale : supportedLocales) {
-            ValidationResult responseForCurrentLocale = validateInput(input, potentialLocale);
-            if (responseForCurrentLocale.isLocalizedContent) {
-                responseList.add(responseForCurrentLocale);
+            List<ValidationResult> responseList = new ArrayList<>();
+            for (Future<ValidationResult> response : responses) {
+                responseList.add(getResponse(response));
             }
+            return responseList;
+        } finally {
+            responses.forEach(response -> response.cancel(true));
         }
+    }
 
-        return responseList;
+    private static ValidationResult getResponse(Future<ValidationResult> response) {
+        try {
+            return response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DateTimePatternDetectionException(INTERRUPTED_VALIDATION_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
     public List<ValidationResult> bulkValidateLocalizedInput(List<BatchValidationRequest> batchValidationRequests) {
@@ -86,23 +183,4 @@ public class ValidatorService {
 
         return validationResults;
     }
-
-    private Map<SuggestionsType, String> generateSuggestions() {
-        Map<SuggestionsType, String> suggestionsToReturn = new HashMap<>(suggestions);
-
-        // Remove suggestions for non-standard date/time if suggestion for dateTime is present.
-        if (suggestionsToReturn.containsKey(SuggestionsType.NON_STANDARD_DATE_TIME)) {
-            suggestionsToReturn.remove(SuggestionsType.NON_STANDARD_TIME);
-            suggestionsToReturn.remove(SuggestionsType.NON_STANDARD_DATE);
-        }
-
-        suggestions.clear();
-        return suggestionsToReturn;
-    }
-
-    public static Map<ErrorsType, String> getErrors() {
-        Map<ErrorsType, String> errorsToReturn = new HashMap<>(errors);
-        errors.clear();
-        return errorsToReturn;
-    }
-}
\ No newline at end of file
+}
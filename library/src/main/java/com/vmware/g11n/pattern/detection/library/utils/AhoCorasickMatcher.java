@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/*
+Aho-Corasick automaton over a fixed list of strings. Finds which of them are contained in an input with one pass over
+its chars, instead of calling input.contains for each of them. Matching is done on chars, exactly like String.contains.
+Instances are immutable after construction and can be shared between threads.
+ */
+public class AhoCorasickMatcher {
+
+    private static class Node {
+        final Map<Character, Node> transitions = new HashMap<>();
+        Node failure;
+        // Indexes of the strings ending in this node, including the ones reachable through the failure links
+        BitSet matches = new BitSet();
+    }
+
+    private final Node root = new Node();
+    private final BitSet emptyStrings = new BitSet();
+
+    public AhoCorasickMatcher(List<String> strings) {
+        for (int i = 0; i < strings.size(); i++) {
+            String string = strings.get(i);
+            if (string == null) {
+                continue;
+            }
+            if (string.isEmpty()) {
+                // Every input contains the empty string
+                emptyStrings.set(i);
+                continue;
+            }
+
+            Node node = root;
+            for (int j = 0; j < string.length(); j++) {
+                node = node.transitions.computeIfAbsent(string.charAt(j), key -> new Node());
+            }
+            node.matches.set(i);
+        }
+
+        // Breadth-first, so the failure target of a node is always complete before the node itself
+        Queue<Node> queue = new ArrayDeque<>();
+        root.failure = root;
+        for (Node child : root.transitions.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Map.Entry<Character, Node> transition : node.transitions.entrySet()) {
+                Node child = transition.getValue();
+                Node failure = node.failure;
+                while (failure != root && !failure.transitions.containsKey(transition.getKey())) {
+                    failure = failure.failure;
+                }
+                Node failureTarget = failure.transitions.get(transition.getKey());
+                child.failure = failureTarget != null && failureTarget != child ? failureTarget : root;
+                child.matches.or(child.failure.matches);
+                queue.add(child);
+            }
+        }
+    }
+
+    // Returns the indexes of all strings contained in the input
+    public BitSet findContained(String input) {
+        BitSet contained = (BitSet) emptyStrings.clone();
+        Node node = root;
+        for (int i = 0; i < input.length(); i++) {
+            char current = input.charAt(i);
+            Node next = node.transitions.get(current);
+            while (next == null && node != root) {
+                node = node.failure;
+                next = node.transitions.get(current);
+            }
+            node = next != null ? next : root;
+            contained.or(node.matches);
+        }
+        return contained;
+    }
+}
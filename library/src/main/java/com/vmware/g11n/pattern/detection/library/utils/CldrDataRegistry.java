@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.google.common.collect.MapMaker;
+import com.vmware.g11n.pattern.detection.library.data.CacheStatistics;
+import com.vmware.g11n.pattern.detection.library.data.CldrDataset;
+import com.vmware.g11n.pattern.detection.library.data.LocaleScriptIndex;
+import com.vmware.g11n.pattern.detection.library.data.LocaleTokenIndex;
+import com.vmware.g11n.pattern.detection.library.data.LocalizedStringIndex;
+import com.vmware.g11n.pattern.detection.library.data.PhraseTrie;
+import com.vmware.g11n.pattern.detection.library.data.TimezoneNameIndex;
+import com.vmware.g11n.pattern.detection.library.exceptions.DateTimePatternDetectionException;
+import com.vmware.g11n.pattern.detection.library.patterns.FormatMatcher;
+import com.vmware.g11n.pattern.detection.library.patterns.FormatterCache;
+import com.vmware.g11n.pattern.detection.library.patterns.InputShapeCache;
+import com.vmware.g11n.pattern.detection.library.patterns.PatternBuilders;
+import com.vmware.g11n.pattern.detection.library.services.CldrService;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.NOT_SUPPORTED_LOCALE_ERROR;
+
+/*
+Process-wide registry of the parsed CLDR data. Every locale is read from the resources at most once and the same
+CldrData instance is then handed out to all callers, so the returned objects are shared and must be treated as read-only.
+
+Another CLDR version can be activated at runtime with loadCldrVersion. The new dataset is read and warmed up completely
+before it replaces the current one with a single volatile write. Requests hold on to the CldrData they started with,
+so the ones in flight during the swap finish on the previous version.
+ */
+public class CldrDataRegistry {
+
+    private static final Map<Locale, CldrData> cldrDataByLocale = new ConcurrentHashMap<>();
+
+    // The locale every CldrData handed out was read for, by identity, of the bundled data and all datasets
+    private static final Map<CldrData, Locale> localeByCldrData = new MapMaker().weakKeys().makeMap();
+
+    // Null while the CLDR data bundled with the library is used
+    private static volatile CldrDataset activeDataset;
+
+    // Read from cldr-data.yml on first use, it's part of the result cache keys
+    private static volatile String bundledCldrVersion;
+
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+    private static final LongAdder loadCount = new LongAdder();
+    private static final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    public static CldrData getCldrData(Locale locale) {
+        CldrDataset dataset = activeDataset;
+        if (dataset != null) {
+            CldrData cldrData = dataset.cldrDataByLocale.get(locale);
+            if (cldrData == null) {
+                throw new DateTimePatternDetectionException(NOT_SUPPORTED_LOCALE_ERROR);
+            }
+            hitCount.increment();
+            return cldrData;
+        }
+
+        CldrData cldrData = cldrDataByLocale.get(locale);
+        if (cldrData != null) {
+            hitCount.increment();
+            return cldrData;
+        }
+
+        // Unsupported locales throw from the loader and are therefore never stored
+        return cldrDataByLocale.computeIfAbsent(locale, CldrDataRegistry::readCldrData);
+    }
+
+    public static String getCldrVersion() {
+        CldrDataset dataset = activeDataset;
+        if (dataset != null) {
+            return dataset.cldrVersion;
+        }
+        String cldrVersion = bundledCldrVersion;
+        if (cldrVersion == null) {
+            cldrVersion = new CldrService().getBundledCldrVersion();
+            bundledCldrVersion = cldrVersion;
+        }
+        return cldrVersion;
+    }
+
+    // Null while the CLDR data bundled with the library is used
+    public static CldrDataset getActiveDataset() {
+        return activeDataset;
+    }
+
+    // The locale tag the data was read for, which labels the per-locale statistics; und for data not read by the registry
+    public static String getLocaleTag(CldrData cldrData) {
+        return localeByCldrData.getOrDefault(cldrData, Locale.ROOT).toLanguageTag();
+    }
+
+    public static List<String> getSupportedLocales() {
+        CldrDataset dataset = activeDataset;
+        return dataset != null ? dataset.getSupportedLocales() : new CldrService().getBundledSupportedLocales();
+    }
+
+    /*
+    Eagerly loads all supported locales including their lazy sections and builds every per-locale index, formatter and
+    detector chain, so the first requests don't pay for them.
+     */
+    public static void warmUp() {
+        getSupportedLocales().stream().map(Locale::forLanguageTag).forEach(locale -> warmUp(locale, getCldrData(locale)));
+        LocaleTokenIndex.forSupportedLocales();
+    }
+
+    /*
+    Reads the given locales from a local CLDR JSON zip, warms them up on the calling thread and only then makes them
+    the active dataset. On failure the current dataset stays active.
+     */
+    public static CldrDataset loadCldrVersion(Path cldrJsonZip, String cldrVersion, List<String> locales) throws IOException {
+        CldrDataset dataset = CldrResourceGenerator.readCldrZip(cldrJsonZip, cldrVersion, locales);
+        register(dataset);
+        dataset.cldrDataByLocale.forEach(CldrDataRegistry::warmUp);
+        LocaleTokenIndex.forDataset(dataset);
+        activate(dataset);
+        return dataset;
+    }
+
+    public static void activate(CldrDataset dataset) {
+        register(dataset);
+        activeDataset = dataset;
+        cldrDataByLocale.clear();
+    }
+
+    // Drops the cached data and any dataset activated at runtime, so the bundled resources are read again
+    public static void invalidateAll() {
+        activeDataset = null;
+        bundledCldrVersion = null;
+        cldrDataByLocale.clear();
+    }
+
+    public static CacheStatistics getStatistics() {
+        CldrDataset dataset = activeDataset;
+        long size = dataset != null ? dataset.cldrDataByLocale.size() : cldrDataByLocale.size();
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), loadCount.sum(), totalLoadTimeNanos.sum(), size);
+    }
+
+    private static void register(CldrDataset dataset) {
+        dataset.cldrDataByLocale.forEach((locale, cldrData) -> localeByCldrData.put(cldrData, locale));
+    }
+
+    private static void warmUp(Locale locale, CldrData cldrData) {
+        LocaleScriptIndex.forLocale(locale);
+        cldrData.getDateFields();
+        cldrData.getTimezoneNames();
+        LocalizedStringIndex.forCldrData(cldrData);
+        TimezoneNameIndex.forCldrData(cldrData);
+        PhraseTrie.forCldrData(cldrData);
+        FormatterCache.warmUp(FormatMatcher.forCldrData(cldrData).getPatterns(), locale);
+        InputShapeCache.forCldrData(cldrData);
+        PatternBuilders.warmUp(cldrData);
+        CldrProcessors.warmUp(cldrData);
+    }
+
+    private static CldrData readCldrData(Locale locale) {
+        missCount.increment();
+        long start = System.nanoTime();
+
+        CldrData cldrData = ResourceLoaders.readCldrData(locale);
+
+        totalLoadTimeNanos.add(System.nanoTime() - start);
+        loadCount.increment();
+        localeByCldrData.put(cldrData, locale);
+        return cldrData;
+    }
+}
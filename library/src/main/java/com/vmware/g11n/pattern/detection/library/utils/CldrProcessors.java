@@ -5,20 +5,19 @@
 
 package com.vmware.g11n.pattern.detection.library.utils;
 
+import com.vmware.g11n.pattern.detection.library.data.PerCldrData;
+import com.vmware.g11n.pattern.detection.library.patterns.DetectorChain;
+import com.vmware.g11n.pattern.detection.library.patterns.FormatMatcher;
 import com.vmware.g11n.pattern.detection.library.patterns.PatternValidators;
-import com.vmware.g11n.pattern.detection.library.services.ValidatorService;
+import com.vmware.g11n.pattern.detection.library.services.DetectionContext;
 import com.vmware.g11n.pattern.detection.model.CldrData;
 import com.vmware.g11n.pattern.detection.model.serviceData.LocalizedType;
 import com.vmware.g11n.pattern.detection.model.serviceData.ValidatedPattern;
-import com.vmware.g11n.pattern.detection.model.timezones.SubZone;
-import com.vmware.g11n.pattern.detection.model.timezones.TimezoneNames;
 
-import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Stream;
 
 import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.*;
-import static com.vmware.g11n.pattern.detection.library.data.DateFieldSymbols.*;
+import static com.vmware.g11n.pattern.detection.library.patterns.FormatMatcher.FormatFamily.*;
 import static com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType.NON_STANDARD_DATE;
 import static com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType.NON_STANDARD_TIME;
 import static java.util.Objects.nonNull;
@@ -26,46 +25,39 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 public class CldrProcessors {
 
-    // Try to match the input from any CLDR full pattern
-    public static ValidatedPattern getValidatedPatternFromCldrFormats(CldrData cldrData, String input, Locale locale) {
-        ValidatedPattern validatedPattern = detectStandardDateCldrPattern(cldrData, input, locale);
-        if (nonNull(validatedPattern)) {
-            return validatedPattern;
-        }
-
-        validatedPattern = detectStandardTimeCldrPattern(cldrData, input, locale);
-        if (nonNull(validatedPattern)) {
-            return validatedPattern;
-        }
+    // The kinds of CLDR formats, in the order they are tried. Their order decides the result, so they are never reordered
+    private enum CldrFormatStage {
+        STANDARD_DATE, STANDARD_TIME, STANDARD_DATE_TIME, NON_STANDARD_DATE, NON_STANDARD_TIME, ANY_TEMPORAL
+    }
 
-        validatedPattern = detectStandardDateTimeCldrPattern(cldrData, input, locale);
-        if (nonNull(validatedPattern)) {
-            return validatedPattern;
-        }
+    private static final PerCldrData<DetectorChain<CldrFormatStage>> chains = PerCldrData.of(
+            cldrData -> new DetectorChain<>("cldr-formats", CldrDataRegistry.getLocaleTag(cldrData), CldrFormatStage.class, List.of()));
 
-        validatedPattern = detectNonStandardDateCldrPattern(cldrData, input, locale);
-        if (nonNull(validatedPattern)) {
-            return validatedPattern;
-        }
-
-        validatedPattern = detectNonStandardTimeCldrPattern(cldrData, input, locale);
-        if (nonNull(validatedPattern)) {
-            return validatedPattern;
-        }
+    // Try to match the input from any CLDR full pattern
+    public static ValidatedPattern getValidatedPatternFromCldrFormats(CldrData cldrData, String input, Locale locale, DetectionContext context) {
+        // Walk the input once through all formats of the locale, so only the candidates which can match are parsed
+        FormatMatcher.Candidates candidates = FormatMatcher.forCldrData(cldrData).match(input);
 
-        validatedPattern = detectAnyTemporalCldrPattern(cldrData, input, locale);
-        if (nonNull(validatedPattern)) {
-            return validatedPattern;
-        }
+        ValidatedPattern validatedPattern = chains.get(cldrData).detect(stage -> switch (stage) {
+            case STANDARD_DATE -> detectStandardDateCldrPattern(candidates, input, locale, context);
+            case STANDARD_TIME -> detectStandardTimeCldrPattern(candidates, input, locale, context);
+            case STANDARD_DATE_TIME -> detectStandardDateTimeCldrPattern(candidates, input, locale, context);
+            case NON_STANDARD_DATE -> detectNonStandardDateCldrPattern(cldrData, candidates, input, locale, context);
+            case NON_STANDARD_TIME -> detectNonStandardTimeCldrPattern(cldrData, candidates, input, locale, context);
+            case ANY_TEMPORAL -> detectAnyTemporalCldrPattern(candidates, input, locale, context);
+        });
 
-        return ValidatedPattern.builder().pattern(EMPTY).build();
+        return nonNull(validatedPattern) ? validatedPattern : ValidatedPattern.builder().pattern(EMPTY).build();
     }
 
-    private static ValidatedPattern detectStandardDateCldrPattern(CldrData cldrData, String input, Locale locale) {
-        Map<String, String> standardDateFormats = new LinkedHashMap<>(cldrData.gregorianCalendar.dateFormats.getAllDateFormatsAsMap());
+    // Builds the chain of the locale ahead of the first request
+    public static void warmUp(CldrData cldrData) {
+        chains.get(cldrData);
+    }
 
-        for (Map.Entry<String, String> entry : standardDateFormats.entrySet()) {
-            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.DATE)) {
+    private static ValidatedPattern detectStandardDateCldrPattern(FormatMatcher.Candidates candidates, String input, Locale locale, DetectionContext context) {
+        for (Map.Entry<String, String> entry : candidates.get(STANDARD_DATE)) {
+            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.DATE, context)) {
                 return ValidatedPattern.builder().pattern(entry.getValue()).localizedType(LocalizedType.DATE).cldrDataKeyName(entry.getKey())
                         .isStandardFormat(true).isValidDate(true).patternInfoMessage(VALID_STANDARD_DATE_MESSAGE).build();
             }
@@ -73,12 +65,11 @@ public class CldrProcessors {
         return null;
     }
 
-    private static ValidatedPattern detectNonStandardDateCldrPattern(CldrData cldrData, String input, Locale locale) {
-        Map<String, String> availableFormats = new LinkedHashMap<>(cldrData.gregorianCalendar.dateTimeFormats.availableFormats);
-        for (Map.Entry<String, String> entry : availableFormats.entrySet()) {
-            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.DATE)) {
-                ValidatorService.suggestions.put(NON_STANDARD_DATE, NON_STANDARD_DATE_SUGGESTION
-                        + " Standard date formats: " + cldrData.gregorianCalendar.dateFormats.getAllDateFormatsAsMap().values());
+    private static ValidatedPattern detectNonStandardDateCldrPattern(CldrData cldrData, FormatMatcher.Candidates candidates, String input, Locale locale, DetectionContext context) {
+        for (Map.Entry<String, String> entry : candidates.get(AVAILABLE_FORMATS)) {
+            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.DATE, context)) {
+                context.addSuggestion(NON_STANDARD_DATE, NON_STANDARD_DATE_SUGGESTION
+                        + " Standard date formats: " + cldrData.getGregorianCalendar().dateFormats.getAllDateFormatsAsMap().values());
                 return ValidatedPattern.builder().pattern(entry.getValue()).localizedType(LocalizedType.DATE).cldrDataKeyName(entry.getKey())
                         .isStandardFormat(false).isValidDate(true).patternInfoMessage(VALID_NON_STANDARD_DATE_MESSAGE).build();
             }
@@ -86,9 +77,9 @@ public class CldrProcessors {
         return null;
     }
 
-    private static ValidatedPattern detectAnyTemporalCldrPattern(CldrData cldrData, String input, Locale locale) {
-        for (Map.Entry<String, String> entry : cldrData.gregorianCalendar.dateTimeFormats.availableFormats.entrySet()) {
-            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.TEMPORAL)) {
+    private static ValidatedPattern detectAnyTemporalCldrPattern(FormatMatcher.Candidates candidates, String input, Locale locale, DetectionContext context) {
+        for (Map.Entry<String, String> entry : candidates.get(AVAILABLE_FORMATS)) {
+            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.TEMPORAL, context)) {
                 return ValidatedPattern.builder().pattern(entry.getValue()).localizedType(LocalizedType.TEMPORAL).cldrDataKeyName(entry.getKey())
                         .isStandardFormat(false).isValidDate(false).patternInfoMessage(VALID_TEMPORAL_MESSAGE).build();
             }
@@ -96,11 +87,9 @@ public class CldrProcessors {
         return null;
     }
 
-    private static ValidatedPattern detectStandardDateTimeCldrPattern(CldrData cldrData, String input, Locale locale) {
-        Map<String, String> standardDateTimeFormats = new LinkedHashMap<>(cldrData.gregorianCalendar.getStandardDateTimeMap());
-
-        for (Map.Entry<String, String> entry : standardDateTimeFormats.entrySet()) {
-            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.DATE_TIME)) {
+    private static ValidatedPattern detectStandardDateTimeCldrPattern(FormatMatcher.Candidates candidates, String input, Locale locale, DetectionContext context) {
+        for (Map.Entry<String, String> entry : candidates.get(STANDARD_DATE_TIME)) {
+            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.DATE_TIME, context)) {
                 return ValidatedPattern.builder().pattern(entry.getValue()).localizedType(LocalizedType.DATE_TIME).cldrDataKeyName(entry.getKey())
                         .isStandardFormat(true).isValidDate(true).patternInfoMessage(VALID_STANDARD_DATE_TIME_MESSAGE).build();
             }
@@ -108,11 +97,9 @@ public class CldrProcessors {
         return null;
     }
 
-    private static ValidatedPattern detectStandardTimeCldrPattern(CldrData cldrData, String input, Locale locale) {
-        Map<String, String> standardTimeFormats = new LinkedHashMap<>(cldrData.gregorianCalendar.timeFormats.getAllTimeFormatsAsMap());
-
-        for (Map.Entry<String, String> entry : standardTimeFormats.entrySet()) {
-            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.TIME)) {
+    private static ValidatedPattern detectStandardTimeCldrPattern(FormatMatcher.Candidates candidates, String input, Locale locale, DetectionContext context) {
+        for (Map.Entry<String, String> entry : candidates.get(STANDARD_TIME)) {
+            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.TIME, context)) {
                 return ValidatedPattern.builder().pattern(entry.getValue()).localizedType(LocalizedType.TIME).cldrDataKeyName(entry.getKey())
                         .isStandardFormat(true).isValidDate(false).patternInfoMessage(VALID_STANDARD_TIME_MESSAGE).build();
             }
@@ -120,12 +107,11 @@ public class CldrProcessors {
         return null;
     }
 
-    private static ValidatedPattern detectNonStandardTimeCldrPattern(CldrData cldrData, String input, Locale locale) {
-        Map<String, String> availableFormats = new LinkedHashMap<>(cldrData.gregorianCalendar.dateTimeFormats.availableFormats);
-        for (Map.Entry<String, String> entry : availableFormats.entrySet()) {
-            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.TIME)) {
-                ValidatorService.suggestions.put(NON_STANDARD_TIME, NON_STANDARD_TIME_SUGGESTION + " " +
-                        cldrData.gregorianCalendar.timeFormats.toString());
+    private static ValidatedPattern detectNonStandardTimeCldrPattern(CldrData cldrData, FormatMatcher.Candidates candidates, String input, Locale locale, DetectionContext context) {
+        for (Map.Entry<String, String> entry : candidates.get(AVAILABLE_FORMATS)) {
+            if (PatternValidators.isValidPattern(entry.getValue(), input, locale, LocalizedType.TIME, context)) {
+                context.addSuggestion(NON_STANDARD_TIME, NON_STANDARD_TIME_SUGGESTION + " " +
+                        cldrData.getGregorianCalendar().timeFormats.toString());
                 return ValidatedPattern.builder().pattern(entry.getValue()).localizedType(LocalizedType.TIME).cldrDataKeyName(entry.getKey())
                         .isStandardFormat(false).isValidDate(false).patternInfoMessage(VALID_NON_STANDARD_TIME_MESSAGE).build();
             }
@@ -134,136 +120,14 @@ public class CldrProcessors {
     }
 
     //TODO: Revisit
-    public static String detectAnyCldrTimePattern(CldrData cldrData, String el, Locale locale) {
-        ValidatedPattern patternForDetectedStandardTime = detectStandardTimeCldrPattern(cldrData, el, locale);
-        ValidatedPattern patternForDetectedNonStandardTime = detectStandardTimeCldrPattern(cldrData, el, locale);
+    public static String detectAnyCldrTimePattern(CldrData cldrData, String el, Locale locale, DetectionContext context) {
+        FormatMatcher.Candidates candidates = FormatMatcher.forCldrData(cldrData).match(el);
+        ValidatedPattern patternForDetectedStandardTime = detectStandardTimeCldrPattern(candidates, el, locale, context);
+        ValidatedPattern patternForDetectedNonStandardTime = detectStandardTimeCldrPattern(candidates, el, locale, context);
 
         String detectedStandardTime = nonNull(patternForDetectedStandardTime) ? patternForDetectedStandardTime.pattern : EMPTY;
         String detectedNonStandardTime = nonNull(patternForDetectedNonStandardTime) ? patternForDetectedNonStandardTime.pattern : EMPTY;
 
         return detectedStandardTime.isEmpty() ? detectedNonStandardTime : detectedStandardTime;
     }
-
-    public static String detectShortTimeZoneIdPattern(String input) {
-        return ZoneId.SHORT_IDS.keySet().stream().anyMatch(input::equalsIgnoreCase) ? SHORT_TIME_ZONE_ID_SYMBOL : EMPTY;
-    }
-
-    public static String detectLongTimeZoneIdPattern(String input) {
-        Set<String> longTimeZoneIds = ZoneId.getAvailableZoneIds();
-        longTimeZoneIds.removeAll(ZoneId.SHORT_IDS.keySet());
-
-        return longTimeZoneIds.stream().anyMatch(input::equalsIgnoreCase) ? LONG_TIME_ZONE_ID_SYMBOL : EMPTY;
-    }
-
-    public static String detectTimeZoneExemplarCityPattern(String input, TimezoneNames zones) {
-        List<String> exemplarCities = zones.getZones().values().stream()
-                .flatMap(zone -> zone.values().stream())
-                .map(SubZone::getExemplarCity).toList();
-
-        return exemplarCities.stream()
-                .filter(Objects::nonNull)
-                .anyMatch(input::equalsIgnoreCase) ? TIME_ZONE_EXEMPLAR_CITY_SYMBOL : EMPTY;
-    }
-
-    public static String detectLongGenericNonLocationPattern(String input, TimezoneNames zones) {
-        return zones.getMetazone().values().stream()
-                .filter(longMetaZones -> nonNull(longMetaZones.getLongMetaZone()))
-                .map(metaZone -> metaZone.getLongMetaZone().getGeneric())
-                .toList()
-                .stream()
-                .filter(Objects::nonNull)
-                .anyMatch(input::equalsIgnoreCase) ? LONG_GENERIC_NON_LOCATION_TIME_ZONE_SYMBOL : EMPTY;
-    }
-
-    public static String detectShortGenericNonLocationPattern(String input, TimezoneNames zones) {
-        return zones.getMetazone().values().stream()
-                .filter(shortMetaZones -> nonNull(shortMetaZones.getShortMetaZone()))
-                .map(metaZone -> metaZone.getShortMetaZone().getGeneric())
-                .toList()
-                .stream()
-                .filter(Objects::nonNull)
-                .anyMatch(input::equals) ? SHORT_GENERIC_NON_LOCATION_TIME_ZONE_SYMBOL : EMPTY; // We have equals here as 'AT' is valid zone and 'at' is subsidiary element
-    }
-
-    public static String detectLongSpecificNonLocationPattern(String input, TimezoneNames zones) {
-        return zones.getMetazone().values().stream()
-                .filter(longMetaZones -> nonNull(longMetaZones.getLongMetaZone()))
-                .flatMap(metaZone -> Stream.of(metaZone.getLongMetaZone().getDaylight(), metaZone.getLongMetaZone().getStandard()))
-                .toList()
-                .stream()
-                .filter(Objects::nonNull)
-                .anyMatch(input::equalsIgnoreCase) ? LONG_SPECIFIC_NON_LOCATION_TIME_ZONE_SYMBOL : EMPTY;
-    }
-
-    public static String detectShortSpecificNonLocationPattern(String input, TimezoneNames zones) {
-        return zones.getMetazone().values().stream()
-                .filter(shortMetaZones -> nonNull(shortMetaZones.getShortMetaZone()))
-                .flatMap(metaZone -> Stream.of(metaZone.getShortMetaZone().getDaylight(), metaZone.getShortMetaZone().getStandard()))
-                .toList()
-                .stream()
-                .filter(Objects::nonNull)
-                .anyMatch(input::equalsIgnoreCase) ? SHORT_SPECIFIC_NON_LOCATION_TIME_ZONE_SYMBOL : EMPTY;
-    }
-
-    public static String detectShortLocalizedGmtPattern(String input) {
-        return Matchers.detectShortGmtFormat(input) ? SHORT_LOCALIZED_GMT_SYMBOL : EMPTY;
-    }
-
-    public static String detectLongLocalizedGmtPattern(String input) {
-        return Matchers.detectLongGmtFormat(input) ? LONG_LOCALIZED_GMT_SYMBOL : EMPTY;
-    }
-
-    public static String detectBasicHmsPattern(String input) {
-        return Matchers.detectBasicHmsFormat(input) ? BASIC_HMS_SYMBOL : EMPTY;
-    }
-
-    public static String detectExtendedHmsPattern(String input) {
-        return Matchers.detectExtendedHmsFormat(input) ? EXTENDED_HMS_SYMBOL : EMPTY;
-    }
-
-    public static String detectTimezonesWithSpacings(String input, CldrData cldrData) {
-        List<String> timeZonesWithSpacing = new ArrayList<>();
-
-        List<String> exemplarCities = cldrData.timezoneNames.getZones().values().stream()
-                .flatMap(zone -> zone.values().stream())
-                .map(SubZone::getExemplarCity).toList();
-
-        List<String> longGenericNonLocations = cldrData.timezoneNames.getMetazone().values().stream()
-                .filter(longMetaZones -> nonNull(longMetaZones.getLongMetaZone()))
-                .map(metaZone -> metaZone.getLongMetaZone().getGeneric())
-                .toList();
-
-        List<String> longSpecificNonLocations = cldrData.timezoneNames.getMetazone().values().stream()
-                .filter(longMetaZones -> nonNull(longMetaZones.getLongMetaZone()))
-                .flatMap(metaZone -> Stream.of(metaZone.getLongMetaZone().getDaylight(), metaZone.getLongMetaZone().getStandard()))
-                .toList();
-
-        timeZonesWithSpacing.addAll(exemplarCities);
-        timeZonesWithSpacing.addAll(longGenericNonLocations);
-        timeZonesWithSpacing.addAll(longSpecificNonLocations);
-
-        return timeZonesWithSpacing.stream()
-                .filter(Objects::nonNull)
-                .filter(zone -> zone.contains(" ") && input.contains(zone))
-                .findFirst()
-                .orElse(EMPTY);
-    }
-
-    public static String detectAnyDayPeriod(String input, CldrData cldrData) {
-        return cldrData.gregorianCalendar.dayPeriods.getAllDayPeriods().stream()
-                .filter(Objects::nonNull)
-                // As Java.contains cannot match NBSP unicode character, replace it with space just for the filter body
-                .filter(dayPeriod -> input.contains(dayPeriod.replace("\u00A0", " ")))
-                .max(Comparator.comparingInt(String::length))
-                .orElse(EMPTY);
-    }
-
-    public static String detectAnyRelativeTime(String input, CldrData cldrData) {
-        return cldrData.dateFields.getAllDateFieldsValues().stream()
-                .filter(Objects::nonNull)
-                // As Java.contains cannot match NBSP unicode character, replace it with space just for the filter body
-                .filter(relativeTime -> input.contains(relativeTime.replace("\u00A0", " ")))
-                .max(Comparator.comparingInt(String::length))
-                .orElse(EMPTY);
-    }
 }
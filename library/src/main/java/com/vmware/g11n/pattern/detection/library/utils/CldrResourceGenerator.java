@@ -0,0 +1,316 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.ibm.icu.util.ULocale;
+import com.vmware.g11n.pattern.detection.library.data.CldrDataset;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.calendar.GregorianCalendar;
+import com.vmware.g11n.pattern.detection.model.dateFields.DateFields;
+import com.vmware.g11n.pattern.detection.model.timezones.TimezoneNames;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/*
+Converts the CLDR JSON release zip (cldr-<version>-json-full.zip) into the data used by the library, without network
+access and without extracting the archive. The zip is streamed once and only the entries of the requested locales are
+read. Their JSON is parsed in parallel with a streaming parser, which skips everything outside the needed subtree.
+
+Usage: CldrResourceGenerator <cldr-json-zip> <cldr-version> <resources-directory> [all | <locale>,<locale>,...]
+Writes the JSON resources of the locales (by default the ones in cldr-data.yml, "all" for every locale
+of the zip) to the resources directory and updates its cldr-data.yml.
+ */
+public class CldrResourceGenerator {
+
+    static final String CLDR_DATES_DIRECTORY = "cldr-dates-full/main/";
+
+    private enum CldrSection {
+        GREGORIAN_CALENDAR("ca-gregorian.json", "dates-full.json", GregorianCalendar.class, "calendars", "gregorian"),
+        DATE_FIELDS("dateFields.json", "date-fields.json", DateFields.class, "fields"),
+        TIMEZONE_NAMES("timeZoneNames.json", "timezone-fields.json", TimezoneNames.class, "timeZoneNames");
+
+        final String cldrFileName;
+        final String resourceFileName;
+        final Class<?> type;
+        final String[] datesPath;
+
+        CldrSection(String cldrFileName, String resourceFileName, Class<?> type, String... datesPath) {
+            this.cldrFileName = cldrFileName;
+            this.resourceFileName = resourceFileName;
+            this.type = type;
+            this.datesPath = datesPath;
+        }
+
+        static CldrSection fromCldrFileName(String cldrFileName) {
+            for (CldrSection section : values()) {
+                if (section.cldrFileName.equals(cldrFileName)) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        Path cldrJsonZip = Paths.get(args[0]);
+        String cldrVersion = args[1];
+        Path resourcesDirectory = Paths.get(args[2]);
+        Path cldrDataConfig = resourcesDirectory.resolve("cldr-data.yml");
+
+        List<String> locales;
+        if (args.length < 4) {
+            locales = List.of(String.valueOf(readCldrDataConfig(cldrDataConfig).get("locales")).split(", "));
+        } else if (args[3].equals("all")) {
+            locales = listCldrLocales(cldrJsonZip);
+        } else {
+            locales = List.of(args[3].split(","));
+        }
+
+        CldrDataset dataset = readCldrZip(cldrJsonZip, cldrVersion, locales);
+        writeCldrResources(dataset, resourcesDirectory);
+        updateCldrDataConfig(dataset, cldrDataConfig);
+    }
+
+    public static CldrDataset readCldrZip(Path cldrJsonZip, String cldrVersion, List<String> locales) throws IOException {
+        // A locale may be stored under several directory names, the first one found in the zip is used
+        Map<String, List<String>> directoryCandidatesByLocale = new LinkedHashMap<>();
+        Set<String> directoryCandidates = new LinkedHashSet<>();
+        for (String locale : locales) {
+            List<String> candidates = getCldrDirectoryCandidates(locale);
+            directoryCandidatesByLocale.put(locale, candidates);
+            directoryCandidates.addAll(candidates);
+        }
+
+        Map<String, Map<CldrSection, Future<Object>>> sectionsByDirectory = new HashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(cldrJsonZip)))) {
+                for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                    String[] directoryAndFileName = getCldrDatesEntry(entry);
+                    CldrSection section = directoryAndFileName != null ? CldrSection.fromCldrFileName(directoryAndFileName[1]) : null;
+                    if (section == null || !directoryCandidates.contains(directoryAndFileName[0])) {
+                        continue;
+                    }
+
+                    // Only the reading of the zip is sequential, the parsing runs on the executor
+                    String directory = directoryAndFileName[0];
+                    byte[] content = zip.readAllBytes();
+                    sectionsByDirectory.computeIfAbsent(directory, key -> new EnumMap<>(CldrSection.class))
+                            .put(section, executor.submit(() -> readSection(content, directory, section)));
+                }
+            }
+
+            ImmutableMap.Builder<Locale, CldrData> cldrDataByLocale = ImmutableMap.builder();
+            for (Map.Entry<String, List<String>> locale : directoryCandidatesByLocale.entrySet()) {
+                Map<CldrSection, Future<Object>> sections = locale.getValue().stream()
+                        .map(sectionsByDirectory::get)
+                        .filter(candidate -> candidate != null && candidate.size() == CldrSection.values().length)
+                        .findFirst()
+                        .orElseThrow(() -> new IOException("No CLDR data for " + locale.getKey() + " in " + cldrJsonZip));
+
+                cldrDataByLocale.put(Locale.forLanguageTag(locale.getKey()), CldrData.builder()
+                        .gregorianCalendar((GregorianCalendar) getResult(sections.get(CldrSection.GREGORIAN_CALENDAR)))
+                        .dateFields((DateFields) getResult(sections.get(CldrSection.DATE_FIELDS)))
+                        .timezoneNames((TimezoneNames) getResult(sections.get(CldrSection.TIMEZONE_NAMES)))
+                        .build());
+            }
+            return new CldrDataset(cldrVersion, cldrDataByLocale.build());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Writes the JSON resources of every locale in the layout expected by ResourceLoaders. The snapshots are generated by the build.
+    public static void writeCldrResources(CldrDataset dataset, Path resourcesDirectory) throws IOException {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Map.Entry<Locale, CldrData> locale : dataset.cldrDataByLocale.entrySet()) {
+            tasks.add(() -> {
+                String[] components = locale.getKey().toLanguageTag().split("-", 2);
+                Path localeDirectory = Files.createDirectories(resourcesDirectory.resolve("cldr").resolve(components[0]).resolve(components[1]));
+                CldrData cldrData = locale.getValue();
+
+                mapper.writerWithDefaultPrettyPrinter().writeValue(localeDirectory.resolve(CldrSection.GREGORIAN_CALENDAR.resourceFileName).toFile(),
+                        cldrData.getGregorianCalendar());
+                mapper.writerWithDefaultPrettyPrinter().writeValue(localeDirectory.resolve(CldrSection.DATE_FIELDS.resourceFileName).toFile(),
+                        cldrData.getDateFields());
+                mapper.writerWithDefaultPrettyPrinter().writeValue(localeDirectory.resolve(CldrSection.TIMEZONE_NAMES.resourceFileName).toFile(),
+                        cldrData.getTimezoneNames());
+                return null;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                getResult(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the CLDR resources", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static void updateCldrDataConfig(CldrDataset dataset, Path cldrDataConfig) throws IOException {
+        Map<String, Object> yamlConfigs = readCldrDataConfig(cldrDataConfig);
+        yamlConfigs.put("locales", String.join(", ", dataset.getSupportedLocales()));
+        yamlConfigs.put("cldr-version", dataset.cldrVersion);
+
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        options.setPrettyFlow(true);
+        try (Writer writer = Files.newBufferedWriter(cldrDataConfig)) {
+            new Yaml(options).dump(yamlConfigs, writer);
+        }
+    }
+
+    private static Map<String, Object> readCldrDataConfig(Path cldrDataConfig) throws IOException {
+        try (InputStream in = Files.newInputStream(cldrDataConfig)) {
+            return new Yaml().load(in);
+        }
+    }
+
+    // Lists every locale of the zip with date data, as language-region tags. Script variants (e.g. sr-Latn) are skipped.
+    public static List<String> listCldrLocales(Path cldrJsonZip) throws IOException {
+        Set<String> locales = new LinkedHashSet<>();
+        try (ZipFile zip = new ZipFile(cldrJsonZip.toFile())) {
+            zip.stream()
+                    .map(CldrResourceGenerator::getCldrDatesEntry)
+                    .filter(entry -> entry != null && entry[1].equals(CldrSection.GREGORIAN_CALENDAR.cldrFileName))
+                    .map(entry -> getStandardLocale(entry[0]))
+                    .filter(locale -> locale != null)
+                    .sorted()
+                    .forEach(locales::add);
+        }
+        return new ArrayList<>(locales);
+    }
+
+    /*
+    Directories are named after the language only when the region is the most likely one (de for de-DE, ja for ja-JP),
+    a few standard locales use a script instead of a region (zh-Hans for zh-CN) and the rest is named language-region.
+     */
+    static List<String> getCldrDirectoryCandidates(String locale) {
+        List<String> candidates = new ArrayList<>();
+        String cldrNamingLocale = ResourceLoaders.standardLocalesToCldrNamingLocales.get(locale);
+        if (cldrNamingLocale != null) {
+            candidates.add(cldrNamingLocale);
+        }
+        candidates.add(locale);
+
+        Locale providedLocale = Locale.forLanguageTag(locale);
+        if (providedLocale.getCountry().equals(ULocale.addLikelySubtags(new ULocale(providedLocale.getLanguage())).getCountry())) {
+            candidates.add(providedLocale.getLanguage());
+        }
+        return candidates;
+    }
+
+    static String getStandardLocale(String cldrDirectory) {
+        for (Map.Entry<String, String> standardLocale : ResourceLoaders.standardLocalesToCldrNamingLocales.entrySet()) {
+            if (standardLocale.getValue().equals(cldrDirectory)) {
+                return standardLocale.getKey();
+            }
+        }
+
+        Locale locale = Locale.forLanguageTag(cldrDirectory);
+        if (!locale.getScript().isEmpty() || !locale.getVariant().isEmpty() || locale.getLanguage().isEmpty()) {
+            return null;
+        }
+        if (!locale.getCountry().isEmpty()) {
+            return locale.toLanguageTag();
+        }
+
+        String likelyRegion = ULocale.addLikelySubtags(new ULocale(locale.getLanguage())).getCountry();
+        return likelyRegion.isEmpty() ? null : locale.getLanguage() + "-" + likelyRegion;
+    }
+
+    // Returns the locale directory and the file name of entries under cldr-dates-full/main, or null for other entries
+    private static String[] getCldrDatesEntry(ZipEntry entry) {
+        String name = entry.getName();
+        int start = name.indexOf(CLDR_DATES_DIRECTORY);
+        if (entry.isDirectory() || start < 0) {
+            return null;
+        }
+        String[] directoryAndFileName = name.substring(start + CLDR_DATES_DIRECTORY.length()).split("/");
+        return directoryAndFileName.length == 2 ? directoryAndFileName : null;
+    }
+
+    private static Object readSection(byte[] content, String directory, CldrSection section) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(content)) {
+            parser.nextToken();
+            if (!moveToField(parser, "main") || !moveToField(parser, directory) || !moveToField(parser, "dates")) {
+                throw new IOException("Unexpected content of " + directory + "/" + section.cldrFileName);
+            }
+            for (String field : section.datesPath) {
+                if (!moveToField(parser, field)) {
+                    throw new IOException("Unexpected content of " + directory + "/" + section.cldrFileName);
+                }
+            }
+            return mapper.readValue(parser, section.type);
+        }
+    }
+
+    // Advances from the start of an object to the value of its field, skipping the values of all fields before it
+    private static boolean moveToField(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static <T> T getResult(Future<T> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while processing the CLDR data", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.vmware.g11n.pattern.detection.library.services.CldrService;
+
+import java.io.IOException;
+
+/*
+Build step of the library module (see the exec-maven-plugin execution in its pom.xml). Converts the JSON resources of
+all locales from cldr-data.yml into binary snapshots placed next to them in the given output directory.
+ */
+public class CldrSnapshotGenerator {
+
+    public static void main(String[] args) throws IOException {
+        String outputDirectory = args.length > 0 ? args[0] : "library/target/classes";
+        CldrService cldrService = new CldrService();
+
+        ResourceLoaders.generateCldrSnapshots(outputDirectory, cldrService.getBundledCldrVersion(), cldrService.getBundledSupportedLocales());
+    }
+}
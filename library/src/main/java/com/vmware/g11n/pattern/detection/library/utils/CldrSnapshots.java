@@ -0,0 +1,766 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.calendar.GregorianCalendar;
+import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.AppendItems;
+import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.DateFormats;
+import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.DateTimeFormats;
+import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.TimeFormats;
+import com.vmware.g11n.pattern.detection.model.calendar.dayPeriods.DayPeriods;
+import com.vmware.g11n.pattern.detection.model.calendar.dayPeriods.DayPeriodsFormat;
+import com.vmware.g11n.pattern.detection.model.calendar.dayPeriods.DayPeriodsStandalone;
+import com.vmware.g11n.pattern.detection.model.calendar.days.Days;
+import com.vmware.g11n.pattern.detection.model.calendar.days.DaysFormat;
+import com.vmware.g11n.pattern.detection.model.calendar.days.DaysStandalone;
+import com.vmware.g11n.pattern.detection.model.calendar.eras.Eras;
+import com.vmware.g11n.pattern.detection.model.calendar.months.Months;
+import com.vmware.g11n.pattern.detection.model.calendar.months.MonthsFormat;
+import com.vmware.g11n.pattern.detection.model.calendar.months.MonthsStandalone;
+import com.vmware.g11n.pattern.detection.model.calendar.quarters.Quarters;
+import com.vmware.g11n.pattern.detection.model.calendar.quarters.QuartersFormat;
+import com.vmware.g11n.pattern.detection.model.calendar.quarters.QuartersStandalone;
+import com.vmware.g11n.pattern.detection.model.dateFields.DateFields;
+import com.vmware.g11n.pattern.detection.model.dateFields.RelativeData;
+import com.vmware.g11n.pattern.detection.model.timezones.LongMetaZoneFormat;
+import com.vmware.g11n.pattern.detection.model.timezones.MetaZoneFields;
+import com.vmware.g11n.pattern.detection.model.timezones.ShortMetaZoneFormat;
+import com.vmware.g11n.pattern.detection.model.timezones.SubZone;
+import com.vmware.g11n.pattern.detection.model.timezones.TimezoneNames;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+Compact binary form of the CLDR data of one locale, generated at build time from the JSON resources.
+
+Layout: magic, format version, CLDR version, then the calendar, date fields and timezone sections. Every section is
+length-prefixed and holds its own table of distinct strings followed by the object tree, where strings are written as
+varint references into the table. Objects are written field by field in a fixed order, so reading needs neither
+reflection nor a JSON parser - just one pass over the bytes.
+ */
+public class CldrSnapshots {
+
+    public static final String SNAPSHOT_FILE_NAME = "cldr-data.bin";
+
+    static final int MAGIC = 0x434C4452;
+    static final int FORMAT_VERSION = 1;
+
+    static final byte GREGORIAN_CALENDAR_SECTION = 1;
+    static final byte DATE_FIELDS_SECTION = 2;
+    static final byte TIMEZONE_NAMES_SECTION = 3;
+
+    public static byte[] writeSnapshot(CldrData cldrData, String cldrVersion) throws IOException {
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(snapshot);
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeUTF(cldrVersion);
+
+        SectionWriter calendarWriter = new SectionWriter();
+        calendarWriter.writeGregorianCalendar(cldrData.getGregorianCalendar());
+        calendarWriter.writeTo(out, GREGORIAN_CALENDAR_SECTION);
+
+        SectionWriter dateFieldsWriter = new SectionWriter();
+        dateFieldsWriter.writeDateFields(cldrData.getDateFields());
+        dateFieldsWriter.writeTo(out, DATE_FIELDS_SECTION);
+
+        SectionWriter timezoneWriter = new SectionWriter();
+        timezoneWriter.writeTimezoneNames(cldrData.getTimezoneNames());
+        timezoneWriter.writeTo(out, TIMEZONE_NAMES_SECTION);
+
+        out.flush();
+        return snapshot.toByteArray();
+    }
+
+    // Returns null if the buffer doesn't hold a snapshot of the current format for the requested CLDR version
+    public static CldrData readSnapshot(ByteBuffer buffer, String cldrVersion) {
+        ByteBuffer snapshot = buffer.slice();
+        if (snapshot.remaining() < 6 || snapshot.getInt() != MAGIC || snapshot.getShort() != FORMAT_VERSION) {
+            return null;
+        }
+
+        byte[] versionBytes = new byte[Short.toUnsignedInt(snapshot.getShort())];
+        snapshot.get(versionBytes);
+        if (!new String(versionBytes, StandardCharsets.UTF_8).equals(cldrVersion)) {
+            return null;
+        }
+
+        CldrData.CldrDataBuilder cldrData = CldrData.builder();
+        while (snapshot.hasRemaining()) {
+            byte sectionId = snapshot.get();
+            int sectionLength = snapshot.getInt();
+            ByteBuffer section = snapshot.slice(snapshot.position(), sectionLength);
+            snapshot.position(snapshot.position() + sectionLength);
+
+            // Only the calendar is needed by every request, the other sections are decoded on first access
+            switch (sectionId) {
+                case GREGORIAN_CALENDAR_SECTION -> cldrData.gregorianCalendar(new SectionReader(section).readGregorianCalendar());
+                case DATE_FIELDS_SECTION -> cldrData.dateFields(() -> new SectionReader(section.duplicate()).readDateFields());
+                case TIMEZONE_NAMES_SECTION -> cldrData.timezoneNames(() -> new SectionReader(section.duplicate()).readTimezoneNames());
+                default -> {
+                    // Sections added by newer generators are skipped
+                }
+            }
+        }
+
+        return cldrData.build();
+    }
+
+    private static class SectionWriter {
+
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        void writeTo(DataOutputStream out, byte sectionId) throws IOException {
+            ByteArrayOutputStream section = new ByteArrayOutputStream();
+            writeVarInt(section, strings.size());
+            for (String value : strings.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(section, bytes.length);
+                section.write(bytes);
+            }
+            content.writeTo(section);
+
+            out.writeByte(sectionId);
+            out.writeInt(section.size());
+            section.writeTo(out);
+        }
+
+        void writeGregorianCalendar(GregorianCalendar calendar) {
+            if (writePresence(calendar)) {
+                writeMonths(calendar.getMonths());
+                writeDays(calendar.getDays());
+                writeQuarters(calendar.getQuarters());
+                writeDayPeriods(calendar.getDayPeriods());
+                writeEras(calendar.getEras());
+                writeDateFormats(calendar.getDateFormats());
+                writeTimeFormats(calendar.getTimeFormats());
+                writeDateTimeFormats(calendar.getDateTimeFormats());
+            }
+        }
+
+        void writeDateFields(DateFields fields) {
+            if (writePresence(fields)) {
+                writeRelativeData(fields.getYear());
+                writeRelativeData(fields.getYearShort());
+                writeRelativeData(fields.getYearNarrow());
+                writeRelativeData(fields.getMonth());
+                writeRelativeData(fields.getMonthShort());
+                writeRelativeData(fields.getMonthNarrow());
+                writeRelativeData(fields.getDay());
+                writeRelativeData(fields.getDayShort());
+                writeRelativeData(fields.getDayNarrow());
+                writeRelativeData(fields.getQuarter());
+                writeRelativeData(fields.getQuarterShort());
+                writeRelativeData(fields.getQuarterNarrow());
+                writeRelativeData(fields.getMonday());
+                writeRelativeData(fields.getMondayShort());
+                writeRelativeData(fields.getMondayNarrow());
+                writeRelativeData(fields.getTuesday());
+                writeRelativeData(fields.getTuesdayShort());
+                writeRelativeData(fields.getTuesdayNarrow());
+                writeRelativeData(fields.getWednesday());
+                writeRelativeData(fields.getWednesdayShort());
+                writeRelativeData(fields.getWednesdayNarrow());
+                writeRelativeData(fields.getThursday());
+                writeRelativeData(fields.getThursdayShort());
+                writeRelativeData(fields.getThursdayNarrow());
+                writeRelativeData(fields.getFriday());
+                writeRelativeData(fields.getFridayShort());
+                writeRelativeData(fields.getFridayNarrow());
+                writeRelativeData(fields.getSaturday());
+                writeRelativeData(fields.getSaturdayShort());
+                writeRelativeData(fields.getSaturdayNarrow());
+                writeRelativeData(fields.getSunday());
+                writeRelativeData(fields.getSundayShort());
+                writeRelativeData(fields.getSundayNarrow());
+                writeRelativeData(fields.getHour());
+                writeRelativeData(fields.getMinute());
+                writeRelativeData(fields.getSecond());
+            }
+        }
+
+        void writeTimezoneNames(TimezoneNames timezones) {
+            if (writePresence(timezones)) {
+                writeString(timezones.getHourFormat());
+                writeString(timezones.getGmtFormat());
+                writeString(timezones.getGmtZeroFormat());
+                writeString(timezones.getRegionFormat());
+                writeString(timezones.getRegionFormatDaylightType());
+                writeString(timezones.getRegionFormatStandardType());
+                writeString(timezones.getFallbackFormat());
+
+                Map<String, Map<String, SubZone>> zones = timezones.getZones();
+                writeSize(zones);
+                if (zones != null) {
+                    zones.forEach((region, subZones) -> {
+                        writeString(region);
+                        writeSize(subZones);
+                        if (subZones != null) {
+                            subZones.forEach((city, subZone) -> {
+                                writeString(city);
+                                writeSubZone(subZone);
+                            });
+                        }
+                    });
+                }
+
+                Map<String, MetaZoneFields> metazones = timezones.getMetazone();
+                writeSize(metazones);
+                if (metazones != null) {
+                    metazones.forEach((name, metazone) -> {
+                        writeString(name);
+                        if (writePresence(metazone)) {
+                            writeLongMetaZone(metazone.getLongMetaZone());
+                            writeShortMetaZone(metazone.getShortMetaZone());
+                        }
+                    });
+                }
+            }
+        }
+
+        private void writeMonths(Months months) {
+            if (writePresence(months)) {
+                MonthsFormat format = months.getMonthsFormat();
+                if (writePresence(format)) {
+                    writeMap(format.getNarrow());
+                    writeMap(format.getAbbreviated());
+                    writeMap(format.getWide());
+                }
+                MonthsStandalone standalone = months.getMonthsStandalone();
+                if (writePresence(standalone)) {
+                    writeMap(standalone.getNarrow());
+                    writeMap(standalone.getAbbreviated());
+                    writeMap(standalone.getWide());
+                }
+            }
+        }
+
+        private void writeDays(Days days) {
+            if (writePresence(days)) {
+                DaysFormat format = days.getDaysFormat();
+                if (writePresence(format)) {
+                    writeMap(format.getNarrow());
+                    writeMap(format.getAbbreviated());
+                    writeMap(format.getWide());
+                    writeMap(format.getShortened());
+                }
+                DaysStandalone standalone = days.getDaysStandalone();
+                if (writePresence(standalone)) {
+                    writeMap(standalone.getNarrow());
+                    writeMap(standalone.getAbbreviated());
+                    writeMap(standalone.getWide());
+                    writeMap(standalone.getShortened());
+                }
+            }
+        }
+
+        private void writeQuarters(Quarters quarters) {
+            if (writePresence(quarters)) {
+                QuartersFormat format = quarters.getQuartersFormat();
+                if (writePresence(format)) {
+                    writeMap(format.getAbbreviated());
+                    writeMap(format.getWide());
+                }
+                QuartersStandalone standalone = quarters.getQuartersStandalone();
+                if (writePresence(standalone)) {
+                    writeMap(standalone.getAbbreviated());
+                    writeMap(standalone.getWide());
+                }
+            }
+        }
+
+        private void writeDayPeriods(DayPeriods dayPeriods) {
+            if (writePresence(dayPeriods)) {
+                DayPeriodsFormat format = dayPeriods.getDayPeriodsFormat();
+                if (writePresence(format)) {
+                    writeMap(format.getNarrow());
+                    writeMap(format.getAbbreviated());
+                    writeMap(format.getWide());
+                }
+                DayPeriodsStandalone standalone = dayPeriods.getDayPeriodsStandalone();
+                if (writePresence(standalone)) {
+                    writeMap(standalone.getNarrow());
+                    writeMap(standalone.getAbbreviated());
+                    writeMap(standalone.getWide());
+                }
+            }
+        }
+
+        private void writeEras(Eras eras) {
+            if (writePresence(eras)) {
+                writeMap(eras.getEraNames());
+                writeMap(eras.getEraAbbr());
+                writeMap(eras.getEraNarrow());
+            }
+        }
+
+        private void writeDateFormats(DateFormats formats) {
+            if (writePresence(formats)) {
+                writeString(formats.getShortened());
+                writeString(formats.getMedium());
+                writeString(formats.getLongFormat());
+                writeString(formats.getFull());
+            }
+        }
+
+        private void writeTimeFormats(TimeFormats formats) {
+            if (writePresence(formats)) {
+                writeString(formats.getShortened());
+                writeString(formats.getMedium());
+                writeString(formats.getLongFormat());
+                writeString(formats.getFull());
+            }
+        }
+
+        private void writeDateTimeFormats(DateTimeFormats formats) {
+            if (writePresence(formats)) {
+                writeString(formats.getShortened());
+                writeString(formats.getMedium());
+                writeString(formats.getLongFormat());
+                writeString(formats.getFull());
+
+                AppendItems appendItems = formats.getAppendItems();
+                if (writePresence(appendItems)) {
+                    writeString(appendItems.getDay());
+                    writeString(appendItems.getDayOfWeek());
+                    writeString(appendItems.getEra());
+                    writeString(appendItems.getHour());
+                    writeString(appendItems.getMinute());
+                    writeString(appendItems.getMonth());
+                    writeString(appendItems.getQuarter());
+                    writeString(appendItems.getSecond());
+                    writeString(appendItems.getTimezone());
+                    writeString(appendItems.getWeek());
+                    writeString(appendItems.getYear());
+                }
+
+                writeMap(formats.getAvailableFormats());
+                writeMap(formats.getTimeFormats());
+            }
+        }
+
+        private void writeRelativeData(RelativeData data) {
+            if (writePresence(data)) {
+                writeString(data.getDisplayName());
+                writeString(data.getValueRelativeLast());
+                writeString(data.getValueRelativeThis());
+                writeString(data.getValueRelativeNext());
+            }
+        }
+
+        private void writeSubZone(SubZone subZone) {
+            if (writePresence(subZone)) {
+                writeString(subZone.getExemplarCity());
+                writeLongMetaZone(subZone.getLongMetaZone());
+                writeShortMetaZone(subZone.getShortMetaZone());
+            }
+        }
+
+        private void writeLongMetaZone(LongMetaZoneFormat format) {
+            if (writePresence(format)) {
+                writeString(format.getGeneric());
+                writeString(format.getStandard());
+                writeString(format.getDaylight());
+            }
+        }
+
+        private void writeShortMetaZone(ShortMetaZoneFormat format) {
+            if (writePresence(format)) {
+                writeString(format.getGeneric());
+                writeString(format.getStandard());
+                writeString(format.getDaylight());
+            }
+        }
+
+        private void writeMap(Map<String, String> map) {
+            writeSize(map);
+            if (map != null) {
+                map.forEach((key, value) -> {
+                    writeString(key);
+                    writeString(value);
+                });
+            }
+        }
+
+        // Sizes are shifted by one, so 0 can stand for a null map
+        private void writeSize(Map<?, ?> map) {
+            writeVarInt(content, map == null ? 0 : map.size() + 1);
+        }
+
+        private boolean writePresence(Object value) {
+            content.write(value == null ? 0 : 1);
+            return value != null;
+        }
+
+        // String references are shifted by one, so 0 can stand for null
+        private void writeString(String value) {
+            writeVarInt(content, value == null ? 0 : strings.computeIfAbsent(value, key -> strings.size()) + 1);
+        }
+
+        private static void writeVarInt(ByteArrayOutputStream out, int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+    private static class SectionReader {
+
+        private final ByteBuffer buffer;
+        private final String[] strings;
+
+        SectionReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.strings = new String[readVarInt()];
+
+            byte[] bytes = new byte[64];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readVarInt();
+                if (bytes.length < length) {
+                    bytes = new byte[Math.max(length, bytes.length * 2)];
+                }
+                buffer.get(bytes, 0, length);
+                strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+        }
+
+        GregorianCalendar readGregorianCalendar() {
+            return readObject(() -> {
+                GregorianCalendar calendar = new GregorianCalendar();
+                calendar.setMonths(readMonths());
+                calendar.setDays(readDays());
+                calendar.setQuarters(readQuarters());
+                calendar.setDayPeriods(readDayPeriods());
+                calendar.setEras(readEras());
+                calendar.setDateFormats(readDateFormats());
+                calendar.setTimeFormats(readTimeFormats());
+                calendar.setDateTimeFormats(readDateTimeFormats());
+                return calendar;
+            });
+        }
+
+        DateFields readDateFields() {
+            return readObject(() -> {
+                DateFields fields = new DateFields();
+                fields.setYear(readRelativeData());
+                fields.setYearShort(readRelativeData());
+                fields.setYearNarrow(readRelativeData());
+                fields.setMonth(readRelativeData());
+                fields.setMonthShort(readRelativeData());
+                fields.setMonthNarrow(readRelativeData());
+                fields.setDay(readRelativeData());
+                fields.setDayShort(readRelativeData());
+                fields.setDayNarrow(readRelativeData());
+                fields.setQuarter(readRelativeData());
+                fields.setQuarterShort(readRelativeData());
+                fields.setQuarterNarrow(readRelativeData());
+                fields.setMonday(readRelativeData());
+                fields.setMondayShort(readRelativeData());
+                fields.setMondayNarrow(readRelativeData());
+                fields.setTuesday(readRelativeData());
+                fields.setTuesdayShort(readRelativeData());
+                fields.setTuesdayNarrow(readRelativeData());
+                fields.setWednesday(readRelativeData());
+                fields.setWednesdayShort(readRelativeData());
+                fields.setWednesdayNarrow(readRelativeData());
+                fields.setThursday(readRelativeData());
+                fields.setThursdayShort(readRelativeData());
+                fields.setThursdayNarrow(readRelativeData());
+                fields.setFriday(readRelativeData());
+                fields.setFridayShort(readRelativeData());
+                fields.setFridayNarrow(readRelativeData());
+                fields.setSaturday(readRelativeData());
+                fields.setSaturdayShort(readRelativeData());
+                fields.setSaturdayNarrow(readRelativeData());
+                fields.setSunday(readRelativeData());
+                fields.setSundayShort(readRelativeData());
+                fields.setSundayNarrow(readRelativeData());
+                fields.setHour(readRelativeData());
+                fields.setMinute(readRelativeData());
+                fields.setSecond(readRelativeData());
+                return fields;
+            });
+        }
+
+        TimezoneNames readTimezoneNames() {
+            return readObject(() -> {
+                TimezoneNames timezones = new TimezoneNames();
+                timezones.setHourFormat(readString());
+                timezones.setGmtFormat(readString());
+                timezones.setGmtZeroFormat(readString());
+                timezones.setRegionFormat(readString());
+                timezones.setRegionFormatDaylightType(readString());
+                timezones.setRegionFormatStandardType(readString());
+                timezones.setFallbackFormat(readString());
+
+                int zonesSize = readVarInt();
+                if (zonesSize > 0) {
+                    Map<String, Map<String, SubZone>> zones = new LinkedHashMap<>();
+                    for (int i = 1; i < zonesSize; i++) {
+                        String region = readString();
+                        int subZonesSize = readVarInt();
+                        Map<String, SubZone> subZones = null;
+                        if (subZonesSize > 0) {
+                            subZones = new LinkedHashMap<>();
+                            for (int j = 1; j < subZonesSize; j++) {
+                                subZones.put(readString(), readSubZone());
+                            }
+                        }
+                        zones.put(region, subZones);
+                    }
+                    timezones.setZones(zones);
+                }
+
+                int metazonesSize = readVarInt();
+                if (metazonesSize > 0) {
+                    Map<String, MetaZoneFields> metazones = new LinkedHashMap<>();
+                    for (int i = 1; i < metazonesSize; i++) {
+                        metazones.put(readString(), readObject(() -> {
+                            MetaZoneFields metazone = new MetaZoneFields();
+                            metazone.setLongMetaZone(readLongMetaZone());
+                            metazone.setShortMetaZone(readShortMetaZone());
+                            return metazone;
+                        }));
+                    }
+                    timezones.setMetazone(metazones);
+                }
+                return timezones;
+            });
+        }
+
+        private Months readMonths() {
+            return readObject(() -> {
+                Months months = new Months();
+                months.setMonthsFormat(readObject(() -> {
+                    MonthsFormat format = new MonthsFormat();
+                    format.setNarrow(readMap());
+                    format.setAbbreviated(readMap());
+                    format.setWide(readMap());
+                    return format;
+                }));
+                months.setMonthsStandalone(readObject(() -> {
+                    MonthsStandalone standalone = new MonthsStandalone();
+                    standalone.setNarrow(readMap());
+                    standalone.setAbbreviated(readMap());
+                    standalone.setWide(readMap());
+                    return standalone;
+                }));
+                return months;
+            });
+        }
+
+        private Days readDays() {
+            return readObject(() -> {
+                Days days = new Days();
+                days.setDaysFormat(readObject(() -> {
+                    DaysFormat format = new DaysFormat();
+                    format.setNarrow(readMap());
+                    format.setAbbreviated(readMap());
+                    format.setWide(readMap());
+                    format.setShortened(readMap());
+                    return format;
+                }));
+                days.setDaysStandalone(readObject(() -> {
+                    DaysStandalone standalone = new DaysStandalone();
+                    standalone.setNarrow(readMap());
+                    standalone.setAbbreviated(readMap());
+                    standalone.setWide(readMap());
+                    standalone.setShortened(readMap());
+                    return standalone;
+                }));
+                return days;
+            });
+        }
+
+        private Quarters readQuarters() {
+            return readObject(() -> {
+                Quarters quarters = new Quarters();
+                quarters.setQuartersFormat(readObject(() -> {
+                    QuartersFormat format = new QuartersFormat();
+                    format.setAbbreviated(readMap());
+                    format.setWide(readMap());
+                    return format;
+                }));
+                quarters.setQuartersStandalone(readObject(() -> {
+                    QuartersStandalone standalone = new QuartersStandalone();
+                    standalone.setAbbreviated(readMap());
+                    standalone.setWide(readMap());
+                    return standalone;
+                }));
+                return quarters;
+            });
+        }
+
+        private DayPeriods readDayPeriods() {
+            return readObject(() -> {
+                DayPeriods dayPeriods = new DayPeriods();
+                dayPeriods.setDayPeriodsFormat(readObject(() -> {
+                    DayPeriodsFormat format = new DayPeriodsFormat();
+                    format.setNarrow(readMap());
+                    format.setAbbreviated(readMap());
+                    format.setWide(readMap());
+                    return format;
+                }));
+                dayPeriods.setDayPeriodsStandalone(readObject(() -> {
+                    DayPeriodsStandalone standalone = new DayPeriodsStandalone();
+                    standalone.setNarrow(readMap());
+                    standalone.setAbbreviated(readMap());
+                    standalone.setWide(readMap());
+                    return standalone;
+                }));
+                return dayPeriods;
+            });
+        }
+
+        private Eras readEras() {
+            return readObject(() -> {
+                Eras eras = new Eras();
+                eras.setEraNames(readMap());
+                eras.setEraAbbr(readMap());
+                eras.setEraNarrow(readMap());
+                return eras;
+            });
+        }
+
+        private DateFormats readDateFormats() {
+            return readObject(() -> {
+                DateFormats formats = new DateFormats();
+                formats.setShortened(readString());
+                formats.setMedium(readString());
+                formats.setLongFormat(readString());
+                formats.setFull(readString());
+                return formats;
+            });
+        }
+
+        private TimeFormats readTimeFormats() {
+            return readObject(() -> {
+                TimeFormats formats = new TimeFormats();
+                formats.setShortened(readString());
+                formats.setMedium(readString());
+                formats.setLongFormat(readString());
+                formats.setFull(readString());
+                return formats;
+            });
+        }
+
+        private DateTimeFormats readDateTimeFormats() {
+            return readObject(() -> {
+                DateTimeFormats formats = new DateTimeFormats();
+                formats.setShortened(readString());
+                formats.setMedium(readString());
+                formats.setLongFormat(readString());
+                formats.setFull(readString());
+                formats.setAppendItems(readObject(() -> {
+                    AppendItems appendItems = new AppendItems();
+                    appendItems.setDay(readString());
+                    appendItems.setDayOfWeek(readString());
+                    appendItems.setEra(readString());
+                    appendItems.setHour(readString());
+                    appendItems.setMinute(readString());
+                    appendItems.setMonth(readString());
+                    appendItems.setQuarter(readString());
+                    appendItems.setSecond(readString());
+                    appendItems.setTimezone(readString());
+                    appendItems.setWeek(readString());
+                    appendItems.setYear(readString());
+                    return appendItems;
+                }));
+                formats.setAvailableFormats(readMap());
+                formats.setTimeFormats(readMap());
+                return formats;
+            });
+        }
+
+        private RelativeData readRelativeData() {
+            return readObject(() -> {
+                RelativeData data = new RelativeData();
+                data.setDisplayName(readString());
+                data.setValueRelativeLast(readString());
+                data.setValueRelativeThis(readString());
+                data.setValueRelativeNext(readString());
+                return data;
+            });
+        }
+
+        private SubZone readSubZone() {
+            return readObject(() -> {
+                SubZone subZone = new SubZone();
+                subZone.setExemplarCity(readString());
+                subZone.setLongMetaZone(readLongMetaZone());
+                subZone.setShortMetaZone(readShortMetaZone());
+                return subZone;
+            });
+        }
+
+        private LongMetaZoneFormat readLongMetaZone() {
+            return readObject(() -> {
+                LongMetaZoneFormat format = new LongMetaZoneFormat();
+                format.setGeneric(readString());
+                format.setStandard(readString());
+                format.setDaylight(readString());
+                return format;
+            });
+        }
+
+        private ShortMetaZoneFormat readShortMetaZone() {
+            return readObject(() -> {
+                ShortMetaZoneFormat format = new ShortMetaZoneFormat();
+                format.setGeneric(readString());
+                format.setStandard(readString());
+                format.setDaylight(readString());
+                return format;
+            });
+        }
+
+        private Map<String, String> readMap() {
+            int size = readVarInt();
+            if (size == 0) {
+                return null;
+            }
+
+            // Keep the CLDR order - the detection relies on it the same way it does for the Jackson-parsed maps
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 1; i < size; i++) {
+                map.put(readString(), readString());
+            }
+            return map;
+        }
+
+        private <T> T readObject(Supplier<T> reader) {
+            return buffer.get() == 0 ? null : reader.get();
+        }
+
+        private String readString() {
+            int reference = readVarInt();
+            return reference == 0 ? null : strings[reference - 1];
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = buffer.get();
+                value |= (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+            return value;
+        }
+    }
+}
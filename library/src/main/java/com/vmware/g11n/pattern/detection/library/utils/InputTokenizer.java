@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+Splits an input into typed tokens in a single pass, so the shape of a component (a lone number, a time, a word) can be
+checked from the tokens instead of running a separate regex for every kind of date field.
+Only ASCII digits form numbers and times, like the [0-9] classes of the regexes the tokens replace. Digits of other
+scripts are part of words.
+ */
+public class InputTokenizer {
+
+    // Numbers with more digits don't fit an int and get no value
+    private static final int MAXIMUM_VALUE_WIDTH = 9;
+
+    public enum TokenType {
+        // Run of ASCII digits (example: 2022)
+        NUMBER,
+        // Numbers joined by colons (example: 16:57:00)
+        TIME,
+        // Run of letters, marks and non-ASCII digits (example: Februar)
+        WORD,
+        // Run of Han, Hiragana, Katakana or Hangul chars (example: 年)
+        CJK,
+        // Any other single char: spaces, punctuation, symbols (example: ',')
+        SEPARATOR
+    }
+
+    public static class Token {
+        public final TokenType type;
+        public final String text;
+        // Offsets of the token in the input, the end is exclusive
+        public final int start;
+        public final int end;
+        // Value of a NUMBER token, -1 for other tokens and for numbers wider than 9 digits
+        public final int value;
+
+        private Token(TokenType type, String input, int start, int end) {
+            this.type = type;
+            this.text = input.substring(start, end);
+            this.start = start;
+            this.end = end;
+            this.value = type == TokenType.NUMBER && text.length() <= MAXIMUM_VALUE_WIDTH ? Integer.parseInt(text) : -1;
+        }
+
+        public int width() {
+            return end - start;
+        }
+
+        public boolean is(TokenType type, String text) {
+            return this.type == type && this.text.equals(text);
+        }
+    }
+
+    public static List<Token> tokenize(String input) {
+        List<Token> tokens = new ArrayList<>();
+        int index = 0;
+        while (index < input.length()) {
+            int codePoint = input.codePointAt(index);
+            int start = index;
+            TokenType type;
+
+            if (isAsciiDigit(codePoint)) {
+                index = skipDigits(input, index);
+                type = TokenType.NUMBER;
+                while (index + 1 < input.length() && input.charAt(index) == ':' && isAsciiDigit(input.charAt(index + 1))) {
+                    index = skipDigits(input, index + 1);
+                    type = TokenType.TIME;
+                }
+            } else if (isCjk(codePoint)) {
+                do {
+                    index += Character.charCount(codePoint);
+                } while (index < input.length() && isCjk(codePoint = input.codePointAt(index)));
+                type = TokenType.CJK;
+            } else if (isWordPart(codePoint)) {
+                do {
+                    index += Character.charCount(codePoint);
+                } while (index < input.length() && isWordPart(codePoint = input.codePointAt(index)));
+                type = TokenType.WORD;
+            } else {
+                index += Character.charCount(codePoint);
+                type = TokenType.SEPARATOR;
+            }
+
+            tokens.add(new Token(type, input, start, index));
+        }
+        return tokens;
+    }
+
+    /*
+    Returns the NUMBER token if the tokens are a single number, optionally followed by a period (example: 9.), else null.
+     */
+    public static Token getNumberWithOptionalPeriod(List<Token> tokens) {
+        if (tokens.isEmpty() || tokens.size() > 2 || tokens.get(0).type != TokenType.NUMBER) {
+            return null;
+        }
+        if (tokens.size() == 2 && !tokens.get(1).is(TokenType.SEPARATOR, ".")) {
+            return null;
+        }
+        return tokens.get(0);
+    }
+
+    public static boolean containsType(List<Token> tokens, TokenType type) {
+        for (Token token : tokens) {
+            if (token.type == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipDigits(String input, int index) {
+        while (index < input.length() && isAsciiDigit(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isAsciiDigit(int codePoint) {
+        return codePoint >= '0' && codePoint <= '9';
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA || script == Character.UnicodeScript.HANGUL;
+    }
+
+    private static boolean isWordPart(int codePoint) {
+        if (Character.isLetterOrDigit(codePoint)) {
+            return !isAsciiDigit(codePoint) && !isCjk(codePoint);
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK || type == Character.ENCLOSING_MARK;
+    }
+}
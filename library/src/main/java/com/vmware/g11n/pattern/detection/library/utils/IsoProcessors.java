@@ -5,7 +5,6 @@
 
 package com.vmware.g11n.pattern.detection.library.utils;
 
-import com.google.common.collect.ImmutableMap;
 import com.vmware.g11n.pattern.detection.model.serviceData.LocalizedType;
 import com.vmware.g11n.pattern.detection.model.serviceData.ValidatedPattern;
 
@@ -15,7 +14,7 @@ import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.Map;
+import java.time.temporal.TemporalQuery;
 
 import static java.time.format.DateTimeFormatter.*;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
@@ -40,108 +39,125 @@ public class IsoProcessors {
     public static String ISO_ZONED_DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ssZZZZZ'['VV']'";
     public static String ISO_OFFSET_DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ssZZZZZ";
 
-    static Map<DateTimeFormatter, String> isoFormatsToMessagesMap = new ImmutableMap.Builder<DateTimeFormatter, String>()
-            .put(ISO_LOCAL_DATE, ISO_DATE_MESSAGE)
-            .put(ISO_LOCAL_DATE_TIME, ISO_DATE_TIME_MESSAGE)
-            .put(ISO_OFFSET_DATE_TIME, ISO_DATE_TIME_OFFSET_MESSAGE)
-            .put(ISO_ZONED_DATE_TIME, ISO_ZONED_DATE_MESSAGE)
-            .put(ISO_OFFSET_DATE, ISO_OFFSET_DATE_MESSAGE)
-            .put(ISO_OFFSET_TIME, ISO_OFFSET_TIME_MESSAGE)
-            .put(ISO_LOCAL_TIME, ISO_OFFSET_TIME_WITHOUT_SECONDS_MESSAGE)
-            .put(ISO_ORDINAL_DATE, ISO_ORDINAL_DATE_MESSAGE)
-            .build();
-
-    static Map<DateTimeFormatter, String> isoDateFormatsToPatternsMap = new ImmutableMap.Builder<DateTimeFormatter, String>()
-            .put(ISO_LOCAL_DATE, ISO_LOCAL_DATE_PATTERN)
-            .put(ISO_ORDINAL_DATE, ISO_ORDINAL_DATE_PATTERN)
-            .build();
-
-    static Map<DateTimeFormatter, String> isoDateTimeFormatsToPatternsMap = new ImmutableMap.Builder<DateTimeFormatter, String>()
-            .put(ISO_LOCAL_DATE_TIME, ISO_LOCAL_DATE_TIME_PATTERN)
-            .build();
-
-    static Map<DateTimeFormatter, String> isoTimeFormatsToPatternsMap = new ImmutableMap.Builder<DateTimeFormatter, String>()
-            .put(ISO_OFFSET_TIME, ISO_OFFSET_TIME_PATTERN)
-            .put(ISO_LOCAL_TIME, ISO_LOCAL_TIME_PATTERN)
-            .build();
-
-    static Map<DateTimeFormatter, String> isoZonedDateTimeFormatsToPatternsMap = new ImmutableMap.Builder<DateTimeFormatter, String>()
-            .put(ISO_OFFSET_DATE_TIME, ISO_OFFSET_DATE_TIME_PATTERN)
-            .put(ISO_ZONED_DATE_TIME, ISO_ZONED_DATE_TIME_PATTERN)
-            .put(ISO_OFFSET_DATE, ISO_OFFSET_DATE_PATTERN)
-            .build();
+    private static class IsoFormat {
+        final DateTimeFormatter formatter;
+        final String pattern;
+        final String message;
+        final LocalizedType localizedType;
+        // The type the input is resolved to, which rejects inputs with invalid values (example: 2022-02-30)
+        final TemporalQuery<?> query;
+
+        IsoFormat(DateTimeFormatter formatter, String pattern, String message, LocalizedType localizedType, TemporalQuery<?> query) {
+            this.formatter = formatter;
+            this.pattern = pattern;
+            this.message = message;
+            this.localizedType = localizedType;
+            this.query = query;
+        }
+    }
+
+    private static final IsoFormat LOCAL_DATE = new IsoFormat(ISO_LOCAL_DATE, ISO_LOCAL_DATE_PATTERN, ISO_DATE_MESSAGE,
+            LocalizedType.ISO_DATE, LocalDate::from);
+    private static final IsoFormat ORDINAL_DATE = new IsoFormat(ISO_ORDINAL_DATE, ISO_ORDINAL_DATE_PATTERN, ISO_ORDINAL_DATE_MESSAGE,
+            LocalizedType.ISO_DATE, LocalDate::from);
+    private static final IsoFormat LOCAL_DATE_TIME = new IsoFormat(ISO_LOCAL_DATE_TIME, ISO_LOCAL_DATE_TIME_PATTERN, ISO_DATE_TIME_MESSAGE,
+            LocalizedType.ISO_DATE_TIME, LocalDateTime::from);
+    private static final IsoFormat OFFSET_DATE_TIME = new IsoFormat(ISO_OFFSET_DATE_TIME, ISO_OFFSET_DATE_TIME_PATTERN, ISO_DATE_TIME_OFFSET_MESSAGE,
+            LocalizedType.ISO_DATE_TIME, ZonedDateTime::from);
+    private static final IsoFormat ZONED_DATE_TIME = new IsoFormat(ISO_ZONED_DATE_TIME, ISO_ZONED_DATE_TIME_PATTERN, ISO_ZONED_DATE_MESSAGE,
+            LocalizedType.ISO_DATE_TIME, ZonedDateTime::from);
+    private static final IsoFormat OFFSET_TIME = new IsoFormat(ISO_OFFSET_TIME, ISO_OFFSET_TIME_PATTERN, ISO_OFFSET_TIME_MESSAGE,
+            LocalizedType.ISO_TIME, LocalTime::from);
+    private static final IsoFormat LOCAL_TIME = new IsoFormat(ISO_LOCAL_TIME, ISO_LOCAL_TIME_PATTERN, ISO_OFFSET_TIME_WITHOUT_SECONDS_MESSAGE,
+            LocalizedType.ISO_TIME, LocalTime::from);
 
     public static ValidatedPattern detectPatternFromPredefinedIsoFormats(String input) {
-        DateTimeFormatter parsableFormatter = detectIsoDateFormatter(input);
-        if (parsableFormatter != null) {
-            return ValidatedPattern.builder().pattern(isoDateFormatsToPatternsMap.get(parsableFormatter)).localizedType(LocalizedType.ISO_DATE)
-                    .isStandardFormat(true).isValidDate(true).patternInfoMessage(isoFormatsToMessagesMap.get(parsableFormatter)).build();
+        IsoFormat isoFormat = classifyIsoInput(input);
+        if (isoFormat != null && isParsable(isoFormat, input)) {
+            return ValidatedPattern.builder().pattern(isoFormat.pattern).localizedType(isoFormat.localizedType)
+                    .isStandardFormat(true).isValidDate(true).patternInfoMessage(isoFormat.message).build();
         }
 
-        parsableFormatter = detectIsoDateTimeFormatter(input);
-        if (parsableFormatter != null) {
-            return ValidatedPattern.builder().pattern(isoDateTimeFormatsToPatternsMap.get(parsableFormatter)).localizedType(LocalizedType.ISO_DATE_TIME)
-                    .isStandardFormat(true).isValidDate(true).patternInfoMessage(isoFormatsToMessagesMap.get(parsableFormatter)).build();
-        }
+        return ValidatedPattern.builder().pattern(EMPTY).build();
+    }
 
-        parsableFormatter = detectIsoZonedDateTimeFormatter(input);
-        if (parsableFormatter != null) {
-            return ValidatedPattern.builder().pattern(isoZonedDateTimeFormatsToPatternsMap.get(parsableFormatter)).localizedType(LocalizedType.ISO_DATE_TIME)
-                    .isStandardFormat(true).isValidDate(true).patternInfoMessage(isoFormatsToMessagesMap.get(parsableFormatter)).build();
+    /*
+    Scans the input once and returns the only ISO format which can parse it, or null if none can. The date and time
+    fields are only checked for their shape, their values and the offset and zone are checked by parsing with the
+    returned format. An input is never parsable by more than one format: each of them requires a different layout
+    (yyyy-MM-dd, yyyy-DDD, HH:mm, with or without 'T', an offset or a '[zone]'). An ISO offset date (yyyy-MM-ddXXX) is
+    not a ZonedDateTime, so it is never detected.
+     */
+    private static IsoFormat classifyIsoInput(String input) {
+        int index = input.startsWith("+") || input.startsWith("-") ? 1 : 0;
+        int firstFieldEnd = skipDigits(input, index);
+        if (firstFieldEnd == input.length()) {
+            return null;
         }
 
-        parsableFormatter = detectIsoOffsetTimeFormatter(input);
-        if (parsableFormatter != null) {
-            return ValidatedPattern.builder().pattern(isoTimeFormatsToPatternsMap.get(parsableFormatter)).localizedType(LocalizedType.ISO_TIME)
-                    .isStandardFormat(true).isValidDate(true).patternInfoMessage(isoFormatsToMessagesMap.get(parsableFormatter)).build();
+        if (input.charAt(firstFieldEnd) == ':') {
+            // Time starting with the hours (HH:mm)
+            if (index != 0 || firstFieldEnd != 2) {
+                return null;
+            }
+            return containsOffset(input, firstFieldEnd) ? OFFSET_TIME : LOCAL_TIME;
         }
 
-        return ValidatedPattern.builder().pattern(EMPTY).build();
-    }
+        // Date starting with the year of at least 4 digits, followed by the day of year (DDD) or the month (MM-dd)
+        if (input.charAt(firstFieldEnd) != '-' || firstFieldEnd - index < 4) {
+            return null;
+        }
+        int secondFieldEnd = skipDigits(input, firstFieldEnd + 1);
+        if (secondFieldEnd - firstFieldEnd - 1 == 3) {
+            return ORDINAL_DATE;
+        }
+        if (secondFieldEnd - firstFieldEnd - 1 != 2 || secondFieldEnd == input.length() || input.charAt(secondFieldEnd) != '-') {
+            return null;
+        }
+        int dateEnd = skipDigits(input, secondFieldEnd + 1);
+        if (dateEnd - secondFieldEnd - 1 != 2) {
+            return null;
+        }
+        if (dateEnd == input.length()) {
+            return LOCAL_DATE;
+        }
 
-    private static DateTimeFormatter detectIsoDateFormatter(String input) {
-        return isoDateFormatsToPatternsMap.keySet().stream()
-                .filter(isoFormatter -> {
-                    try {
-                        return !LocalDate.parse(input, isoFormatter).toString().isEmpty();
-                    } catch (DateTimeParseException ignored) {
-                        return false;
-                    }
-                }).findFirst().orElse(null);
+        // Date followed by the time, an optional offset and an optional zone
+        if (input.charAt(dateEnd) != 'T' && input.charAt(dateEnd) != 't') {
+            return null;
+        }
+        if (input.indexOf('[', dateEnd) >= 0) {
+            return ZONED_DATE_TIME;
+        }
+        return containsOffset(input, dateEnd + 1) ? OFFSET_DATE_TIME : LOCAL_DATE_TIME;
     }
 
-    private static DateTimeFormatter detectIsoDateTimeFormatter(String input) {
-        return isoDateTimeFormatsToPatternsMap.keySet().stream()
-                .filter(isoFormatter -> {
-                    try {
-                        return !LocalDateTime.parse(input, isoFormatter).toString().isEmpty();
-                    } catch (DateTimeParseException ignored) {
-                        return false;
-                    }
-                }).findFirst().orElse(null);
+    private static boolean isParsable(IsoFormat isoFormat, String input) {
+        if (!ParseProbe.probe(isoFormat.formatter, input).parsed) {
+            return false;
+        }
+        try {
+            return isoFormat.formatter.parse(input, isoFormat.query) != null;
+        } catch (DateTimeParseException ignored) {
+            return false;
+        }
     }
 
-    private static DateTimeFormatter detectIsoZonedDateTimeFormatter(String input) {
-        return isoZonedDateTimeFormatsToPatternsMap.keySet().stream()
-                .filter(isoFormatter -> {
-                    try {
-                        return !ZonedDateTime.parse(input, isoFormatter).toString().isEmpty();
-                    } catch (DateTimeParseException ignored) {
-                        return false;
-                    }
-                })
-                .findFirst().orElse(null);
+    // The time fields are made of digits, ':' and '.', so any sign or 'Z' after the given index starts an offset
+    private static boolean containsOffset(String input, int index) {
+        for (int i = index; i < input.length(); i++) {
+            char current = input.charAt(i);
+            if (current == '+' || current == '-' || current == 'Z' || current == 'z') {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private static DateTimeFormatter detectIsoOffsetTimeFormatter(String input) {
-        return isoTimeFormatsToPatternsMap.keySet().stream()
-                .filter(isoFormatter -> {
-                    try {
-                        return !LocalTime.parse(input, isoFormatter).toString().isEmpty();
-                    } catch (DateTimeParseException ignored) {
-                        return false;
-                    }
-                })
-                .findFirst().orElse(null);
+    private static int skipDigits(String input, int index) {
+        while (index < input.length() && input.charAt(index) >= '0' && input.charAt(index) <= '9') {
+            index++;
+        }
+        return index;
     }
 }
@@ -8,11 +8,18 @@ package com.vmware.g11n.pattern.detection.library.utils;
 import com.google.common.collect.ImmutableMap;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
+/*
+The numeric, time and offset shapes are checked char by char instead of with regexes: they are tested for every
+component of every input, and a Matcher (plus the Pattern compiled on each call) costs far more than the check itself.
+Each classifier accepts exactly what the regex in its comment accepts, with '$' meaning the end of the input like in the
+token checks of PatternBuilders: a trailing line terminator is not accepted.
+ */
 public class Matchers {
 
     public static ImmutableMap<String, String> formattedTimePatternsToRegexMap = ImmutableMap.<String, String>builder()
@@ -29,33 +36,51 @@ public class Matchers {
             .put("H:mm", "(2[0-3]|[01]?[0-9]):([0-5]?[0-9])")
             .build();
 
-    public static String detectDayOfMonthAndGetMatchedGroup(String input) {
-        Pattern p = Pattern.compile("^(([0]{0,3}[1-9])|([0]{0,2}[1-2][0-9])|([0]{0,2}3[01]))\\.?$");
-        Matcher m = p.matcher(input);
-
-        return m.find() ? m.group() : EMPTY;
-    }
-
-    public static String detectYearAndGetMatchedGroup(String input) {
-        Pattern p = Pattern.compile("^[12][0-9]{3}\\.?$");
-        Matcher m = p.matcher(input);
-
-        return m.find() ? m.group() : EMPTY;
-    }
+    /*
+    The time regexes above as colon separated fields. Each field lists its alternatives in the order the regex tries them,
+    and each alternative is a fixed sequence of digit ranges written as "<lowest><highest>" (example: [0-5]?[0-9] is
+    tried as "0509" first and as "09" after). The fields are matched with the same backtracking as the regex, so the
+    first match found is the one Matcher.find returns.
+     */
+    private static final String[] HOUR_12_PADDED = {"1102", "0019"};
+    private static final String[] HOUR_12 = {"1102", "19"};
+    private static final String[] HOUR_24_PADDED = {"2203", "0109"};
+    private static final String[] HOUR_24 = {"2203", "0109", "09"};
+    private static final String[] MINUTES_PADDED = {"0509"};
+    private static final String[] MINUTES = {"0509", "09"};
+
+    private static final Map<String, String[][]> timeFieldsByPattern = ImmutableMap.<String, String[][]>builder()
+            .put("hh:mm:ss", new String[][]{HOUR_12_PADDED, MINUTES, MINUTES})
+            .put("h:mm:ss", new String[][]{HOUR_12, MINUTES_PADDED, MINUTES})
+            .put("hh:mm", new String[][]{HOUR_12_PADDED, MINUTES})
+            .put("h:mm", new String[][]{HOUR_12, MINUTES_PADDED})
+            .put("HH:mm:ss", new String[][]{HOUR_24_PADDED, MINUTES_PADDED, MINUTES})
+            .put("H:mm:ss", new String[][]{HOUR_24, MINUTES, MINUTES})
+            .put("HH:mm", new String[][]{HOUR_24_PADDED, MINUTES_PADDED})
+            .put("H:mm", new String[][]{HOUR_24, MINUTES})
+            .build();
 
-    public static String detectMonthAndGetMatchedGroup(String input) {
-        Pattern p = Pattern.compile("^(1[0-2]|[1-9])\\.?$");
-        Matcher m = p.matcher(input);
+    // Regexes of time maps other than the two above, compiled once
+    private static final Map<String, Pattern> compiledTimeRegexes = new ConcurrentHashMap<>();
 
-        return m.find() ? m.group() : EMPTY;
-    }
+    private static final String TRIMMED_COMPONENT_CHARS = ",[]()";
 
     public static String getMatchedTimeOrPattern(String input, Map<String, String> timePatterns, boolean returnPattern) {
         for (Map.Entry<String, String> entry : timePatterns.entrySet()) {
-            Pattern pattern = Pattern.compile(entry.getValue());
-            Matcher m = pattern.matcher(input);
-            if (m.find()) {
-                return returnPattern ? entry.getKey() : m.group();
+            String[][] timeFields = timeFieldsByPattern.get(entry.getKey());
+            if (timeFields == null || !isTimeRegex(entry)) {
+                Matcher m = compiledTimeRegexes.computeIfAbsent(entry.getValue(), Pattern::compile).matcher(input);
+                if (m.find()) {
+                    return returnPattern ? entry.getKey() : m.group();
+                }
+                continue;
+            }
+
+            for (int start = 0; start < input.length(); start++) {
+                int end = matchTimeFields(input, start, timeFields, 0);
+                if (end >= 0) {
+                    return returnPattern ? entry.getKey() : input.substring(start, end);
+                }
             }
         }
         return EMPTY;
@@ -63,94 +88,180 @@ public class Matchers {
 
     //TODO: add support for combined chars. Example input: "[Element-to-be-trimmed],"
     public static String getTrimmedComponent(String input) {
-        Pattern pattern = Pattern.compile("([,\\[\\])(])");
-        Matcher m = pattern.matcher(input);
-
-        while (m.find()) {
-            String matchedChar = m.group();
-            if (input.startsWith(matchedChar) || input.endsWith(matchedChar)) {
-                input = input.replace(matchedChar, "");
+        String trimmedInput = input;
+        for (int i = 0; i < input.length(); i++) {
+            char current = input.charAt(i);
+            if (TRIMMED_COMPONENT_CHARS.indexOf(current) >= 0 && !trimmedInput.isEmpty()
+                    && (trimmedInput.charAt(0) == current || trimmedInput.charAt(trimmedInput.length() - 1) == current)) {
+                trimmedInput = trimmedInput.replace(String.valueOf(current), "");
             }
         }
 
-        return input;
+        return trimmedInput;
     }
 
+    // ^GMT[+-]([1-9]|1[0-2])$
     public static boolean detectShortGmtFormat(String input) {
-        Pattern p = Pattern.compile("^GMT[+-]([1-9]|1[0-2])$");
-        Matcher m = p.matcher(input);
-
-        return m.find();
+        int end = input.length();
+        if (!input.startsWith("GMT") || end < 5 || end > 6 || !isSign(input.charAt(3)) || input.charAt(4) == '0') {
+            return false;
+        }
+        int hours = parseDigits(input, 4, end);
+        return hours >= 1 && hours <= 12;
     }
 
+    // ^GMT[+-](1[0-2]|0[0-9]):(0[0-9]|[1-5][0-9])$
     public static boolean detectLongGmtFormat(String input) {
-        Pattern p = Pattern.compile("^GMT[+-](1[0-2]|0[0-9]):(0[0-9]|[1-5][0-9])$");
-        Matcher m = p.matcher(input);
-
-        return m.find();
+        int end = input.length();
+        return input.startsWith("GMT") && end == 9 && isSign(input.charAt(3)) && isHoursAndMinutes(input, 4, true);
     }
 
+    // ^[+-](1[0-2]|0[0-9])(0[0-9]|[1-5][0-9])$
     public static boolean detectBasicHmsFormat(String input) {
-        Pattern p = Pattern.compile("^[+-](1[0-2]|0[0-9])(0[0-9]|[1-5][0-9])$");
-        Matcher m = p.matcher(input);
-
-        return m.find();
+        int end = input.length();
+        return end == 5 && isSign(input.charAt(0)) && isHoursAndMinutes(input, 1, false);
     }
 
+    // ^[+-](1[0-2]|0[0-9]):(0[0-9]|[1-5][0-9])$
     public static boolean detectExtendedHmsFormat(String input) {
-        Pattern p = Pattern.compile("^[+-](1[0-2]|0[0-9]):(0[0-9]|[1-5][0-9])$");
-        Matcher m = p.matcher(input);
-
-        return m.find();
+        int end = input.length();
+        return end == 6 && isSign(input.charAt(0)) && isHoursAndMinutes(input, 1, true);
     }
 
+    // ^([1-5][0-9]|[0-9])$
     public static boolean detectMinutesOrSecondsStandaloneShortFormat(String input) {
-        Pattern p = Pattern.compile("^([1-5][0-9]|[0-9])$");
-        Matcher m = p.matcher(input);
-
-        return m.find();
+        int end = input.length();
+        int value = parseDigits(input, 0, end);
+        return end == 1 ? value >= 0 : end == 2 && value >= 10 && value <= 59;
     }
 
+    // ^(0[0-9]|[1-5][0-9])$
     public static boolean detectMinutesOrSecondsStandaloneLongFormat(String input) {
-        Pattern p = Pattern.compile("^(0[0-9]|[1-5][0-9])$");
-        Matcher m = p.matcher(input);
-
-        return m.find();
+        int end = input.length();
+        int value = parseDigits(input, 0, end);
+        return end == 2 && value >= 0 && value <= 59;
     }
 
+    // ^(1[0-2]|[0-9])$
     public static boolean detectHoursShortStandaloneFormat(String input) {
-        Pattern p = Pattern.compile("^(1[0-2]|[0-9])$");
-        Matcher m = p.matcher(input);
-
-        return m.find();
+        int end = input.length();
+        int value = parseDigits(input, 0, end);
+        return end == 1 ? value >= 0 : end == 2 && value >= 10 && value <= 12;
     }
 
+    // ^(1[0-2]|0[0-9])$
     public static boolean detectHoursLongStandaloneFormat(String input) {
-        Pattern p = Pattern.compile("^(1[0-2]|0[0-9])$");
-        Matcher m = p.matcher(input);
-
-        return m.find();
+        int end = input.length();
+        int value = parseDigits(input, 0, end);
+        return end == 2 && value >= 0 && value <= 12;
     }
 
+    // '.*?'\.?
     public static String detectSingleQuotationWordsAndGetMatchedGroup(String input) {
-        Pattern p = Pattern.compile("'.*?'\\.?");
-        Matcher m = p.matcher(input);
-
-        if (m.find()) {
-            return m.group();
-        } else {
-            return EMPTY;
+        int start = input.indexOf('\'');
+        while (start >= 0) {
+            int end = start + 1;
+            while (end < input.length() && input.charAt(end) != '\'' && !isLineTerminator(input.charAt(end))) {
+                end++;
+            }
+            if (end < input.length() && input.charAt(end) == '\'') {
+                end++;
+                return input.substring(start, end < input.length() && input.charAt(end) == '.' ? end + 1 : end);
+            }
+            start = input.indexOf('\'', start + 1);
         }
+        return EMPTY;
     }
 
+    // [./\-,]
     public static String detectDateCharacterSeparatorAndGetMatchedGroup(String input) {
-        Pattern p = Pattern.compile("[./\\-,]");
-        Matcher m = p.matcher(input);
+        for (int i = 0; i < input.length(); i++) {
+            switch (input.charAt(i)) {
+                case '.':
+                    return ".";
+                case '/':
+                    return "/";
+                case '-':
+                    return "-";
+                case ',':
+                    return ",";
+                default:
+                    break;
+            }
+        }
+        return EMPTY;
+    }
 
-        if (m.find()) {
-            return m.group();
-        } else {
-            return EMPTY;
+    private static boolean isTimeRegex(Map.Entry<String, String> entry) {
+        // Only the regexes of the two maps above are known to match the hand-written fields
+        return entry.getValue().equals(formattedTimePatternsToRegexMap.get(entry.getKey()))
+                || entry.getValue().equals(standaloneTimePatternsToRegexMap.get(entry.getKey()));
+    }
+
+    // Returns the end of the match of the fields starting at the given index, or -1 if they don't match there
+    private static int matchTimeFields(String input, int index, String[][] timeFields, int field) {
+        if (field == timeFields.length) {
+            return index;
+        }
+        if (field > 0) {
+            if (index >= input.length() || input.charAt(index) != ':') {
+                return -1;
+            }
+            index++;
+        }
+        for (String alternative : timeFields[field]) {
+            int alternativeEnd = matchDigitRanges(input, index, alternative);
+            if (alternativeEnd >= 0) {
+                int end = matchTimeFields(input, alternativeEnd, timeFields, field + 1);
+                if (end >= 0) {
+                    return end;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int matchDigitRanges(String input, int index, String digitRanges) {
+        for (int i = 0; i < digitRanges.length(); i += 2, index++) {
+            if (index >= input.length() || input.charAt(index) < digitRanges.charAt(i) || input.charAt(index) > digitRanges.charAt(i + 1)) {
+                return -1;
+            }
         }
+        return index;
+    }
+
+    // Two digit hours 00-12 followed by two digit minutes 00-59, separated by a colon if required
+    private static boolean isHoursAndMinutes(String input, int index, boolean colonSeparated) {
+        int minutesIndex = colonSeparated ? index + 3 : index + 2;
+        if (colonSeparated && input.charAt(index + 2) != ':') {
+            return false;
+        }
+        int hours = parseDigits(input, index, index + 2);
+        int minutes = parseDigits(input, minutesIndex, minutesIndex + 2);
+        return hours >= 0 && hours <= 12 && minutes >= 0 && minutes <= 59;
+    }
+
+    // Returns the value of the ASCII digits between the indexes, or -1 if there are none, other chars or more than 9
+    private static int parseDigits(String input, int start, int end) {
+        if (start >= end || end - start > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char current = input.charAt(i);
+            if (current < '0' || current > '9') {
+                return -1;
+            }
+            value = value * 10 + (current - '0');
+        }
+        return value;
+    }
+
+    private static boolean isLineTerminator(char current) {
+        return current == '\n' || current == '\r' || current == '\u0085' || current == '\u2028' || current == '\u2029';
+    }
+
+    private static boolean isSign(char current) {
+        return current == '+' || current == '-';
     }
 }
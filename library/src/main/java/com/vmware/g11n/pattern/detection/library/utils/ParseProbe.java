@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.ibm.icu.text.SimpleDateFormat;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+
+/*
+Checks whether an input can be parsed by a formatter without throwing on failure. Most candidate patterns don't match
+the input, and a DateTimeParseException (with its stack trace) for each of them costs more than the parsing itself.
+Only the text is parsed, the fields are not resolved: a successful probe can still fail on resolving (e.g. a day of week
+conflicting with the date), so the surviving candidates are parsed fully to get the value or the conflict.
+ */
+public class ParseProbe {
+
+    public final boolean parsed;
+    // Index of the first char which couldn't be parsed, -1 if the whole input was parsed
+    public final int errorIndex;
+
+    private ParseProbe(boolean parsed, int errorIndex) {
+        this.parsed = parsed;
+        this.errorIndex = errorIndex;
+    }
+
+    // Succeeds exactly when DateTimeFormatter.parse doesn't fail with a "could not be parsed" error
+    public static ParseProbe probe(DateTimeFormatter formatter, String input) {
+        ParsePosition position = new ParsePosition(0);
+        try {
+            if (formatter.parseUnresolved(input, position) == null || position.getErrorIndex() >= 0) {
+                return new ParseProbe(false, Math.max(position.getErrorIndex(), 0));
+            }
+        } catch (DateTimeException e) {
+            // Thrown by some field parsers for out of range values (example: offset +25:00), parse wraps it as a parse error
+            return new ParseProbe(false, position.getIndex());
+        }
+        if (position.getIndex() < input.length()) {
+            return new ParseProbe(false, position.getIndex());
+        }
+        return new ParseProbe(true, -1);
+    }
+
+    // Succeeds exactly when SimpleDateFormat.parse(String) doesn't throw a ParseException
+    public static ParseProbe probe(SimpleDateFormat format, String input) {
+        ParsePosition position = new ParsePosition(0);
+        if (format.parse(input, position) == null || position.getIndex() == 0) {
+            return new ParseProbe(false, Math.max(position.getErrorIndex(), 0));
+        }
+        return new ParseProbe(true, -1);
+    }
+}
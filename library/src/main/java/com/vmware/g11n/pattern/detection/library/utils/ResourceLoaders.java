@@ -9,30 +9,27 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.vmware.g11n.pattern.detection.library.data.CldrMappers;
 import com.vmware.g11n.pattern.detection.library.exceptions.DateTimePatternDetectionException;
+import com.vmware.g11n.pattern.detection.library.services.CldrService;
 import com.vmware.g11n.pattern.detection.model.CldrData;
 import com.vmware.g11n.pattern.detection.model.calendar.GregorianCalendar;
 import com.vmware.g11n.pattern.detection.model.dateFields.DateFields;
 import com.vmware.g11n.pattern.detection.model.timezones.TimezoneNames;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
-import org.json.JSONObject;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Locale;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.NOT_SUPPORTED_LOCALE_ERROR;
 
@@ -57,6 +54,11 @@ public class ResourceLoaders {
         }
     }
 
+    // Same as generateCldrData, but reads an already downloaded CLDR JSON zip
+    public void generateCldrData(String cldrVersion, String cldrJsonZipPath, List<String> locales) throws IOException {
+        generateCldrJsonResources(Path.of(cldrJsonZipPath), cldrVersion, locales);
+    }
+
     public void saveYamlToFile(final Object object) {
         final DumperOptions options = new DumperOptions();
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
@@ -72,11 +74,51 @@ public class ResourceLoaders {
         }
     }
 
+    // Returns the shared, cached CLDR data for the locale. See CldrDataRegistry.
     public static CldrData loadCldrData(Locale locale) {
+        return CldrDataRegistry.getCldrData(locale);
+    }
+
+    // Prefers the binary snapshot generated at build time and falls back to the JSON resources when it's missing or stale
+    static CldrData readCldrData(Locale locale) {
+        CldrData cldrData = readCldrSnapshot(locale);
+        return cldrData != null ? cldrData : readCldrJson(locale);
+    }
+
+    public static void generateCldrSnapshots(String outputDirectory, String cldrVersion, List<String> locales) throws IOException {
+        for (String locale : locales) {
+            Locale providedLocale = Locale.forLanguageTag(locale);
+            Path snapshotPath = Paths.get(outputDirectory, getCldrResourceDirectory(providedLocale), CldrSnapshots.SNAPSHOT_FILE_NAME);
+
+            Files.createDirectories(snapshotPath.getParent());
+            Files.write(snapshotPath, CldrSnapshots.writeSnapshot(readCldrJson(providedLocale), cldrVersion));
+        }
+    }
+
+    private static CldrData readCldrSnapshot(Locale locale) {
+        try (InputStream snapshot = CldrMappers.class.getClassLoader()
+                .getResourceAsStream(getCldrResourceDirectory(locale) + CldrSnapshots.SNAPSHOT_FILE_NAME)) {
+            if (snapshot == null) {
+                return null;
+            }
+            return CldrSnapshots.readSnapshot(ByteBuffer.wrap(snapshot.readAllBytes()), new CldrService().getBundledCldrVersion());
+        } catch (IOException | RuntimeException e) {
+            // A damaged snapshot is not fatal as the JSON resources are still available
+            return null;
+        }
+    }
+
+    private static String getCldrResourceDirectory(Locale locale) {
+        String[] components = locale.toLanguageTag().split("-", 2);
+        return "cldr/" + components[0] + "/" + components[1] + "/";
+    }
+
+    // The calendar is read right away, so unsupported locales still fail on load
+    private static CldrData readCldrJson(Locale locale) {
         return CldrData.builder()
                 .gregorianCalendar(getGregorianCalendarFromResources(locale))
-                .dateFields(getDateFieldsFromResources(locale))
-                .timezoneNames(getCldrDateTimezoneFields(locale))
+                .dateFields(() -> getDateFieldsFromResources(locale))
+                .timezoneNames(() -> getCldrDateTimezoneFields(locale))
                 .build();
     }
 
@@ -131,129 +173,17 @@ public class ResourceLoaders {
         return timezones;
     }
 
-    private static void generateCalendarDatesJson(String path, List<String> locales) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        for (String locale : locales) {
-            String localeDirectory = loadCldrDirectoryLocale(locale);
-
-            JSONObject cldrFullDateFieldsAsJson = new JSONObject(IOUtils.toString(new FileInputStream(path + "/cldr-dates-full/main/"
-                    + localeDirectory + "/ca-gregorian.json"))).getJSONObject("main").getJSONObject(localeDirectory)
-                    .getJSONObject("dates").getJSONObject("calendars").getJSONObject("gregorian");
-
-            String dirPath = createJsonResourceDirectory(locale);
-            mapper.writerWithDefaultPrettyPrinter().writeValue(new File(dirPath + "dates-full.json"),
-                    mapper.readValue(cldrFullDateFieldsAsJson.toString(), GregorianCalendar.class));
-        }
-    }
-
-    private static void generateDateFields(String path, List<String> locales) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        for (String locale : locales) {
-            String localeDirectory = loadCldrDirectoryLocale(locale);
-
-            JSONObject cldrFullDateFieldsAsJson = new JSONObject(IOUtils.toString(new FileInputStream(path + "/cldr-dates-full/main/"
-                    + localeDirectory + "/dateFields.json"))).getJSONObject("main").getJSONObject(localeDirectory)
-                    .getJSONObject("dates").getJSONObject("fields");
-
-            String dirPath = createJsonResourceDirectory(locale);
-            mapper.writerWithDefaultPrettyPrinter().writeValue(new File(dirPath + "date-fields.json"),
-                    mapper.readValue(cldrFullDateFieldsAsJson.toString(), DateFields.class));
-        }
-    }
-
-    private static void generateTimezoneJson(String path, List<String> locales) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        for (String locale : locales) {
-            String localeDirectory = loadCldrDirectoryLocale(locale);
-
-            JSONObject cldrFullDateFieldsAsJson = new JSONObject(IOUtils.toString(new FileInputStream(path + "/cldr-dates-full/main/"
-                    + localeDirectory + "/timeZoneNames.json"))).getJSONObject("main").getJSONObject(localeDirectory)
-                    .getJSONObject("dates").getJSONObject("timeZoneNames");
-
-            String dirPath = createJsonResourceDirectory(locale);
-            mapper.writerWithDefaultPrettyPrinter().writeValue(new File(dirPath + "timezone-fields.json"),
-                    mapper.readValue(cldrFullDateFieldsAsJson.toString(), TimezoneNames.class));
-        }
-    }
-
-    /*
-    By default, the downloaded CLDR zip hosts all Json data in locale-specific directories. Some of those repositories
-    are named with locale name + equal region, others are just locale and third are locale + different region. Because of this,
-    We need logic to determine the correct directory name which we should access
-     */
-    private static String loadCldrDirectoryLocale(String locale) {
-        if (!standardLocalesToCldrNamingLocales.containsKey(locale)) {
-            String[] components = locale.split("-", 2);
-            String language = components[0];
-            String region = components[1];
-
-            if (language.equalsIgnoreCase(region)) {
-                return language;
-            }
-        }
-        return standardLocalesToCldrNamingLocales.getOrDefault(locale, locale);
-    }
-
     private static void downloadAndGenerateCldrJsonResources(String cldrVersion, List<String> locales) throws IOException {
-        String unzippedCldrDir = System.getProperty("java.io.tmpdir") + "/cldr-data-" + cldrVersion;
-        unzipFolder(downloadFileToTempDirectory(cldrVersion), Path.of(unzippedCldrDir));
-
-        generateCalendarDatesJson(unzippedCldrDir, locales);
-        generateDateFields(unzippedCldrDir, locales);
-        generateTimezoneJson(unzippedCldrDir, locales);
-    }
-
-    private static String createJsonResourceDirectory(String locale) throws IOException {
-        String[] components = locale.split("-", 2);
-        String language = components[0];
-        String region = components[1];
-
-        String dirPath = "library/src/main/resources/cldr/" + language + "/" + region + "/";
-        Files.createDirectories(Paths.get(dirPath));
-
-        return dirPath;
-    }
-
-    private static void unzipFolder(File source, Path target) throws IOException {
-        try (ZipInputStream zis = new ZipInputStream(new FileInputStream(source))) {
-            ZipEntry zipEntry = zis.getNextEntry();
-            while (zipEntry != null) {
-
-                if (zipEntry.getName().contains("LICENSE")) {
-                    zipEntry = zis.getNextEntry();
-                }
-
-                boolean isDirectory = zipEntry.getName().endsWith(File.separator);
-
-                Path newPath = zipSlipProtect(zipEntry, target);
-
-                if (isDirectory) {
-                    Files.createDirectories(newPath);
-                } else {
-                    if (newPath.getParent() != null) {
-                        if (Files.notExists(newPath.getParent())) {
-                            Files.createDirectories(newPath.getParent());
-                        }
-                    }
-
-                    // copy files, nio
-                    Files.copy(zis, newPath, StandardCopyOption.REPLACE_EXISTING);
-                }
-                zipEntry = zis.getNextEntry();
-            }
-            zis.closeEntry();
+        File cldrJsonZip = downloadFileToTempDirectory(cldrVersion);
+        if (cldrJsonZip == null) {
+            throw new IOException("Can't download CLDR version " + cldrVersion);
         }
+        generateCldrJsonResources(cldrJsonZip.toPath(), cldrVersion, locales);
     }
 
-    // protect zip slip attack
-    private static Path zipSlipProtect(ZipEntry zipEntry, Path targetDir) throws IOException {
-        Path targetDirResolved = targetDir.resolve(zipEntry.getName());
-        Path normalizePath = targetDirResolved.normalize();
-        if (!normalizePath.startsWith(targetDir)) {
-            throw new IOException("Bad zip entry: " + zipEntry.getName());
-        }
-
-        return normalizePath;
+    private static void generateCldrJsonResources(Path cldrJsonZip, String cldrVersion, List<String> locales) throws IOException {
+        CldrResourceGenerator.writeCldrResources(CldrResourceGenerator.readCldrZip(cldrJsonZip, cldrVersion, locales),
+                Paths.get("library/src/main/resources"));
     }
 
     private static File downloadFileToTempDirectory(String cldrVersion) {
@@ -5,10 +5,12 @@
 
 package com.vmware.g11n.pattern.detection.library.utils;
 
+import com.vmware.g11n.pattern.detection.library.data.PhraseTrie;
 import com.vmware.g11n.pattern.detection.library.exceptions.DateTimePatternDetectionException;
 import com.vmware.g11n.pattern.detection.model.CldrData;
 import org.apache.commons.lang3.LocaleUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -16,41 +18,50 @@ import java.util.Locale;
 
 import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.INVALID_LOCALE_ERROR;
 import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.serviceSpecialLocaleFormats;
-import static org.apache.commons.lang3.StringUtils.EMPTY;
-import static org.apache.commons.lang3.StringUtils.join;
 
 
 public class UserInputProcessors {
 
     public static LinkedList<String> splitInputString(String input, CldrData cldrData) {
-        LinkedList<String> orderedList = new LinkedList<>(Arrays.asList(input.split(" ")));
+        List<String> words = Arrays.asList(input.split(" "));
 
-        if (orderedList.size() == 1) {
-            return orderedList;
+        if (words.size() == 1) {
+            return new LinkedList<>(words);
         }
 
-        // Check if the input contains timezone components which need to be counted as 1 component (example: Los Angeles)
-        combineSpacedTimezoneElementsFromList(orderedList, cldrData);
-
-        // Check if the input contains relative-time components which need to be counted as 1 component (example: next week)
-        combineSpacedRelativeTimeElementsFromList(orderedList, cldrData);
-
-        // Check if input contains day period components which need to be counted as 1 component (example: this morning)
-        // TODO: add support for case insensitive period
-        combineTimeAndDayPeriodElementsFromList(orderedList, cldrData);
-
-        return orderedList;
-    }
-
-    private static void combineSpacedRelativeTimeElementsFromList(LinkedList<String> orderedList, CldrData cldrData) {
-        String relativePeriod = CldrProcessors.detectAnyRelativeTime(join(orderedList, " "), cldrData);
+        // Combine the timezone (example: Los Angeles), relative-time (example: next week) and day period (example:
+        // in the morning) words into 1 component in one pass, preferring the longest phrase starting at each word
+        PhraseTrie phraseTrie = PhraseTrie.forCldrData(cldrData);
+        List<String> components = new ArrayList<>(words.size());
+        List<Boolean> dayPeriodComponents = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            PhraseTrie.Match match = phraseTrie.getLongestMatch(words, i);
+            if (match == null) {
+                components.add(words.get(i));
+                dayPeriodComponents.add(false);
+            } else {
+                components.add(match.phrase);
+                dayPeriodComponents.add(match.dayPeriod);
+                i = match.end;
+            }
+        }
 
-        if (relativePeriod.isEmpty()) {
-            return;
+        // Combine each day period with the time before it, or with the time after it (example: 7:33:00 PM)
+        LinkedList<String> orderedList = new LinkedList<>();
+        for (int i = 0; i < components.size(); i++) {
+            String component = components.get(i);
+            if (!dayPeriodComponents.get(i)) {
+                orderedList.add(component);
+            } else if (!orderedList.isEmpty() && isFormattedTime(orderedList.getLast())) {
+                orderedList.add(orderedList.removeLast() + " " + component);
+            } else if (i < components.size() - 1 && isFormattedTime(components.get(i + 1))) {
+                orderedList.add(component + " " + components.get(++i));
+            } else {
+                orderedList.add(component);
+            }
         }
 
-        // Combine the relative period sub-components into 1 (example: 'last friday')
-        combineElementsFromListBySeparator(relativePeriod, orderedList, " ");
+        return orderedList;
     }
 
     public static Locale verifyAndLoadLocale(String locale) {
@@ -63,63 +74,33 @@ public class UserInputProcessors {
         return providedLocale;
     }
 
+    // Trims the input, collapses repeated spaces and removes the spaces before commas in one pass
     public static String trimInput(String input) {
-        String trimmedInput = input.trim().replaceAll(" +", " ");
-        trimmedInput = trimmedInput.replaceAll(" ,", ",");
-
-        return trimmedInput;
-    }
-
-    private static void combineSpacedTimezoneElementsFromList(LinkedList<String> orderedList, CldrData cldrData) {
-        String zoneWithSpacings = CldrProcessors.detectTimezonesWithSpacings(join(orderedList, " "), cldrData);
-        if (!zoneWithSpacings.isEmpty()) {
-            List<String> zoneElements = Arrays.stream(zoneWithSpacings.split(" ")).toList();
-            orderedList.set(orderedList.indexOf(zoneElements.get(0)), zoneWithSpacings);
-            orderedList.removeAll(zoneElements);
+        String trimmedInput = input.trim();
+        StringBuilder builder = new StringBuilder(trimmedInput.length());
+        for (int i = 0; i < trimmedInput.length(); i++) {
+            char current = trimmedInput.charAt(i);
+            if (current != ' ') {
+                builder.append(current);
+            } else if (trimmedInput.charAt(i + 1) != ' ' && trimmedInput.charAt(i + 1) != ',') {
+                builder.append(current);
+            }
         }
 
+        return builder.toString();
     }
 
-    private static void combineTimeAndDayPeriodElementsFromList(LinkedList<String> orderedList, CldrData cldrData) {
-        String dayPeriod = CldrProcessors.detectAnyDayPeriod(join(orderedList, " "), cldrData);
-        if (dayPeriod.isEmpty()) {
-            return;
-        }
-
-        // Combine the time period sub-components into 1 (example: 'in the morning' - split by spacing and p. m. - split by NBSP
-        combineElementsFromListBySeparator(dayPeriod, orderedList, " ");
-        combineElementsFromListBySeparator(dayPeriod, orderedList, "\u00A0");
-
-        // Match the time period from the newly ordered list as it may contain special characters
-        String matchedDayPeriodFromList = orderedList.stream().filter(i ->
-                i.matches("^" + dayPeriod + "[,.]?$")).findFirst().orElse(EMPTY);
-        int indexOfDayPeriod = orderedList.indexOf(matchedDayPeriodFromList);
-
-        // If period of day is present, check if previous or next element is valid time and combine into 1 element
-        if (indexOfDayPeriod == -1) {
-            return;
-        }
-
-        boolean doesPreviousElementMatchesTime = indexOfDayPeriod > 0
-                && !Matchers.getMatchedTimeOrPattern(orderedList.get(indexOfDayPeriod - 1), Matchers.formattedTimePatternsToRegexMap, false).isBlank() ;
-        boolean doesNextElementMatchesTime = indexOfDayPeriod < orderedList.size() - 1 && !Matchers.getMatchedTimeOrPattern(orderedList.get(indexOfDayPeriod + 1), Matchers.formattedTimePatternsToRegexMap, false).isBlank();
-
-        if (doesPreviousElementMatchesTime) {
-            orderedList.set(indexOfDayPeriod - 1, orderedList.get(indexOfDayPeriod - 1) + " " + matchedDayPeriodFromList);
-            orderedList.remove(indexOfDayPeriod);
-        }
-        else if (doesNextElementMatchesTime) {
-            orderedList.set(indexOfDayPeriod + 1, matchedDayPeriodFromList + " " + orderedList.get(indexOfDayPeriod + 1));
-            orderedList.remove(indexOfDayPeriod);
-        }
-
+    /*
+    Maps the input to a key which is equal for two strings exactly when String.equalsIgnoreCase considers them equal,
+    so case-insensitive lookups can use hashing.
+     */
+    public static String foldCase(String input) {
+        StringBuilder folded = new StringBuilder(input.length());
+        input.codePoints().forEach(codePoint -> folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
     }
 
-    private static void combineElementsFromListBySeparator(String elementToCombine, List<String> orderedList, String separator) {
-        if (elementToCombine.contains(separator)) {
-            List<String> elementsFromSeparator = Arrays.stream(elementToCombine.split(separator)).toList();
-            orderedList.set(orderedList.indexOf(elementsFromSeparator.get(0)), elementToCombine);
-            orderedList.removeAll(elementsFromSeparator);
-        }
+    private static boolean isFormattedTime(String component) {
+        return !Matchers.getMatchedTimeOrPattern(component, Matchers.formattedTimePatternsToRegexMap, false).isBlank();
     }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.vmware.g11n.pattern.detection.library.services.ValidatorService;
+import com.vmware.g11n.pattern.detection.library.utils.CldrDataRegistry;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// The expected results of a locale detection: every supported locale validated on its own, without skipping any
+class LocaleDetectionOracle {
+
+    private static final ValidatorService validatorService = new ValidatorService();
+
+    // The results by locale tag, in the order of the supported locales
+    static Map<String, ValidationResult> validateInEveryLocale(String input) {
+        Map<String, ValidationResult> results = new LinkedHashMap<>();
+        for (String locale : CldrDataRegistry.getSupportedLocales()) {
+            ValidationResult result = validatorService.validateInput(input, locale);
+            if (result.isLocalizedContent) {
+                results.put(locale, result);
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vmware.g11n.pattern.detection.library.utils.CldrDataRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.Character.UnicodeScript;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.vmware.g11n.pattern.detection.library.utils.ResourceLoaders.loadCldrData;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleScriptIndexTest {
+
+    @Test
+    void verifyOnlyDistinctiveScriptsAreKept() {
+        assertEquals(Set.of(), LocaleScriptIndex.getDistinctiveScripts("Monday 7:33:00 PM GMT+3"));
+        assertEquals(Set.of(UnicodeScript.HANGUL), LocaleScriptIndex.getDistinctiveScripts("2016년 9월 1일 목요일"));
+        assertEquals(Set.of(UnicodeScript.HAN, UnicodeScript.HIRAGANA), LocaleScriptIndex.getDistinctiveScripts("2022年3月5日午後3:00 です"));
+        assertEquals(Set.of(UnicodeScript.CYRILLIC), LocaleScriptIndex.getDistinctiveScripts("9 февраля 2022 г. UTC"));
+    }
+
+    @Test
+    void verifyLocalesUseTheirLikelyScripts() {
+        Set<UnicodeScript> hangul = Set.of(UnicodeScript.HANGUL);
+        assertTrue(LocaleScriptIndex.forLocale(Locale.KOREA).usesAll(hangul));
+        assertFalse(LocaleScriptIndex.forLocale(Locale.JAPAN).usesAll(hangul));
+        assertFalse(LocaleScriptIndex.forLocale(Locale.US).usesAll(hangul));
+        assertTrue(LocaleScriptIndex.forLocale(Locale.US).usesAll(Set.of()));
+        assertTrue(LocaleScriptIndex.forLocale(Locale.forLanguageTag("bg-BG")).usesAll(Set.of(UnicodeScript.CYRILLIC)));
+    }
+
+    @Test
+    void verifyLikelyScriptsCoverTheCldrData() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper();
+        for (String locale : CldrDataRegistry.getSupportedLocales()) {
+            Locale providedLocale = Locale.forLanguageTag(locale);
+            Set<UnicodeScript> dataScripts = LocaleScriptIndex.getDistinctiveScripts(mapper.writeValueAsString(loadCldrData(providedLocale)));
+            assertTrue(LocaleScriptIndex.forLocale(providedLocale).usesAll(dataScripts), locale);
+        }
+    }
+
+    @Test
+    void verifyLocalesDetectingTheInputUseItsScripts() {
+        List<String> inputs = List.of("2016년 9월 1일 목요일", "2022年3月5日", "9 февраля 2022 г.", "Mittwoch, 9. Februar 2022",
+                "2022-02-09T16:57:00", "16:57", "not a date at all");
+
+        for (String input : inputs) {
+            Set<UnicodeScript> inputScripts = LocaleScriptIndex.getDistinctiveScripts(input);
+            for (String locale : LocaleDetectionOracle.validateInEveryLocale(input).keySet()) {
+                assertTrue(LocaleScriptIndex.forLocale(Locale.forLanguageTag(locale)).usesAll(inputScripts), input);
+            }
+        }
+    }
+}
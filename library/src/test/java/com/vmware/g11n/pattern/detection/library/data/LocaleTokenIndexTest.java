@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.google.common.collect.ImmutableMap;
+import com.vmware.g11n.pattern.detection.library.services.ValidatorService;
+import com.vmware.g11n.pattern.detection.library.utils.CldrDataRegistry;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleTokenIndexTest {
+
+    private final ValidatorService validatorService = new ValidatorService();
+
+    @Test
+    void verifyWordsAreSplitAtScriptChanges() {
+        assertEquals(List.of("y", "년", "M", "월"), LocaleTokenIndex.splitIntoWords("y년 M월"));
+        assertEquals(List.of("de", "l", "après", "midi"), LocaleTokenIndex.splitIntoWords("de l’après-midi"));
+        assertEquals(List.of("America", "New", "York"), LocaleTokenIndex.splitIntoWords("America/New_York"));
+        assertEquals(List.of("Februar"), LocaleTokenIndex.splitIntoWords("Februar2022"));
+    }
+
+    @Test
+    void verifyCandidatesAreTheLocalesHavingAllWords() {
+        LocaleTokenIndex index = LocaleTokenIndex.forSupportedLocales();
+        assertEquals(List.of("de-DE"), index.getCandidateLocales("5 März 2023"));
+        assertEquals(List.of("de-DE"), index.getCandidateLocales("5 MÄRZ 2023"));
+        assertTrue(index.getCandidateLocales("Thursday, March 31, 2022").containsAll(List.of("en-US", "en-GB")));
+        assertFalse(index.getCandidateLocales("Thursday, March 31, 2022").contains("de-DE"));
+    }
+
+    @Test
+    void verifyLocaleIndependentWordsDontNarrowTheCandidates() {
+        LocaleTokenIndex index = LocaleTokenIndex.forSupportedLocales();
+        List<String> allLocales = CldrDataRegistry.getSupportedLocales();
+        assertEquals(allLocales, index.getCandidateLocales("2022-02-09T16:57:00Z"));
+        assertEquals(allLocales, index.getCandidateLocales("16:57 GMT+3"));
+        assertEquals(allLocales, index.getCandidateLocales("16:57 Europe/Paris"));
+        assertEquals(allLocales, index.getCandidateLocales("16:57 xyzzy"));
+    }
+
+    @Test
+    void verifySkippedLocalesWouldNotDetectTheInput() {
+        List<String> inputs = List.of("5 März 2023", "26. letzten Monat", "Feb. 21. 2021", "13:30 at noon", "mi 3:13",
+                "25 mai 2022 5:13 de l’après-midi", "29 juin, 2022 mer. prochain", "PM 3:13", "sexta-feira, 9 de abril de, 2010",
+                "14 апр. 2022 г., 19:46:42 GMT+3", "Monday 7:33:00 pm", "heute 5 Uhr", "today at 5:00", "Sun 5 PM",
+                "2016년 9월 1일 목요일", "2022年3月5日", "9 февраля 2022 г.", "2022-02-09T16:57:00", "not a date at all");
+
+        for (String input : inputs) {
+            Map<String, ValidationResult> resultsByLocale = LocaleDetectionOracle.validateInEveryLocale(input);
+            List<ValidationResult> expected = List.copyOf(resultsByLocale.values());
+
+            List<String> candidates = LocaleTokenIndex.forSupportedLocales().getCandidateLocales(input);
+            assertTrue(candidates.containsAll(resultsByLocale.keySet()), input);
+
+            // End to end, with the script index applied as well
+            List<ValidationResult> results = validatorService.validateInput(input);
+            assertEquals(expected.size(), results.size(), input);
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(expected.get(i).language, results.get(i).language, input);
+                assertEquals(expected.get(i).detectedPattern.pattern, results.get(i).detectedPattern.pattern, input);
+                assertEquals(expected.get(i).suggestions, results.get(i).suggestions, input);
+            }
+        }
+    }
+
+    @Test
+    void verifyDatasetsAreIndexedWithTheirOwnData() {
+        CldrDataset dataset = new CldrDataset("test", ImmutableMap.of(Locale.GERMANY, CldrDataRegistry.getCldrData(Locale.GERMANY),
+                Locale.FRANCE, CldrDataRegistry.getCldrData(Locale.FRANCE)));
+        LocaleTokenIndex index = LocaleTokenIndex.forDataset(dataset);
+        assertSame(index, LocaleTokenIndex.forDataset(dataset));
+        assertEquals(List.of("de-DE"), index.getCandidateLocales("5 März 2023"));
+        assertEquals(List.of("fr-FR"), index.getCandidateLocales("juillet 2022"));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.vmware.g11n.pattern.detection.library.DateTimePatternDetection;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.FORMATS_TO_PATTERNS_MAP;
+import static com.vmware.g11n.pattern.detection.library.utils.ResourceLoaders.loadCldrData;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalizedStringIndexTest {
+
+    @Test
+    void verifyIndexMatchesFirstEntryOfMappedData() {
+        DateTimePatternDetection dateTimePatternDetection = new DateTimePatternDetection();
+
+        for (String locale : dateTimePatternDetection.getSupportedLocales()) {
+            CldrData cldrData = loadCldrData(Locale.forLanguageTag(locale));
+            Map<String, List<String>> mappedData = CldrMappers.mapAllDatesData(cldrData);
+            LocalizedStringIndex index = LocalizedStringIndex.forCldrData(cldrData);
+
+            mappedData.values().stream().flatMap(List::stream).filter(name -> name != null).forEach(name -> {
+                for (String input : List.of(name, name.toUpperCase(), name.toLowerCase(), " " + name + " ")) {
+                    String expectedPattern = mappedData.entrySet().stream()
+                            .filter(entry -> entry.getValue().stream().anyMatch(input.trim()::equalsIgnoreCase))
+                            .findFirst()
+                            .map(entry -> FORMATS_TO_PATTERNS_MAP.get(entry.getKey())).orElse("");
+                    assertEquals(expectedPattern, index.getPattern(input), locale + ": " + input);
+                }
+            });
+        }
+    }
+
+    @Test
+    void verifyIndexIsBuiltOncePerCldrData() {
+        CldrData cldrData = loadCldrData(Locale.GERMANY);
+
+        assertSame(LocalizedStringIndex.forCldrData(cldrData), LocalizedStringIndex.forCldrData(cldrData));
+        assertEquals("MMMM", LocalizedStringIndex.forCldrData(cldrData).getPattern("februar"));
+        assertEquals("", LocalizedStringIndex.forCldrData(cldrData).getPattern("Februa"));
+    }
+
+    @Test
+    void verifyAllPatternsOfSharedNamesAreKept() {
+        LocalizedStringIndex index = LocalizedStringIndex.forCldrData(loadCldrData(Locale.GERMANY));
+
+        assertEquals("MMM,MMMM,LLLL", index.getAllPatterns("MÄRZ"));
+        assertEquals("MMMM,LLLL", index.getAllPatterns("Februar"));
+        assertEquals("", index.getAllPatterns("Februa"));
+    }
+
+    @Test
+    void verifyContainedNamesAndDayPeriodsAreFound() {
+        for (String locale : List.of("ja-JP", "zh-CN", "zh-TW", "ko-KR", "de-DE")) {
+            CldrData cldrData = loadCldrData(Locale.forLanguageTag(locale));
+            LocalizedStringIndex index = LocalizedStringIndex.forCldrData(cldrData);
+            List<String> dayPeriods = cldrData.getGregorianCalendar().dayPeriods.getAllDayPeriods();
+
+            for (String input : List.of("2022年3月5日午後3:00", "2022년 9월 1일 목요일 오후 11시", "上午11:07:10", "星期四下午", "Februar2022", "x")) {
+                String expectedName = CldrMappers.mapAllDatesData(cldrData).values().stream().flatMap(List::stream)
+                        .filter(el -> input.contains(el) && !el.matches(".*[0-9].*") && el.length() > 1)
+                        .max(Comparator.comparingInt(String::length)).orElse("");
+                String expectedDayPeriod = dayPeriods.stream().filter(input::contains).findFirst().orElse("");
+
+                assertEquals(expectedName, index.getLongestContainedName(input), locale + ": " + input);
+                assertEquals(expectedDayPeriod, index.getFirstContainedDayPeriod(input), locale + ": " + input);
+            }
+        }
+    }
+}
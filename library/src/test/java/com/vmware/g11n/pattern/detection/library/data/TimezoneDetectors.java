@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.vmware.g11n.pattern.detection.library.utils.Matchers;
+import com.vmware.g11n.pattern.detection.model.timezones.SubZone;
+import com.vmware.g11n.pattern.detection.model.timezones.TimezoneNames;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static com.vmware.g11n.pattern.detection.library.data.DateFieldSymbols.*;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+/*
+The timezone detectors used before TimezoneNameIndex, kept as the reference for TimezoneNameIndexTest.
+ */
+class TimezoneDetectors {
+
+    static String detectTimeZoneExemplarCityPattern(String input, TimezoneNames zones) {
+        List<String> exemplarCities = zones.getZones().values().stream()
+                .flatMap(zone -> zone.values().stream())
+                .map(SubZone::getExemplarCity).toList();
+
+        return exemplarCities.stream()
+                .filter(Objects::nonNull)
+                .anyMatch(input::equalsIgnoreCase) ? TIME_ZONE_EXEMPLAR_CITY_SYMBOL : EMPTY;
+    }
+
+    static String detectLongGenericNonLocationPattern(String input, TimezoneNames zones) {
+        return zones.getMetazone().values().stream()
+                .filter(longMetaZones -> nonNull(longMetaZones.getLongMetaZone()))
+                .map(metaZone -> metaZone.getLongMetaZone().getGeneric())
+                .toList()
+                .stream()
+                .filter(Objects::nonNull)
+                .anyMatch(input::equalsIgnoreCase) ? LONG_GENERIC_NON_LOCATION_TIME_ZONE_SYMBOL : EMPTY;
+    }
+
+    static String detectShortGenericNonLocationPattern(String input, TimezoneNames zones) {
+        return zones.getMetazone().values().stream()
+                .filter(shortMetaZones -> nonNull(shortMetaZones.getShortMetaZone()))
+                .map(metaZone -> metaZone.getShortMetaZone().getGeneric())
+                .toList()
+                .stream()
+                .filter(Objects::nonNull)
+                .anyMatch(input::equals) ? SHORT_GENERIC_NON_LOCATION_TIME_ZONE_SYMBOL : EMPTY; // We have equals here as 'AT' is valid zone and 'at' is subsidiary element
+    }
+
+    static String detectLongSpecificNonLocationPattern(String input, TimezoneNames zones) {
+        return zones.getMetazone().values().stream()
+                .filter(longMetaZones -> nonNull(longMetaZones.getLongMetaZone()))
+                .flatMap(metaZone -> Stream.of(metaZone.getLongMetaZone().getDaylight(), metaZone.getLongMetaZone().getStandard()))
+                .toList()
+                .stream()
+                .filter(Objects::nonNull)
+                .anyMatch(input::equalsIgnoreCase) ? LONG_SPECIFIC_NON_LOCATION_TIME_ZONE_SYMBOL : EMPTY;
+    }
+
+    static String detectShortSpecificNonLocationPattern(String input, TimezoneNames zones) {
+        return zones.getMetazone().values().stream()
+                .filter(shortMetaZones -> nonNull(shortMetaZones.getShortMetaZone()))
+                .flatMap(metaZone -> Stream.of(metaZone.getShortMetaZone().getDaylight(), metaZone.getShortMetaZone().getStandard()))
+                .toList()
+                .stream()
+                .filter(Objects::nonNull)
+                .anyMatch(input::equalsIgnoreCase) ? SHORT_SPECIFIC_NON_LOCATION_TIME_ZONE_SYMBOL : EMPTY;
+    }
+
+    static String detectShortLocalizedGmtPattern(String input) {
+        return Matchers.detectShortGmtFormat(input) ? SHORT_LOCALIZED_GMT_SYMBOL : EMPTY;
+    }
+
+    static String detectLongLocalizedGmtPattern(String input) {
+        return Matchers.detectLongGmtFormat(input) ? LONG_LOCALIZED_GMT_SYMBOL : EMPTY;
+    }
+
+    static String detectBasicHmsPattern(String input) {
+        return Matchers.detectBasicHmsFormat(input) ? BASIC_HMS_SYMBOL : EMPTY;
+    }
+
+    static String detectExtendedHmsPattern(String input) {
+        return Matchers.detectExtendedHmsFormat(input) ? EXTENDED_HMS_SYMBOL : EMPTY;
+    }
+}
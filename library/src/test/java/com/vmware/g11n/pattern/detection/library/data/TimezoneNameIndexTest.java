@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.data;
+
+import com.vmware.g11n.pattern.detection.library.DateTimePatternDetection;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.timezones.SubZone;
+import com.vmware.g11n.pattern.detection.model.timezones.TimezoneNames;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.vmware.g11n.pattern.detection.library.data.DateFieldSymbols.*;
+import static com.vmware.g11n.pattern.detection.library.data.TimezoneDetectors.*;
+import static com.vmware.g11n.pattern.detection.library.utils.ResourceLoaders.loadCldrData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimezoneNameIndexTest {
+
+    @Test
+    void verifyIndexMatchesDetectorsOrder() {
+        DateTimePatternDetection dateTimePatternDetection = new DateTimePatternDetection();
+
+        for (String locale : dateTimePatternDetection.getSupportedLocales()) {
+            CldrData cldrData = loadCldrData(Locale.forLanguageTag(locale));
+            TimezoneNames timezoneNames = cldrData.getTimezoneNames();
+            TimezoneNameIndex index = TimezoneNameIndex.forCldrData(cldrData);
+
+            List<String> names = new ArrayList<>(List.of("GMT+3", "GMT-12:00", "+0300", "-12:00", "at", "AT", "PT", "UTC",
+                    "America/Los_Angeles", "america/los_angeles", "EST", "est", "Europe/Sofia", "Unknown"));
+            timezoneNames.getMetazone().values().forEach(metaZone -> {
+                if (metaZone.getLongMetaZone() != null) {
+                    names.addAll(Stream.of(metaZone.getLongMetaZone().getGeneric(), metaZone.getLongMetaZone().getDaylight(),
+                            metaZone.getLongMetaZone().getStandard()).filter(Objects::nonNull).toList());
+                }
+                if (metaZone.getShortMetaZone() != null) {
+                    names.addAll(Stream.of(metaZone.getShortMetaZone().getGeneric(), metaZone.getShortMetaZone().getDaylight(),
+                            metaZone.getShortMetaZone().getStandard()).filter(Objects::nonNull).toList());
+                }
+            });
+            timezoneNames.getZones().values().forEach(zone -> zone.values().stream()
+                    .map(SubZone::getExemplarCity).filter(Objects::nonNull).forEach(names::add));
+
+            for (String name : names) {
+                for (String input : List.of(name, name.toUpperCase(Locale.ROOT), name.toLowerCase(Locale.ROOT))) {
+                    assertEquals(detectWithAllDetectors(input, timezoneNames), index.getPattern(input), locale + ": " + input);
+                }
+            }
+        }
+    }
+
+    // The detectors in the order used before the index was introduced
+    private static String detectWithAllDetectors(String input, TimezoneNames timezoneNames) {
+        Set<String> longTimeZoneIds = ZoneId.getAvailableZoneIds();
+        longTimeZoneIds.removeAll(ZoneId.SHORT_IDS.keySet());
+
+        return Stream.of(detectLongSpecificNonLocationPattern(input, timezoneNames),
+                        detectShortSpecificNonLocationPattern(input, timezoneNames),
+                        detectLongGenericNonLocationPattern(input, timezoneNames),
+                        detectShortGenericNonLocationPattern(input, timezoneNames),
+                        detectBasicHmsPattern(input),
+                        detectExtendedHmsPattern(input),
+                        detectLongLocalizedGmtPattern(input),
+                        detectShortLocalizedGmtPattern(input),
+                        detectTimeZoneExemplarCityPattern(input, timezoneNames),
+                        longTimeZoneIds.stream().anyMatch(input::equalsIgnoreCase) ? LONG_TIME_ZONE_ID_SYMBOL : "",
+                        ZoneId.SHORT_IDS.keySet().stream().anyMatch(input::equalsIgnoreCase) ? SHORT_TIME_ZONE_ID_SYMBOL : "")
+                .filter(pattern -> !pattern.isEmpty()).findFirst().orElse("");
+    }
+}
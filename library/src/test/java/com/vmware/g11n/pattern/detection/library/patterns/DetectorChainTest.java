@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import com.vmware.g11n.pattern.detection.library.data.DetectorStatistics;
+import com.vmware.g11n.pattern.detection.library.services.ValidatorService;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DetectorChainTest {
+
+    private enum Stage {FIRST, SLOW_MISS, HIT, LAST}
+
+    @AfterEach
+    void disableAdaptiveOrdering() {
+        DetectorChain.setAdaptiveOrdering(false);
+    }
+
+    @Test
+    void verifyExclusiveGroupsMustBeContiguous() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DetectorChain<>("test", "en-US", Stage.class, List.of(EnumSet.of(Stage.FIRST, Stage.HIT))));
+    }
+
+    @Test
+    void verifyStagesAreOnlyReorderedWithinTheirGroup() {
+        DetectorChain<Stage> chain = new DetectorChain<>("test", "en-US", Stage.class, List.of(EnumSet.of(Stage.SLOW_MISS, Stage.HIT)));
+        DetectorChain.setAdaptiveOrdering(true);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("hit", chain.detect(stage -> stage == Stage.HIT ? "hit" : null));
+        }
+        assertEquals(List.of(Stage.FIRST, Stage.SLOW_MISS, Stage.HIT, Stage.LAST), chain.getOrder());
+
+        chain.reorder();
+        assertEquals(List.of(Stage.FIRST, Stage.HIT, Stage.SLOW_MISS, Stage.LAST), chain.getOrder());
+        assertEquals("hit", chain.detect(stage -> stage == Stage.HIT ? "hit" : null));
+
+        // The declared order is used again as soon as adaptive ordering is off
+        DetectorChain.setAdaptiveOrdering(false);
+        assertEquals(List.of(Stage.FIRST, Stage.SLOW_MISS, Stage.HIT, Stage.LAST), chain.getOrder());
+    }
+
+    @Test
+    void verifyStatisticsCountInvocationsAndHits() {
+        DetectorChain<Stage> chain = new DetectorChain<>("test", "en-US", Stage.class, List.of());
+        for (int i = 0; i < 10; i++) {
+            chain.detect(stage -> stage == Stage.HIT ? "hit" : null);
+        }
+
+        List<DetectorStatistics> statistics = chain.getStatistics();
+        assertEquals(10, statistics.get(Stage.FIRST.ordinal()).invocationCount);
+        assertEquals(0, statistics.get(Stage.FIRST.ordinal()).hitCount);
+        assertEquals(10, statistics.get(Stage.HIT.ordinal()).hitCount);
+        assertEquals(1.0, statistics.get(Stage.HIT.ordinal()).hitRate());
+        assertEquals(0, statistics.get(Stage.LAST.ordinal()).invocationCount);
+    }
+
+    @Test
+    void verifyAdaptiveOrderingKeepsResults() {
+        ValidatorService validatorService = new ValidatorService();
+        List<String[]> inputs = List.of(new String[]{"Monday 7:33:00 pm", "en-US"}, new String[]{"Monday, at 7:33 PM", "en-US"},
+                new String[]{"yesterday at 7:33 PM", "en-US"}, new String[]{"13 abr. 2022 16:57", "es-ES"},
+                new String[]{"Mittwoch, 9 Februar 2022 um 16:57", "de-DE"}, new String[]{"9 2022", "de-DE"},
+                new String[]{"2016년 9월 1일 목요일", "ko-KR"}, new String[]{"not a date at all", "en-US"});
+
+        List<ValidationResult> expected = new ArrayList<>();
+        for (String[] input : inputs) {
+            InputShapeCache.invalidateAll();
+            expected.add(validatorService.validateInput(input[0], input[1]));
+        }
+
+        DetectorChain.setAdaptiveOrdering(true);
+        DetectorChain.reorderAll();
+        for (int i = 0; i < inputs.size(); i++) {
+            InputShapeCache.invalidateAll();
+            ValidationResult result = validatorService.validateInput(inputs.get(i)[0], inputs.get(i)[1]);
+            assertEquals(getPattern(expected.get(i)), getPattern(result), result.input);
+            assertEquals(expected.get(i).suggestions, result.suggestions, result.input);
+            assertEquals(expected.get(i).errors, result.errors, result.input);
+        }
+    }
+
+    private static String getPattern(ValidationResult result) {
+        return result.detectedPattern == null ? null : result.detectedPattern.pattern;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import com.vmware.g11n.pattern.detection.library.DateTimePatternDetection;
+import com.vmware.g11n.pattern.detection.library.data.PruningStatistics;
+import com.vmware.g11n.pattern.detection.library.services.DetectionContext;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.serviceData.LocalizedType;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static com.vmware.g11n.pattern.detection.library.patterns.FormatMatcher.FormatFamily.*;
+import static com.vmware.g11n.pattern.detection.library.utils.ResourceLoaders.loadCldrData;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormatMatcherTest {
+
+    private static final List<LocalizedType> TYPES = List.of(LocalizedType.DATE, LocalizedType.TIME, LocalizedType.DATE_TIME, LocalizedType.TEMPORAL);
+
+    @Test
+    void verifyMatcherKeepsEveryValidPattern() {
+        ZonedDateTime dateTime = ZonedDateTime.parse("2022-02-09T16:57:03-08:00[America/Los_Angeles]");
+
+        for (String languageTag : new DateTimePatternDetection().getSupportedLocales()) {
+            Locale locale = Locale.forLanguageTag(languageTag);
+            CldrData cldrData = loadCldrData(locale);
+            FormatMatcher formatMatcher = FormatMatcher.forCldrData(cldrData);
+
+            Set<String> patterns = new HashSet<>();
+            patterns.addAll(cldrData.getGregorianCalendar().dateFormats.getAllDateFormatsAsMap().values());
+            patterns.addAll(cldrData.getGregorianCalendar().timeFormats.getAllTimeFormatsAsMap().values());
+            patterns.addAll(cldrData.getGregorianCalendar().getStandardDateTimeMap().values());
+            patterns.addAll(cldrData.getGregorianCalendar().dateTimeFormats.availableFormats.values());
+
+            for (String formattedPattern : patterns) {
+                String input;
+                try {
+                    input = DateTimeFormatter.ofPattern(formattedPattern, locale).format(dateTime);
+                } catch (RuntimeException e) {
+                    continue;
+                }
+
+                FormatMatcher.Candidates candidates = formatMatcher.match(input);
+                List<String> candidatePatterns = new ArrayList<>();
+                for (FormatMatcher.FormatFamily family : FormatMatcher.FormatFamily.values()) {
+                    candidates.get(family).forEach(entry -> candidatePatterns.add(entry.getValue()));
+                }
+                assertTrue(candidatePatterns.contains(formattedPattern), languageTag + ": " + formattedPattern + " / " + input);
+
+                for (String pattern : patterns) {
+                    if (!candidatePatterns.contains(pattern)) {
+                        for (LocalizedType type : TYPES) {
+                            assertFalse(PatternValidators.isValidPattern(pattern, input, locale, type, new DetectionContext()), languageTag + ": " + pattern + " / " + input);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void verifyCandidatesKeepCldrOrder() {
+        CldrData cldrData = loadCldrData(Locale.US);
+        FormatMatcher.Candidates candidates = FormatMatcher.forCldrData(cldrData).match("2/9/22");
+
+        List<String> standardDates = candidates.get(STANDARD_DATE).stream().map(Map.Entry::getKey).toList();
+        assertEquals(List.of("short"), standardDates);
+        assertTrue(candidates.get(STANDARD_TIME).isEmpty());
+        assertTrue(candidates.get(AVAILABLE_FORMATS).stream().map(Map.Entry::getValue).toList().contains("M/d/y"));
+    }
+
+    @Test
+    void verifyPrunedCandidatesAreCounted() {
+        CldrData cldrData = loadCldrData(Locale.forLanguageTag("ja-JP"));
+        PruningStatistics statisticsBefore = FormatMatcher.getStatistics();
+
+        FormatMatcher.Candidates candidates = FormatMatcher.forCldrData(cldrData).match("16:57");
+
+        assertTrue(candidates.shapePrunedCount > 0);
+        assertTrue(candidates.get(STANDARD_DATE).isEmpty());
+        assertFalse(candidates.get(STANDARD_TIME).isEmpty());
+
+        PruningStatistics statisticsAfter = FormatMatcher.getStatistics();
+        assertEquals(statisticsBefore.requestCount + 1, statisticsAfter.requestCount);
+        assertEquals(statisticsBefore.shapePrunedCount + candidates.shapePrunedCount, statisticsAfter.shapePrunedCount);
+        assertEquals(statisticsBefore.matcherPrunedCount + candidates.matcherPrunedCount, statisticsAfter.matcherPrunedCount);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import com.vmware.g11n.pattern.detection.library.data.CacheStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormatterCacheTest {
+
+    @Test
+    void verifyFormatterIsBuiltOncePerPatternLocaleAndCase() {
+        CacheStatistics statisticsBefore = FormatterCache.getStatistics();
+
+        DateTimeFormatter caseSensitive = FormatterCache.getFormatter("d MMMM y 'g'", Locale.FRANCE, true).orElseThrow();
+        DateTimeFormatter caseInsensitive = FormatterCache.getFormatter("d MMMM y 'g'", Locale.FRANCE, false).orElseThrow();
+
+        assertSame(caseSensitive, FormatterCache.getFormatter("d MMMM y 'g'", Locale.FRANCE, true).orElseThrow());
+        assertNotSame(caseSensitive, caseInsensitive);
+        assertNotSame(caseSensitive, FormatterCache.getFormatter("d MMMM y 'g'", Locale.GERMANY, true).orElseThrow());
+
+        assertEquals(LocalDate.of(2022, 6, 29), LocalDate.parse("29 JUIN 2022 G", caseInsensitive));
+        assertThrows(RuntimeException.class, () -> LocalDate.parse("29 JUIN 2022 G", caseSensitive));
+
+        CacheStatistics statisticsAfter = FormatterCache.getStatistics();
+        assertTrue(statisticsAfter.hitCount > statisticsBefore.hitCount);
+        assertTrue(statisticsAfter.loadCount >= statisticsBefore.loadCount + 3);
+    }
+
+    @Test
+    void verifyUnsupportedPatternIsCachedAsEmpty() {
+        Optional<DateTimeFormatter> formatter = FormatterCache.getFormatter("y 'quarter", Locale.US, true);
+        long loadCount = FormatterCache.getStatistics().loadCount;
+
+        assertTrue(formatter.isEmpty());
+        assertTrue(FormatterCache.getFormatter("y 'quarter", Locale.US, true).isEmpty());
+        assertEquals(loadCount, FormatterCache.getStatistics().loadCount);
+    }
+}
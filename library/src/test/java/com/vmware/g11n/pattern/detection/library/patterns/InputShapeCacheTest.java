@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import com.vmware.g11n.pattern.detection.library.services.ValidatorService;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import com.vmware.g11n.pattern.detection.model.calendar.GregorianCalendar;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static com.vmware.g11n.pattern.detection.library.utils.ResourceLoaders.loadCldrData;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputShapeCacheTest {
+
+    private final ValidatorService validatorService = new ValidatorService();
+
+    @Test
+    void verifyShapeKeepsWidthsAndValueRanges() {
+        InputShapeCache cache = InputShapeCache.forCldrData(loadCldrData(Locale.GERMANY));
+
+        assertEquals(cache.getShape("03.11.2022"), cache.getShape("04.10.2021"));
+        assertEquals(cache.getShape("9. Februar 2022"), cache.getShape("9. OKTOBER 2021"));
+        assertEquals(cache.getShape("16:57:05"), cache.getShape("13:45:09"));
+
+        // 17 can't be a month and 3 has another width than 03
+        assertNotEquals(cache.getShape("03.11.2022"), cache.getShape("17.12.2021"));
+        assertNotEquals(cache.getShape("03.11.2022"), cache.getShape("3.11.2022"));
+        assertNotEquals(cache.getShape("9. Februar 2022"), cache.getShape("9. Feb. 2022"));
+        assertNotEquals(cache.getShape("9. Februar 2022"), cache.getShape("9. Fenster 2022"));
+    }
+
+    @Test
+    void verifyShapeHitsAreConfirmedByParsing() {
+        InputShapeCache.invalidateAll();
+        long hitCount = InputShapeCache.getStatistics().hitCount;
+
+        ValidationResult first = validatorService.validateInput("03.11.2022", "de-DE");
+        ValidationResult second = validatorService.validateInput("04.11.2022", "de-DE");
+        assertEquals(hitCount + 1, InputShapeCache.getStatistics().hitCount);
+        assertEquals(first.detectedPattern.pattern, second.detectedPattern.pattern);
+
+        // Same shape, but no such date: detected again from all formats
+        ValidationResult invalid = validatorService.validateInput("30.02.2022", "de-DE");
+        ValidationResult invalidWithoutCache = validateWithoutShapeCache("30.02.2022", "de-DE");
+        assertEquals(hitCount + 1, InputShapeCache.getStatistics().hitCount);
+        assertSameResult(invalidWithoutCache, invalid);
+    }
+
+    @Test
+    void verifyCachedShapesGiveSameResultsAsFullDetection() {
+        List<String[]> inputs = new ArrayList<>();
+        Random random = new Random(11);
+        for (String locale : List.of("en-US", "de-DE", "fr-FR", "es-ES", "ja-JP")) {
+            for (String pattern : getCldrPatterns(loadCldrData(Locale.forLanguageTag(locale)))) {
+                for (int i = 0; i < 3; i++) {
+                    ZonedDateTime dateTime = ZonedDateTime.of(1990 + random.nextInt(40), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                            random.nextInt(24), random.nextInt(60), random.nextInt(60), 0, ZoneId.of("Europe/Berlin"));
+                    try {
+                        String input = DateTimeFormatter.ofPattern(pattern, Locale.forLanguageTag(locale)).format(dateTime);
+                        inputs.add(new String[]{input, locale});
+                        inputs.add(new String[]{input.toLowerCase(Locale.ROOT), locale});
+                    } catch (IllegalArgumentException | DateTimeException ignored) {
+                        // Patterns only ICU supports
+                    }
+                }
+            }
+        }
+
+        List<ValidationResult> expected = new ArrayList<>();
+        for (String[] input : inputs) {
+            expected.add(validateWithoutShapeCache(input[0], input[1]));
+        }
+
+        InputShapeCache.invalidateAll();
+        long hitCount = InputShapeCache.getStatistics().hitCount;
+        for (int i = 0; i < inputs.size(); i++) {
+            assertSameResult(expected.get(i), validatorService.validateInput(inputs.get(i)[0], inputs.get(i)[1]));
+        }
+        assertTrue(InputShapeCache.getStatistics().hitCount > hitCount);
+    }
+
+    private ValidationResult validateWithoutShapeCache(String input, String locale) {
+        InputShapeCache.invalidateAll();
+        return validatorService.validateInput(input, locale);
+    }
+
+    private static Set<String> getCldrPatterns(CldrData cldrData) {
+        GregorianCalendar gregorianCalendar = cldrData.getGregorianCalendar();
+        Set<String> patterns = new LinkedHashSet<>();
+        patterns.addAll(gregorianCalendar.dateFormats.getAllDateFormatsAsMap().values());
+        patterns.addAll(gregorianCalendar.timeFormats.getAllTimeFormatsAsMap().values());
+        patterns.addAll(gregorianCalendar.getStandardDateTimeMap().values());
+        patterns.addAll(gregorianCalendar.dateTimeFormats.availableFormats.values());
+        return patterns;
+    }
+
+    private static void assertSameResult(ValidationResult expected, ValidationResult actual) {
+        assertEquals(expected.isLocalizedContent, actual.isLocalizedContent, actual.input);
+        assertEquals(expected.suggestions, actual.suggestions, actual.input);
+        assertEquals(expected.errors, actual.errors, actual.input);
+        assertEquals(expected.detectedPattern == null, actual.detectedPattern == null, actual.input);
+        if (expected.detectedPattern != null) {
+            assertEquals(expected.detectedPattern.pattern, actual.detectedPattern.pattern, actual.input);
+            assertEquals(expected.detectedPattern.localizedType, actual.detectedPattern.localizedType, actual.input);
+            assertEquals(expected.detectedPattern.cldrDataKeyName, actual.detectedPattern.cldrDataKeyName, actual.input);
+            assertEquals(expected.detectedPattern.isStandardFormat, actual.detectedPattern.isStandardFormat, actual.input);
+            assertEquals(expected.detectedPattern.isValidDate, actual.detectedPattern.isValidDate, actual.input);
+            assertEquals(expected.detectedPattern.patternInfoMessage, actual.detectedPattern.patternInfoMessage, actual.input);
+        }
+    }
+}
@@ -6,7 +6,9 @@
 package com.vmware.g11n.pattern.detection.library.patterns;
 
 import com.vmware.g11n.pattern.detection.library.patterns.PatternValidators;
+import com.vmware.g11n.pattern.detection.library.services.DetectionContext;
 import com.vmware.g11n.pattern.detection.model.serviceData.LocalizedType;
+import com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -26,14 +28,24 @@ class PatternValidatorsTest {
     @MethodSource(value = "validPatternsArguments")
     @DisplayName("Assert isValidPatternMethod works by providing valid dates and time")
     void isValidPatternPositiveTest(String pattern, String value, Locale locale, LocalizedType type) {
-        Assertions.assertTrue(PatternValidators.isValidPattern(pattern, value, locale, type));
+        Assertions.assertTrue(PatternValidators.isValidPattern(pattern, value, locale, type, new DetectionContext()));
     }
 
     @ParameterizedTest
     @MethodSource(value = "invalidPatternsArguments")
     @DisplayName("Assert isValidPatternMethod works by providing invalid dates and time and expect false")
     void isValidPatternNegativeTest(String pattern, String value, Locale locale, LocalizedType type) {
-        Assertions.assertFalse(PatternValidators.isValidPattern(pattern, value, locale, type));
+        Assertions.assertFalse(PatternValidators.isValidPattern(pattern, value, locale, type, new DetectionContext()));
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = "casingArguments")
+    @DisplayName("Assert isValidPatternMethod suggests the correct casing only for incorrectly cased input")
+    void isValidPatternCasingTest(String pattern, String value, Locale locale, LocalizedType type, boolean incorrectCasing) {
+        DetectionContext context = new DetectionContext();
+
+        Assertions.assertTrue(PatternValidators.isValidPattern(pattern, value, locale, type, context));
+        Assertions.assertEquals(incorrectCasing, context.getSuggestions().containsKey(SuggestionsType.LOCALIZED_DATA));
     }
 
     private static Stream<Arguments> validPatternsArguments() {
@@ -57,4 +69,16 @@ class PatternValidatorsTest {
                 arguments("yyyy-MM-dd", "2012-05-21", TRADITIONAL_CHINESE, DATE_TIME)
         );
     }
-}
\ No newline at end of file
+
+    private static Stream<Arguments> casingArguments() {
+        return Stream.of(
+                arguments("d MMMM y", "29 juin 2022", FRANCE, DATE, false),
+                arguments("d MMMM y", "29 JUIN 2022", FRANCE, DATE, true),
+                arguments("EEEE h:mm:ss a", "Monday 7:33:00 PM", US, TIME, false),
+                arguments("EEEE h:mm:ss a", "monday 7:33:00 pm", US, TIME, true),
+                arguments("d MMM yyyy HH:mm v", "1 Sep 2016 04:07 PT", US, DATE_TIME, false),
+                arguments("d MMM yyyy HH:mm v", "1 SEP 2016 04:07 PT", US, DATE_TIME, true),
+                arguments("y年M月d日EEEE ah:mm O", "2016年9月1日星期四 上午4:07 GMT-1", SIMPLIFIED_CHINESE, DATE_TIME, false)
+        );
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.patterns;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShapeSignatureTest {
+
+    private static final FormatMatcher.FieldType NUMERIC = FormatMatcher.FieldType.NUMERIC;
+    private static final FormatMatcher.FieldType TEXT = FormatMatcher.FieldType.TEXT;
+
+    @Test
+    void verifySignatureAdmitsMatchingShapes() {
+        // y年M月d日
+        ShapeSignature cjkDate = ShapeSignature.ofPattern(List.of(NUMERIC, '年', NUMERIC, '月', NUMERIC, '日'));
+        // H:mm
+        ShapeSignature time = ShapeSignature.ofPattern(List.of(NUMERIC, ':', NUMERIC));
+        // MMMM 'de' y
+        ShapeSignature textDate = ShapeSignature.ofPattern(List.of(TEXT, ' ', 'd', 'e', ' ', NUMERIC));
+
+        assertTrue(cjkDate.admits(ShapeSignature.ofInput("2022年2月9日")));
+        assertFalse(cjkDate.admits(ShapeSignature.ofInput("2022/2/9")));
+        assertFalse(cjkDate.admits(ShapeSignature.ofInput("年月日")));
+
+        assertTrue(time.admits(ShapeSignature.ofInput("16:57")));
+        assertFalse(time.admits(ShapeSignature.ofInput("1:")));
+        assertFalse(time.admits(ShapeSignature.ofInput("16.57")));
+
+        // Cased literals are not part of the signature, as they also match in another case
+        assertTrue(textDate.admits(ShapeSignature.ofInput("FEBRERO DE 2022")));
+        assertFalse(textDate.admits(ShapeSignature.ofInput("febrero")));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.services;
+
+import com.vmware.g11n.pattern.detection.model.serviceData.ErrorsType;
+import com.vmware.g11n.pattern.detection.model.serviceData.SuggestionsType;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DetectionContextTest {
+
+    @Test
+    void verifyDateTimeSuggestionReplacesDateAndTimeSuggestions() {
+        DetectionContext context = new DetectionContext();
+        context.addSuggestion(SuggestionsType.NON_STANDARD_DATE, "date");
+        context.addSuggestion(SuggestionsType.NON_STANDARD_TIME, "time");
+        assertEquals(2, context.getSuggestions().size());
+
+        context.addSuggestion(SuggestionsType.NON_STANDARD_DATE_TIME, "dateTime");
+        assertEquals(Map.of(SuggestionsType.NON_STANDARD_DATE_TIME, "dateTime"), context.getSuggestions());
+    }
+
+    @Test
+    void verifyReturnedMapsAreCopies() {
+        DetectionContext context = new DetectionContext();
+        context.addError(ErrorsType.INCORRECT_DATE, "error");
+        context.getErrors().clear();
+        context.getSuggestions().put(SuggestionsType.LOCALIZED_DATA, "suggestion");
+
+        assertEquals(1, context.getErrors().size());
+        assertTrue(context.getSuggestions().isEmpty());
+    }
+
+    @Test
+    void verifyConcurrentValidationsDontShareSuggestionsOrErrors() throws Exception {
+        // Inputs with suggestions, errors, or neither; a leaking context would mix them between validations
+        List<String[]> inputs = List.of(new String[]{"Monday 7:33:00 pm", "en-US"}, new String[]{"Monday 7:33:00 PM", "en-US"},
+                new String[]{"13 abr. 2022", "es-ES"}, new String[]{"30/02/2022", "en-GB"},
+                new String[]{"2016년 9월 1일 목요일", "ko-KR"}, new String[]{"Mittwoch, 9 Februar 2022", "de-DE"},
+                new String[]{"2022-02-09T16:57:00", "en-US"}, new String[]{"not a date at all", "en-US"});
+
+        ValidatorService validatorService = new ValidatorService();
+        List<ValidationResult> expected = new ArrayList<>();
+        for (String[] input : inputs) {
+            expected.add(validatorService.validateInput(input[0], input[1]));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ValidationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 40 * inputs.size(); i++) {
+                String[] input = inputs.get(i % inputs.size());
+                futures.add(executor.submit(() -> validatorService.validateInput(input[0], input[1])));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                ValidationResult result = futures.get(i).get();
+                ValidationResult sequential = expected.get(i % inputs.size());
+                assertEquals(sequential.suggestions, result.suggestions, result.input);
+                assertEquals(sequential.errors, result.errors, result.input);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.services;
+
+import com.vmware.g11n.pattern.detection.library.exceptions.DateTimePatternDetectionException;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleMatchTest {
+
+    private final ValidatorService validatorService = new ValidatorService();
+
+    @Test
+    void verifyMatchesAreRankedByFormat() {
+        assertEquals(LocaleMatch.STANDARD, LocaleMatch.of(validatorService.validateInput("Thursday, March 31, 2022", "en-US")));
+        assertEquals(LocaleMatch.NON_STANDARD, LocaleMatch.of(validatorService.validateInput("Monday 7:33:00 pm", "en-US")));
+        assertTrue(LocaleMatch.STANDARD.compareTo(LocaleMatch.TEMPORAL) < 0);
+    }
+
+    @Test
+    void verifyRankedResultsAreTheBestOfAllResults() {
+        for (String input : List.of("Thursday, March 31, 2022", "14.05.21 21:14", "31/8/2029", "Monday 7:33:00 pm", "5 mai 2023")) {
+            List<ValidationResult> allResults = validatorService.validateInput(input);
+            List<ValidationResult> rankedResults = validatorService.validateInput(input, 2);
+
+            assertEquals(Math.min(2, allResults.size()), rankedResults.size(), input);
+            LocaleMatch bestMatch = allResults.stream().map(LocaleMatch::of).min(Enum::compareTo).orElse(null);
+            if (bestMatch != null) {
+                assertEquals(bestMatch, LocaleMatch.of(rankedResults.get(0)), input);
+            }
+            for (int i = 1; i < rankedResults.size(); i++) {
+                assertTrue(LocaleMatch.of(rankedResults.get(i - 1)).compareTo(LocaleMatch.of(rankedResults.get(i))) <= 0, input);
+            }
+        }
+    }
+
+    @Test
+    void verifyTiesKeepTheSupportedOrder() {
+        // ISO dates are standard in every locale, so the first supported locale wins, however often others were returned
+        validatorService.validateInput("21.05.2012", 1);
+        for (int i = 0; i < 2; i++) {
+            List<ValidationResult> results = validatorService.validateInput("2012-05-21", 1);
+            assertEquals(1, results.size());
+            assertEquals(Locale.US.getDisplayName(), results.get(0).language);
+        }
+    }
+
+    @Test
+    void verifyMaximumResultsMustBePositive() {
+        assertThrows(DateTimePatternDetectionException.class, () -> validatorService.validateInput("31/8/2029", 0));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.services;
+
+import com.vmware.g11n.pattern.detection.library.data.CacheStatistics;
+import com.vmware.g11n.pattern.detection.model.serviceData.ConversionResult;
+import com.vmware.g11n.pattern.detection.model.serviceData.ErrorsType;
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+
+    private final ValidatorService validatorService = new ValidatorService();
+
+    @AfterEach
+    void disableCache() {
+        ResultCache.disable();
+    }
+
+    @Test
+    void verifyCachedValidationMatchesUncachedValidation() {
+        ValidationResult uncached = validatorService.validateInput("Monday 7:33:00 pm", "en-US");
+
+        ResultCache.enable(100, Duration.ofMinutes(1));
+        ValidationResult first = validatorService.validateInput("Monday 7:33:00 pm", "en-US");
+        ValidationResult second = validatorService.validateInput("  Monday   7:33:00 pm ", "en-US");
+
+        assertSameResult(uncached, first);
+        assertSameResult(uncached, second);
+
+        CacheStatistics statistics = ResultCache.getValidationStatistics();
+        assertEquals(1, statistics.hitCount);
+        assertEquals(1, statistics.missCount);
+        assertEquals(1, statistics.size);
+    }
+
+    @Test
+    void verifyCachedResultsCantBeChangedByCallers() {
+        ResultCache.enable(100, Duration.ofMinutes(1));
+        ValidationResult first = validatorService.validateInput("Monday 7:33:00 pm", "en-US");
+        first.setInput("changed");
+        first.detectedPattern.pattern = "changed";
+        assertThrows(UnsupportedOperationException.class, () -> first.errors.put(ErrorsType.INCORRECT_DATE, "changed"));
+        assertThrows(UnsupportedOperationException.class, () -> first.suggestions.clear());
+
+        ValidationResult second = validatorService.validateInput("Monday 7:33:00 pm", "en-US");
+        assertNotSame(first, second);
+        assertEquals("Monday 7:33:00 pm", second.input);
+        assertEquals("EEEE h:mm:ss a", second.detectedPattern.pattern);
+        assertFalse(second.suggestions.isEmpty());
+    }
+
+    @Test
+    void verifyRecurringInputsSurviveAScanOfOneOffInputs() {
+        int maximumSize = 10_000;
+        ResultCache.enable(maximumSize, Duration.ofMinutes(1));
+        List<String> recurringInputs = IntStream.range(0, maximumSize / 2).mapToObj(i -> "recurring " + i).toList();
+        for (int round = 0; round < 3; round++) {
+            recurringInputs.forEach(ResultCacheTest::lookUp);
+        }
+
+        // Ten times more one-off inputs than fit, while the recurring ones keep coming now and then
+        for (int i = 0; i < 10 * maximumSize; i++) {
+            lookUp("one-off " + i);
+            if (i % 20 == 0) {
+                lookUp(recurringInputs.get(i / 20 % recurringInputs.size()));
+            }
+        }
+
+        long hitCount = ResultCache.getValidationStatistics().hitCount;
+        recurringInputs.forEach(ResultCacheTest::lookUp);
+        assertTrue(ResultCache.getValidationStatistics().hitCount - hitCount >= recurringInputs.size() * 0.95);
+        assertTrue(ResultCache.getValidationStatistics().size <= maximumSize);
+    }
+
+    @Test
+    void verifyConversionsAreCachedPerLocalePair() {
+        ConvertorService convertorService = new ConvertorService();
+        ConversionResult uncached = convertorService.convertLocalizeInput("9 February 2022", "en-GB", "de-DE");
+
+        ResultCache.enable(100, Duration.ofMinutes(1));
+        ConversionResult first = convertorService.convertLocalizeInput("9 February 2022", "en-GB", "de-DE");
+        ConversionResult second = convertorService.convertLocalizeInput("9 February 2022", "en-GB", "de-DE");
+        convertorService.convertLocalizeInput("9 February 2022", "en-GB", "fr-FR");
+
+        assertEquals(uncached.targetLocalizedOutput, first.targetLocalizedOutput);
+        assertEquals(uncached.targetLocalizedOutput, second.targetLocalizedOutput);
+        assertEquals(uncached.targetPattern.pattern, second.targetPattern.pattern);
+        assertEquals(uncached.conversionSuggestions, second.conversionSuggestions);
+        assertNotSame(first.targetPattern, second.targetPattern);
+
+        CacheStatistics statistics = ResultCache.getConversionStatistics();
+        assertEquals(1, statistics.hitCount);
+        assertEquals(2, statistics.missCount);
+    }
+
+    @Test
+    void verifyDisabledCacheKeepsNothing() {
+        validatorService.validateInput("9 February 2022", "en-US");
+        validatorService.validateInput("9 February 2022", "en-US");
+
+        assertFalse(ResultCache.isEnabled());
+        assertEquals(0, ResultCache.getValidationStatistics().requestCount());
+    }
+
+    private static void lookUp(String input) {
+        ResultCache.getValidationResult(input, "en-US", () -> ValidationResult.builder().input(input).build());
+    }
+
+    private static void assertSameResult(ValidationResult expected, ValidationResult actual) {
+        assertEquals(expected.isLocalizedContent, actual.isLocalizedContent);
+        assertEquals(expected.input, actual.input);
+        assertEquals(expected.language, actual.language);
+        assertEquals(expected.detectedPattern.pattern, actual.detectedPattern.pattern);
+        assertEquals(expected.detectedPattern.patternInfoMessage, actual.detectedPattern.patternInfoMessage);
+        assertEquals(expected.suggestions, actual.suggestions);
+        assertEquals(expected.errors, actual.errors);
+    }
+}
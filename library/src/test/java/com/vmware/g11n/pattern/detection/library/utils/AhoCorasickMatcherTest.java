@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void verifyContainedStringsAreFound() {
+        List<String> strings = Arrays.asList("午後", "午前", "年", "3月", "", null, "後3", "2022年");
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(strings);
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        expected.set(4);
+        expected.set(6);
+        expected.set(7);
+        assertEquals(expected, matcher.findContained("2022年3日午後3:00"));
+    }
+
+    @Test
+    void verifyMatchesAreEqualToStringContains() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<String> strings = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                strings.add(randomString(random, random.nextInt(5)));
+            }
+            AhoCorasickMatcher matcher = new AhoCorasickMatcher(strings);
+
+            for (int i = 0; i < 20; i++) {
+                String input = randomString(random, random.nextInt(30));
+                BitSet expected = new BitSet();
+                for (int j = 0; j < strings.size(); j++) {
+                    if (input.contains(strings.get(j))) {
+                        expected.set(j);
+                    }
+                }
+                assertEquals(expected, matcher.findContained(input), strings + " in " + input);
+            }
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append("abc午後".charAt(random.nextInt(5)));
+        }
+        return builder.toString();
+    }
+}
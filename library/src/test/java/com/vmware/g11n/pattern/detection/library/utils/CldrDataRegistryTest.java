@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.vmware.g11n.pattern.detection.library.data.CacheStatistics;
+import com.vmware.g11n.pattern.detection.library.data.CldrDataset;
+import com.vmware.g11n.pattern.detection.library.data.DetectorStatistics;
+import com.vmware.g11n.pattern.detection.library.data.LocaleTokenIndex;
+import com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants;
+import com.vmware.g11n.pattern.detection.library.exceptions.DateTimePatternDetectionException;
+import com.vmware.g11n.pattern.detection.library.patterns.DetectorChain;
+import com.vmware.g11n.pattern.detection.library.patterns.FormatterCache;
+import com.vmware.g11n.pattern.detection.library.patterns.PatternBuilders;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CldrDataRegistryTest {
+
+    @Test
+    void verifyCldrDataIsLoadedOnceAndShared() {
+        Locale locale = Locale.forLanguageTag("fr-FR");
+        CldrData first = CldrDataRegistry.getCldrData(locale);
+        CacheStatistics statisticsAfterFirstLoad = CldrDataRegistry.getStatistics();
+
+        CldrData second = CldrDataRegistry.getCldrData(locale);
+        CacheStatistics statisticsAfterSecondLoad = CldrDataRegistry.getStatistics();
+
+        assertSame(first, second);
+        assertEquals(statisticsAfterFirstLoad.loadCount, statisticsAfterSecondLoad.loadCount);
+        assertEquals(statisticsAfterFirstLoad.hitCount + 1, statisticsAfterSecondLoad.hitCount);
+    }
+
+    @Test
+    void verifyUnsupportedLocaleIsNotCached() {
+        Locale locale = Locale.forLanguageTag("de-FR");
+        long sizeBefore = CldrDataRegistry.getStatistics().size;
+
+        Exception exception = assertThrows(DateTimePatternDetectionException.class, () -> CldrDataRegistry.getCldrData(locale));
+        assertEquals(PatternDetectionConstants.NOT_SUPPORTED_LOCALE_ERROR, exception.getMessage());
+        assertEquals(sizeBefore, CldrDataRegistry.getStatistics().size);
+    }
+
+    @Test
+    void verifyWarmUpLoadsAllSupportedLocales() {
+        CldrDataRegistry.warmUp();
+        long loadCount = CldrDataRegistry.getStatistics().loadCount;
+
+        CldrDataRegistry.warmUp();
+
+        assertEquals(loadCount, CldrDataRegistry.getStatistics().loadCount);
+        assertTrue(CldrDataRegistry.getStatistics().size >= 18);
+    }
+
+    @Test
+    void verifyWarmUpBuildsTheFormattersOfAllPatterns() {
+        FormatterCache.invalidateAll();
+        CldrDataRegistry.warmUp();
+        long loadCount = FormatterCache.getStatistics().loadCount;
+
+        String pattern = CldrDataRegistry.getCldrData(Locale.GERMANY).getGregorianCalendar().dateFormats.medium;
+        assertTrue(FormatterCache.getFormatter(pattern, Locale.GERMANY, false).isPresent());
+        assertTrue(FormatterCache.getFormatter(pattern, Locale.GERMANY, true).isPresent());
+        assertEquals(loadCount, FormatterCache.getStatistics().loadCount);
+    }
+
+    @Test
+    void verifyDetectorChainsAreLabelledWithTheLocaleOfTheirData() {
+        CldrDataRegistry.invalidateAll();
+        CldrData cldrData = CldrDataRegistry.getCldrData(Locale.GERMANY);
+        assertEquals("de-DE", CldrDataRegistry.getLocaleTag(cldrData));
+
+        PatternBuilders.warmUp(cldrData);
+        CldrProcessors.warmUp(cldrData);
+
+        List<DetectorStatistics> statistics = DetectorChain.getAllStatistics();
+        assertTrue(statistics.stream().anyMatch(stage -> stage.chain.equals("components") && stage.locale.equals("de-DE")));
+        assertTrue(statistics.stream().anyMatch(stage -> stage.chain.equals("cldr-formats") && stage.locale.equals("de-DE")));
+    }
+
+    @Test
+    void verifyLazySectionsAreLoadedOnceOnFirstAccess() {
+        AtomicInteger timezoneLoads = new AtomicInteger();
+        CldrData cldrData = CldrData.builder()
+                .gregorianCalendar(CldrDataRegistry.getCldrData(Locale.forLanguageTag("en-US")).getGregorianCalendar())
+                .timezoneNames(() -> {
+                    timezoneLoads.incrementAndGet();
+                    return CldrDataRegistry.getCldrData(Locale.forLanguageTag("en-US")).getTimezoneNames();
+                })
+                .build();
+
+        assertNotNull(cldrData.getGregorianCalendar());
+        assertNull(cldrData.getDateFields());
+        assertEquals(0, timezoneLoads.get());
+
+        assertSame(cldrData.getTimezoneNames(), cldrData.getTimezoneNames());
+        assertEquals(1, timezoneLoads.get());
+    }
+
+    @Test
+    void verifyCldrVersionIsSwappedAfterLoading() throws IOException {
+        Path cldrJsonZip = Files.createTempDirectory("cldr-json").resolve("cldr-json-full.zip");
+        CldrResourceGeneratorTest.writeCldrJsonZip(cldrJsonZip, Map.of("de-DE", "de", "en-US", "en"));
+
+        CldrData previousCldrData = CldrDataRegistry.getCldrData(Locale.forLanguageTag("de-DE"));
+        try {
+            CldrDataset dataset = CldrDataRegistry.loadCldrVersion(cldrJsonZip, "39.0.0-test", List.of("de-DE", "en-US"));
+
+            assertEquals("39.0.0-test", CldrDataRegistry.getCldrVersion());
+            assertEquals(List.of("de-DE", "en-US"), CldrDataRegistry.getSupportedLocales());
+            assertSame(dataset.cldrDataByLocale.get(Locale.GERMANY), CldrDataRegistry.getCldrData(Locale.GERMANY));
+            assertNotSame(previousCldrData, CldrDataRegistry.getCldrData(Locale.GERMANY));
+            assertEquals(previousCldrData.getGregorianCalendar().dateFormats.shortened,
+                    CldrDataRegistry.getCldrData(Locale.GERMANY).getGregorianCalendar().dateFormats.shortened);
+            assertNotNull(CldrDataRegistry.getCldrData(Locale.US).getTimezoneNames());
+            assertSame(LocaleTokenIndex.forDataset(dataset), LocaleTokenIndex.forSupportedLocales());
+            assertEquals("en-US", CldrDataRegistry.getLocaleTag(CldrDataRegistry.getCldrData(Locale.US)));
+
+            Exception exception = assertThrows(DateTimePatternDetectionException.class, () -> CldrDataRegistry.getCldrData(Locale.FRANCE));
+            assertEquals(PatternDetectionConstants.NOT_SUPPORTED_LOCALE_ERROR, exception.getMessage());
+        } finally {
+            CldrDataRegistry.invalidateAll();
+        }
+        assertEquals("39.0.0", CldrDataRegistry.getCldrVersion());
+    }
+
+    @Test
+    void verifyFailedLoadKeepsCurrentCldrVersion() throws IOException {
+        Path cldrJsonZip = Files.createTempDirectory("cldr-json").resolve("cldr-json-full.zip");
+        CldrResourceGeneratorTest.writeCldrJsonZip(cldrJsonZip, Map.of("de-DE", "de"));
+
+        assertThrows(IOException.class, () -> CldrDataRegistry.loadCldrVersion(cldrJsonZip, "39.0.0-test", List.of("de-DE", "fr-FR")));
+        assertEquals("39.0.0", CldrDataRegistry.getCldrVersion());
+        assertNotNull(CldrDataRegistry.getCldrData(Locale.FRANCE));
+    }
+}
@@ -7,6 +7,7 @@ package com.vmware.g11n.pattern.detection.library.utils;
 
 import com.google.common.collect.ImmutableList;
 import com.vmware.g11n.pattern.detection.library.DateTimePatternDetection;
+import com.vmware.g11n.pattern.detection.library.services.DetectionContext;
 import com.vmware.g11n.pattern.detection.model.CldrData;
 import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.DateFormats;
 import com.vmware.g11n.pattern.detection.model.calendar.dateTimeFormats.TimeFormats;
@@ -37,7 +38,7 @@ class CldrProcessorsTest {
 
             dateFormatsForCurrentLocale.getAllDateFormatsAsMap().values().forEach(format -> {
                 String formattedInput = localDate.format(DateTimeFormatter.ofPattern(format, currentLocale));
-                ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataForCurrentLocale, formattedInput, currentLocale);
+                ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataForCurrentLocale, formattedInput, currentLocale, new DetectionContext());
                 assertTrue(validatedPattern.isValidDate, "The detected pattern should be valid Date");
                 assertTrue(validatedPattern.isStandardFormat, "The detected pattern should be standard");
             });
@@ -57,7 +58,7 @@ class CldrProcessorsTest {
 
             timeFormatsForCurrentLocale.getAllTimeFormatsAsMap().values().forEach(format -> {
                 String formattedInput = localDate.format(DateTimeFormatter.ofPattern(format, currentLocale));
-                ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataForCurrentLocale, formattedInput, currentLocale);
+                ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataForCurrentLocale, formattedInput, currentLocale, new DetectionContext());
                 assertFalse(validatedPattern.isValidDate, "The detected pattern should NOT be valid Date");
                 assertTrue(validatedPattern.isStandardFormat, "The detected pattern should be standard");
             });
@@ -77,7 +78,7 @@ class CldrProcessorsTest {
 
             dateTimeFormatsForCurrentLocale.values().forEach(format -> {
                 String formattedInput = localDate.format(DateTimeFormatter.ofPattern(format, currentLocale));
-                ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataForCurrentLocale, formattedInput, currentLocale);
+                ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataForCurrentLocale, formattedInput, currentLocale, new DetectionContext());
                 assertTrue(validatedPattern.isValidDate, "The detected pattern should be valid Date");
                 assertTrue(validatedPattern.isStandardFormat, "The detected pattern should be standard");
             });
@@ -87,7 +88,7 @@ class CldrProcessorsTest {
     @Test
     void verifyDetectNonStandardTemporalCldrFormats() {
         CldrData cldrDataCN = loadCldrData(Locale.SIMPLIFIED_CHINESE);
-        ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataCN, "2022年第4季度", Locale.SIMPLIFIED_CHINESE);
+        ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataCN, "2022年第4季度", Locale.SIMPLIFIED_CHINESE, new DetectionContext());
 
         assertFalse(validatedPattern.isStandardFormat, "The detected pattern should NOT be standard.");
         assertFalse(validatedPattern.isValidDate, "The detected pattern should NOT be valid Date.");
@@ -99,7 +100,7 @@ class CldrProcessorsTest {
         CldrData cldrDataCN = loadCldrData(Locale.SIMPLIFIED_CHINESE);
         ImmutableList.of("2022/11/16周三", "公元2022年11月16日", "2022年11月16日周三").forEach(
                 input -> {
-                    ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataCN, input, Locale.SIMPLIFIED_CHINESE);
+                    ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataCN, input, Locale.SIMPLIFIED_CHINESE, new DetectionContext());
                     assertFalse(validatedPattern.isStandardFormat, "The detected pattern should NOT be standard.");
                     assertTrue(validatedPattern.isValidDate, "The detected pattern should be valid Date.");
                 }
@@ -109,7 +110,7 @@ class CldrProcessorsTest {
     @Test
     void verifyDetectNonStandardTimeCldrFormats() {
         CldrData cldrDataES = loadCldrData(Locale.forLanguageTag("es-ES"));
-        ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataES, "11:27 de la mañana", Locale.forLanguageTag("es-ES"));
+        ValidatedPattern validatedPattern = getValidatedPatternFromCldrFormats(cldrDataES, "11:27 de la mañana", Locale.forLanguageTag("es-ES"), new DetectionContext());
 
         assertFalse(validatedPattern.isStandardFormat, "The detected pattern should NOT be standard.");
         assertFalse(validatedPattern.isValidDate, "The detected pattern should NOT be valid Date.");
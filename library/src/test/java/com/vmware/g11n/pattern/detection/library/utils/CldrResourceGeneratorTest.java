@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.vmware.g11n.pattern.detection.library.data.CldrDataset;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CldrResourceGeneratorTest {
+
+    private static final Map<String, String> LOCALE_DIRECTORIES = new LinkedHashMap<>(Map.of(
+            "de-DE", "de", "en-US", "en", "en-AU", "en-AU", "zh-CN", "zh-Hans", "it-CH", "it-CH"));
+
+    @Test
+    void verifyCldrZipIsReadForRequestedLocales() throws IOException {
+        Path cldrJsonZip = Files.createTempDirectory("cldr-json").resolve("cldr-json-full.zip");
+        writeCldrJsonZip(cldrJsonZip, LOCALE_DIRECTORIES);
+        ObjectMapper mapper = new ObjectMapper();
+
+        List<String> locales = List.of("zh-CN", "de-DE", "en-US", "it-CH");
+        CldrDataset dataset = CldrResourceGenerator.readCldrZip(cldrJsonZip, "39.0.0", locales);
+
+        assertEquals("39.0.0", dataset.cldrVersion);
+        assertEquals(locales, dataset.getSupportedLocales());
+        for (String locale : locales) {
+            CldrData cldrData = ResourceLoaders.readCldrData(Locale.forLanguageTag(locale));
+            CldrData cldrDataFromZip = dataset.cldrDataByLocale.get(Locale.forLanguageTag(locale));
+
+            assertEquals(mapper.writeValueAsString(cldrData.getGregorianCalendar()), mapper.writeValueAsString(cldrDataFromZip.getGregorianCalendar()), locale);
+            assertEquals(mapper.writeValueAsString(cldrData.getDateFields()), mapper.writeValueAsString(cldrDataFromZip.getDateFields()), locale);
+            assertEquals(mapper.writeValueAsString(cldrData.getTimezoneNames()), mapper.writeValueAsString(cldrDataFromZip.getTimezoneNames()), locale);
+        }
+    }
+
+    @Test
+    void verifyMissingLocaleFails() throws IOException {
+        Path cldrJsonZip = Files.createTempDirectory("cldr-json").resolve("cldr-json-full.zip");
+        writeCldrJsonZip(cldrJsonZip, Map.of("de-DE", "de"));
+
+        Exception exception = assertThrows(IOException.class, () -> CldrResourceGenerator.readCldrZip(cldrJsonZip, "39.0.0", List.of("de-DE", "ja-JP")));
+        assertTrue(exception.getMessage().contains("ja-JP"));
+    }
+
+    @Test
+    void verifyMissingZipFailsTheGeneration() throws IOException {
+        String cldrJsonZip = Files.createTempDirectory("cldr-json").resolve("missing.zip").toString();
+
+        assertThrows(IOException.class, () -> new ResourceLoaders().generateCldrData("39.0.0", cldrJsonZip, List.of("de-DE")));
+    }
+
+    @Test
+    void verifyCldrLocalesAreListed() throws IOException {
+        Path cldrJsonZip = Files.createTempDirectory("cldr-json").resolve("cldr-json-full.zip");
+        writeCldrJsonZip(cldrJsonZip, LOCALE_DIRECTORIES);
+
+        assertEquals(List.of("de-DE", "en-AU", "en-US", "it-CH", "zh-CN"), CldrResourceGenerator.listCldrLocales(cldrJsonZip));
+    }
+
+    @Test
+    void verifyCldrResourcesAreWritten() throws IOException {
+        Path cldrJsonZip = Files.createTempDirectory("cldr-json").resolve("cldr-json-full.zip");
+        writeCldrJsonZip(cldrJsonZip, Map.of("ja-JP", "ja"));
+        Path resourcesDirectory = Files.createTempDirectory("cldr-resources");
+        ObjectMapper mapper = new ObjectMapper();
+
+        CldrResourceGenerator.writeCldrResources(CldrResourceGenerator.readCldrZip(cldrJsonZip, "39.0.0", List.of("ja-JP")), resourcesDirectory);
+
+        for (String fileName : List.of("dates-full.json", "date-fields.json", "timezone-fields.json")) {
+            try (InputStream resource = CldrResourceGeneratorTest.class.getClassLoader().getResourceAsStream("cldr/ja/JP/" + fileName)) {
+                assertEquals(mapper.readTree(resource), mapper.readTree(resourcesDirectory.resolve("cldr/ja/JP/" + fileName).toFile()), fileName);
+            }
+        }
+    }
+
+    // Wraps the bundled resources of the locales into the layout of the CLDR JSON release zip
+    static void writeCldrJsonZip(Path cldrJsonZip, Map<String, String> localeDirectories) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        String[][] files = {{"dates-full.json", "ca-gregorian.json", "calendars", "gregorian"},
+                {"date-fields.json", "dateFields.json", "fields"},
+                {"timezone-fields.json", "timeZoneNames.json", "timeZoneNames"}};
+
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(cldrJsonZip))) {
+            out.putNextEntry(new ZipEntry("cldr-core/supplemental/likelySubtags.json"));
+            out.write("{}".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+
+            for (Map.Entry<String, String> localeDirectory : localeDirectories.entrySet()) {
+                String resourceDirectory = "cldr/" + localeDirectory.getKey().replace('-', '/') + "/";
+
+                for (String[] file : files) {
+                    ObjectNode root = mapper.createObjectNode();
+                    ObjectNode localeNode = root.putObject("main").putObject(localeDirectory.getValue());
+                    localeNode.putObject("identity").put("language", localeDirectory.getKey().split("-")[0]);
+                    ObjectNode node = localeNode.putObject("dates");
+                    for (int i = 2; i < file.length - 1; i++) {
+                        node = node.putObject(file[i]);
+                    }
+                    try (InputStream resource = CldrResourceGeneratorTest.class.getClassLoader().getResourceAsStream(resourceDirectory + file[0])) {
+                        node.set(file[file.length - 1], mapper.readTree(resource));
+                    }
+
+                    out.putNextEntry(new ZipEntry("cldr-dates-full/main/" + localeDirectory.getValue() + "/" + file[1]));
+                    out.write(mapper.writeValueAsBytes(root));
+                    out.closeEntry();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vmware.g11n.pattern.detection.library.DateTimePatternDetection;
+import com.vmware.g11n.pattern.detection.model.CldrData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CldrSnapshotsTest {
+
+    @Test
+    void verifySnapshotRoundTripForAllSupportedLocales() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        DateTimePatternDetection dateTimePatternDetection = new DateTimePatternDetection();
+
+        for (String locale : dateTimePatternDetection.getSupportedLocales()) {
+            CldrData cldrData = ResourceLoaders.loadCldrData(Locale.forLanguageTag(locale));
+            byte[] snapshot = CldrSnapshots.writeSnapshot(cldrData, "39.0.0");
+            CldrData cldrDataFromSnapshot = CldrSnapshots.readSnapshot(ByteBuffer.wrap(snapshot), "39.0.0");
+
+            assertNotNull(cldrDataFromSnapshot);
+            assertEquals(mapper.writeValueAsString(cldrData.getGregorianCalendar()), mapper.writeValueAsString(cldrDataFromSnapshot.getGregorianCalendar()), locale);
+            assertEquals(mapper.writeValueAsString(cldrData.getDateFields()), mapper.writeValueAsString(cldrDataFromSnapshot.getDateFields()), locale);
+            assertEquals(mapper.writeValueAsString(cldrData.getTimezoneNames()), mapper.writeValueAsString(cldrDataFromSnapshot.getTimezoneNames()), locale);
+        }
+    }
+
+    @Test
+    void verifySnapshotOfDifferentCldrVersionIsIgnored() throws IOException {
+        CldrData cldrData = ResourceLoaders.loadCldrData(Locale.forLanguageTag("de-DE"));
+        byte[] snapshot = CldrSnapshots.writeSnapshot(cldrData, "39.0.0");
+
+        assertNull(CldrSnapshots.readSnapshot(ByteBuffer.wrap(snapshot), "40.0.0"));
+        assertNull(CldrSnapshots.readSnapshot(ByteBuffer.wrap(new byte[]{1, 2, 3}), "39.0.0"));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.vmware.g11n.pattern.detection.library.patterns.PatternBuilders;
+import com.vmware.g11n.pattern.detection.library.utils.InputTokenizer.Token;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.vmware.g11n.pattern.detection.library.utils.InputTokenizer.TokenType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputTokenizerTest {
+
+    @Test
+    void verifyTokenTypesAndOffsets() {
+        String input = "Mittwoch, 09 Februar 2022 16:57:00";
+        List<Token> tokens = InputTokenizer.tokenize(input);
+
+        assertEquals(List.of(WORD, SEPARATOR, SEPARATOR, NUMBER, SEPARATOR, WORD, SEPARATOR, NUMBER, SEPARATOR, TIME),
+                tokens.stream().map(token -> token.type).toList());
+        for (Token token : tokens) {
+            assertEquals(input.substring(token.start, token.end), token.text);
+        }
+        assertEquals(9, tokens.get(3).value);
+        assertEquals(2, tokens.get(3).width());
+        assertEquals("16:57:00", tokens.get(9).text);
+        assertEquals(-1, tokens.get(9).value);
+    }
+
+    @Test
+    void verifyCjkAndNonAsciiRuns() {
+        assertEquals(List.of(NUMBER, CJK, NUMBER, CJK, NUMBER, CJK),
+                InputTokenizer.tokenize("2022年2月9日").stream().map(token -> token.type).toList());
+        assertEquals(List.of(CJK, NUMBER, CJK),
+                InputTokenizer.tokenize("午後4時").stream().map(token -> token.type).toList());
+        assertEquals(List.of(WORD, CJK), InputTokenizer.tokenize("AM午後").stream().map(token -> token.type).toList());
+        assertEquals(List.of(WORD, TIME), InputTokenizer.tokenize("AM4:07").stream().map(token -> token.type).toList());
+
+        // Digits of other scripts are not numbers, and a colon without digits after it doesn't make a time
+        assertEquals(List.of(WORD), InputTokenizer.tokenize("٢٠٢٢").stream().map(token -> token.type).toList());
+        assertEquals(List.of(NUMBER, SEPARATOR), InputTokenizer.tokenize("16:").stream().map(token -> token.type).toList());
+        assertEquals(-1, InputTokenizer.tokenize("12345678901").get(0).value);
+    }
+
+    @Test
+    void verifyNumberWithOptionalPeriod() {
+        assertEquals("31", InputTokenizer.getNumberWithOptionalPeriod(InputTokenizer.tokenize("31.")).text);
+        assertNull(InputTokenizer.getNumberWithOptionalPeriod(InputTokenizer.tokenize("31,")));
+        assertNull(InputTokenizer.getNumberWithOptionalPeriod(InputTokenizer.tokenize("4.5")));
+        assertNull(InputTokenizer.getNumberWithOptionalPeriod(InputTokenizer.tokenize("")));
+    }
+
+    @Test
+    void verifyNumberPatternsMatchRegexDetection() {
+        List<String> inputs = new ArrayList<>(List.of("", ".", "-1", "+1", "1.", "01.", "1..", "4.5", "1a", "a1", "12:00", "٣"));
+        for (int i = 0; i <= 3100; i++) {
+            inputs.add(String.valueOf(i));
+            inputs.add(i + ".");
+            inputs.add("0" + i);
+            inputs.add("00" + i);
+            inputs.add("000" + i + ".");
+        }
+
+        for (String input : inputs) {
+            assertEquals(regexPattern("^(([0]{0,3}[1-9])|([0]{0,2}[1-2][0-9])|([0]{0,2}3[01]))\\.?$", input, true),
+                    PatternBuilders.buildDayOfMonthPattern(input), input);
+            assertEquals(regexPattern("^[12][0-9]{3}\\.?$", input, false).replace("d", "yyyy"),
+                    PatternBuilders.buildYearPattern(input), input);
+            assertEquals(regexPattern("^(1[0-2]|[1-9])\\.?$", input, false).replace("d", "M"),
+                    PatternBuilders.buildMonthPattern(input), input);
+        }
+    }
+
+    // The regex based detection which the tokens replaced, returning "d" for the number in place of the field symbol
+    private static String regexPattern(String regex, String input, boolean dayOfMonthPadding) {
+        Matcher m = Pattern.compile(regex).matcher(input);
+        if (!m.find()) {
+            return "";
+        }
+        String matchedGroup = m.group();
+        if (!dayOfMonthPadding) {
+            return matchedGroup.replaceAll("\\d+", "d");
+        }
+
+        int padding = matchedGroup.length() - matchedGroup.replace("0", "").length();
+        if (padding > 0 && matchedGroup.replaceAll("0", "").matches("^\\d{2}\\.?$")) {
+            padding++;
+        }
+        return matchedGroup.replaceAll("\\d+", "d".repeat(padding + 1));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.vmware.g11n.pattern.detection.model.serviceData.ValidatedPattern;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.vmware.g11n.pattern.detection.library.utils.IsoProcessors.*;
+import static java.time.format.DateTimeFormatter.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IsoProcessorsTest {
+
+    private static final List<String> ISO_INPUTS = List.of("2022-02-09", "2022-040", "2022-040+01:00", "2022-02-09T16:57:00",
+            "2022-02-09T16:57", "2022-02-09T16:57:00.123456789", "2022-02-09t16:57:00z", "2022-02-09T16:57:00+01:00",
+            "2022-02-09T16:57:00+01", "2022-02-09T16:57:00+0100", "2022-02-09T16:57:00+01:00[Europe/Paris]",
+            "2022-02-09T16:57:00Z[UTC]", "2022-02-09+01:00", "16:57", "16:57:00", "16:57:00+01:00", "16:57:00.5Z",
+            "+12022-02-09", "-2022-02-09", "2022-02-30", "2022-366", "24:00", "Mittwoch, 9 Februar 2022");
+
+    @Test
+    void verifyIsoPatternsAndMessages() {
+        assertIsoPattern("2022-02-09", ISO_LOCAL_DATE_PATTERN, ISO_DATE_MESSAGE);
+        assertIsoPattern("2022-040", ISO_ORDINAL_DATE_PATTERN, ISO_ORDINAL_DATE_MESSAGE);
+        assertIsoPattern("2022-02-09T16:57:00", ISO_LOCAL_DATE_TIME_PATTERN, ISO_DATE_TIME_MESSAGE);
+        assertIsoPattern("2022-02-09T16:57:00+01:00", ISO_OFFSET_DATE_TIME_PATTERN, ISO_DATE_TIME_OFFSET_MESSAGE);
+        assertIsoPattern("2022-02-09T16:57:00+01:00[Europe/Paris]", ISO_ZONED_DATE_TIME_PATTERN, ISO_ZONED_DATE_MESSAGE);
+        assertIsoPattern("16:57:00+01:00", ISO_OFFSET_TIME_PATTERN, ISO_OFFSET_TIME_MESSAGE);
+        assertIsoPattern("16:57", ISO_LOCAL_TIME_PATTERN, ISO_OFFSET_TIME_WITHOUT_SECONDS_MESSAGE);
+        assertIsoPattern("2022-02-30", "", null);
+        assertIsoPattern("Mittwoch", "", null);
+    }
+
+    @Test
+    void verifyRecognizerMatchesIsoFormatters() {
+        // The ISO inputs, and copies with chars replaced, inserted or removed at random
+        String alphabet = "0123456789-:+.TtZz[]/E ";
+        Random random = new Random(7);
+        List<String> inputs = new ArrayList<>(ISO_INPUTS);
+        for (String isoInput : ISO_INPUTS) {
+            for (int i = 0; i < 2_000; i++) {
+                StringBuilder input = new StringBuilder(isoInput);
+                for (int edits = 1 + random.nextInt(2); edits > 0 && input.length() > 0; edits--) {
+                    int position = random.nextInt(input.length());
+                    char replacement = alphabet.charAt(random.nextInt(alphabet.length()));
+                    switch (random.nextInt(3)) {
+                        case 0 -> input.setCharAt(position, replacement);
+                        case 1 -> input.insert(position, replacement);
+                        default -> input.deleteCharAt(position);
+                    }
+                }
+                inputs.add(input.toString());
+            }
+        }
+
+        for (String input : inputs) {
+            ValidatedPattern validatedPattern = detectPatternFromPredefinedIsoFormats(input);
+            String[] expected = detectWithIsoFormatters(input);
+            assertEquals(expected[0], validatedPattern.pattern, input);
+            assertEquals(expected[1], validatedPattern.patternInfoMessage, input);
+        }
+    }
+
+    private static void assertIsoPattern(String input, String pattern, String message) {
+        ValidatedPattern validatedPattern = detectPatternFromPredefinedIsoFormats(input);
+        assertEquals(pattern, validatedPattern.pattern, input);
+        assertEquals(message, validatedPattern.patternInfoMessage, input);
+    }
+
+    // Tries the JDK ISO formatters one by one, in the order the recognizer replaced
+    private static String[] detectWithIsoFormatters(String input) {
+        Map<DateTimeFormatter, String[]> formatters = new LinkedHashMap<>();
+        formatters.put(ISO_LOCAL_DATE, new String[]{ISO_LOCAL_DATE_PATTERN, ISO_DATE_MESSAGE});
+        formatters.put(ISO_ORDINAL_DATE, new String[]{ISO_ORDINAL_DATE_PATTERN, ISO_ORDINAL_DATE_MESSAGE});
+        formatters.put(ISO_LOCAL_DATE_TIME, new String[]{ISO_LOCAL_DATE_TIME_PATTERN, ISO_DATE_TIME_MESSAGE});
+        formatters.put(ISO_OFFSET_DATE_TIME, new String[]{ISO_OFFSET_DATE_TIME_PATTERN, ISO_DATE_TIME_OFFSET_MESSAGE});
+        formatters.put(ISO_ZONED_DATE_TIME, new String[]{ISO_ZONED_DATE_TIME_PATTERN, ISO_ZONED_DATE_MESSAGE});
+        formatters.put(ISO_OFFSET_DATE, new String[]{ISO_OFFSET_DATE_PATTERN, ISO_OFFSET_DATE_MESSAGE});
+        formatters.put(ISO_OFFSET_TIME, new String[]{ISO_OFFSET_TIME_PATTERN, ISO_OFFSET_TIME_MESSAGE});
+        formatters.put(ISO_LOCAL_TIME, new String[]{ISO_LOCAL_TIME_PATTERN, ISO_OFFSET_TIME_WITHOUT_SECONDS_MESSAGE});
+
+        for (Map.Entry<DateTimeFormatter, String[]> entry : formatters.entrySet()) {
+            DateTimeFormatter formatter = entry.getKey();
+            TemporalQuery<?> query = formatter == ISO_LOCAL_DATE || formatter == ISO_ORDINAL_DATE ? LocalDate::from
+                    : formatter == ISO_LOCAL_DATE_TIME ? LocalDateTime::from
+                    : formatter == ISO_OFFSET_TIME || formatter == ISO_LOCAL_TIME ? LocalTime::from : ZonedDateTime::from;
+            try {
+                formatter.parse(input, query);
+                return entry.getValue();
+            } catch (DateTimeParseException ignored) {
+                // Try the next formatter
+            }
+        }
+        return new String[]{"", null};
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+Compares the hand-written Matchers classifiers with the regexes they replaced, on the calls the library makes: the
+component checks of PatternBuilders, the CLDR pattern checks of CldrMappers and the offset checks of TimezoneNameIndex.
+Not part of the test run, start it with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchersBenchmark {
+
+    // Components of user inputs, as PatternBuilders and CldrMappers get them
+    private final String[] components = {"Mittwoch,", "9", "Februar", "2022", "16:57:00", "7:33", "PM", "05", "59",
+            "11/16/22", "[Trimmed-input]", "(Pacific)"};
+
+    // CLDR patterns, read by CldrMappers for their literals and by PatternBuilders for their separator
+    private final String[] cldrPatterns = {"EEEE, d 'de' MMMM 'de' y", "d. MMMM y 'um' HH:mm", "M/d/yy", "dd.MM.yy",
+            "y年M月d日", "h:mm a"};
+
+    // Timezone components, as TimezoneNameIndex gets them
+    private final String[] timezones = {"GMT+3", "GMT-11:00", "+0530", "-05:00", "PST", "Europe/Paris"};
+
+    @Benchmark
+    public void handWritten(Blackhole blackhole) {
+        for (String component : components) {
+            blackhole.consume(Matchers.getTrimmedComponent(component));
+            blackhole.consume(Matchers.getMatchedTimeOrPattern(component, Matchers.standaloneTimePatternsToRegexMap, false));
+            blackhole.consume(Matchers.getMatchedTimeOrPattern(component, Matchers.formattedTimePatternsToRegexMap, true));
+            blackhole.consume(Matchers.detectHoursShortStandaloneFormat(component));
+            blackhole.consume(Matchers.detectHoursLongStandaloneFormat(component));
+            blackhole.consume(Matchers.detectMinutesOrSecondsStandaloneShortFormat(component));
+            blackhole.consume(Matchers.detectMinutesOrSecondsStandaloneLongFormat(component));
+        }
+        for (String cldrPattern : cldrPatterns) {
+            blackhole.consume(Matchers.detectSingleQuotationWordsAndGetMatchedGroup(cldrPattern));
+            blackhole.consume(Matchers.detectDateCharacterSeparatorAndGetMatchedGroup(cldrPattern));
+        }
+        for (String timezone : timezones) {
+            blackhole.consume(Matchers.detectBasicHmsFormat(timezone));
+            blackhole.consume(Matchers.detectExtendedHmsFormat(timezone));
+            blackhole.consume(Matchers.detectLongGmtFormat(timezone));
+            blackhole.consume(Matchers.detectShortGmtFormat(timezone));
+        }
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        for (String component : components) {
+            blackhole.consume(RegexMatchers.getTrimmedComponent(component));
+            blackhole.consume(RegexMatchers.getMatchedTimeOrPattern(component, Matchers.standaloneTimePatternsToRegexMap, false));
+            blackhole.consume(RegexMatchers.getMatchedTimeOrPattern(component, Matchers.formattedTimePatternsToRegexMap, true));
+            blackhole.consume(RegexMatchers.detectHoursShortStandaloneFormat(component));
+            blackhole.consume(RegexMatchers.detectHoursLongStandaloneFormat(component));
+            blackhole.consume(RegexMatchers.detectMinutesOrSecondsStandaloneShortFormat(component));
+            blackhole.consume(RegexMatchers.detectMinutesOrSecondsStandaloneLongFormat(component));
+        }
+        for (String cldrPattern : cldrPatterns) {
+            blackhole.consume(RegexMatchers.detectSingleQuotationWordsAndGetMatchedGroup(cldrPattern));
+            blackhole.consume(RegexMatchers.detectDateCharacterSeparatorAndGetMatchedGroup(cldrPattern));
+        }
+        for (String timezone : timezones) {
+            blackhole.consume(RegexMatchers.detectBasicHmsFormat(timezone));
+            blackhole.consume(RegexMatchers.detectExtendedHmsFormat(timezone));
+            blackhole.consume(RegexMatchers.detectLongGmtFormat(timezone));
+            blackhole.consume(RegexMatchers.detectShortGmtFormat(timezone));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MatchersBenchmark.class.getSimpleName()).build()).run();
+    }
+}
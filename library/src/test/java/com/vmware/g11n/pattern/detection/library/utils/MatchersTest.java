@@ -9,6 +9,11 @@ import com.vmware.g11n.pattern.detection.library.utils.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 class MatchersTest {
@@ -16,7 +21,6 @@ class MatchersTest {
     static final String EXPECTED_MATCHED_INPUT_ERROR_MESSAGE = "Input should be matched. Check Regex expression.";
     static final String EXPECTED_UNMATCHED_INPUT_ERROR_MESSAGE = "Input should NOT be matched. Check Regex expression.";
     static final String INCORRECT_GROUP_MATCHED_ERROR_MESSAGE = "Incorrect group was matched. Check Regex expression.";
-    static final String MATCHED_GROUP_ERROR_MESSAGE = "No group should be matched. Check Regex expression.";
     static final String INCORRECT_TIME_FORMAT_MATCHED_ERROR_MESSAGE = "Incorrect time format matched. Check time formats map.";
 
     @Test
@@ -33,6 +37,7 @@ class MatchersTest {
         Assertions.assertFalse(Matchers.detectShortGmtFormat("GMT+03:00"), EXPECTED_UNMATCHED_INPUT_ERROR_MESSAGE);
         Assertions.assertFalse(Matchers.detectShortGmtFormat("GMT+5:00"), EXPECTED_UNMATCHED_INPUT_ERROR_MESSAGE);
         Assertions.assertFalse(Matchers.detectShortGmtFormat("GMT-15"), EXPECTED_UNMATCHED_INPUT_ERROR_MESSAGE);
+        Assertions.assertFalse(Matchers.detectShortGmtFormat("GMT+4\n"), EXPECTED_UNMATCHED_INPUT_ERROR_MESSAGE);
     }
 
     @Test
@@ -101,36 +106,7 @@ class MatchersTest {
         Assertions.assertFalse(Matchers.detectHoursLongStandaloneFormat("24"), EXPECTED_UNMATCHED_INPUT_ERROR_MESSAGE);
         Assertions.assertFalse(Matchers.detectHoursLongStandaloneFormat("31"), EXPECTED_UNMATCHED_INPUT_ERROR_MESSAGE);
         Assertions.assertFalse(Matchers.detectHoursLongStandaloneFormat("0"), EXPECTED_UNMATCHED_INPUT_ERROR_MESSAGE);
-    }
-
-    @Test
-    void verifyDetectDayOfMonthAndGetMatchedGroup() {
-        Assertions.assertEquals("31", Matchers.detectDayOfMonthAndGetMatchedGroup("31"), INCORRECT_GROUP_MATCHED_ERROR_MESSAGE);
-        Assertions.assertEquals("02", Matchers.detectDayOfMonthAndGetMatchedGroup("02"), INCORRECT_GROUP_MATCHED_ERROR_MESSAGE);
-        Assertions.assertEquals("1", Matchers.detectDayOfMonthAndGetMatchedGroup("1"), INCORRECT_GROUP_MATCHED_ERROR_MESSAGE);
-        Assertions.assertEquals("009", Matchers.detectDayOfMonthAndGetMatchedGroup("009"), INCORRECT_GROUP_MATCHED_ERROR_MESSAGE);
-        Assertions.assertEquals(EMPTY, Matchers.detectDayOfMonthAndGetMatchedGroup("35"), MATCHED_GROUP_ERROR_MESSAGE);
-        Assertions.assertEquals(EMPTY, Matchers.detectDayOfMonthAndGetMatchedGroup("0"), MATCHED_GROUP_ERROR_MESSAGE);
-        Assertions.assertEquals(EMPTY, Matchers.detectDayOfMonthAndGetMatchedGroup("99"), MATCHED_GROUP_ERROR_MESSAGE);
-        Assertions.assertEquals(EMPTY, Matchers.detectDayOfMonthAndGetMatchedGroup("4.5"), MATCHED_GROUP_ERROR_MESSAGE);
-    }
-
-    @Test
-    void verifyDetectYearAndGetMatchedGroup() {
-        Assertions.assertEquals("2001", Matchers.detectYearAndGetMatchedGroup("2001"), INCORRECT_GROUP_MATCHED_ERROR_MESSAGE);
-        Assertions.assertEquals("1901", Matchers.detectYearAndGetMatchedGroup("1901"), INCORRECT_GROUP_MATCHED_ERROR_MESSAGE);
-        Assertions.assertEquals("2999", Matchers.detectYearAndGetMatchedGroup("2999"), INCORRECT_GROUP_MATCHED_ERROR_MESSAGE);
-        Assertions.assertEquals(EMPTY, Matchers.detectYearAndGetMatchedGroup("35"), MATCHED_GROUP_ERROR_MESSAGE);
-        Assertions.assertEquals(EMPTY, Matchers.detectYearAndGetMatchedGroup("-3221"), MATCHED_GROUP_ERROR_MESSAGE);
-        Assertions.assertEquals(EMPTY, Matchers.detectYearAndGetMatchedGroup("9999"), MATCHED_GROUP_ERROR_MESSAGE);
-    }
-
-    @Test
-    void verifyDetectMonthAndGetMatchedGroup() {
-        Assertions.assertEquals("12", Matchers.detectMonthAndGetMatchedGroup("12"), INCORRECT_GROUP_MATCHED_ERROR_MESSAGE);
-        Assertions.assertEquals("1", Matchers.detectMonthAndGetMatchedGroup("1"), INCORRECT_GROUP_MATCHED_ERROR_MESSAGE);
-        Assertions.assertEquals(EMPTY, Matchers.detectMonthAndGetMatchedGroup("13"), MATCHED_GROUP_ERROR_MESSAGE);
-        Assertions.assertEquals(EMPTY, Matchers.detectMonthAndGetMatchedGroup("0"), MATCHED_GROUP_ERROR_MESSAGE);
+        Assertions.assertFalse(Matchers.detectHoursLongStandaloneFormat("11\r\n"), EXPECTED_UNMATCHED_INPUT_ERROR_MESSAGE);
     }
 
     @Test
@@ -168,4 +144,37 @@ class MatchersTest {
         Assertions.assertEquals("1:50:10", Matchers.getMatchedTimeOrPattern("31:50:100Testing", Matchers.standaloneTimePatternsToRegexMap, false), INCORRECT_TIME_FORMAT_MATCHED_ERROR_MESSAGE);
         Assertions.assertEquals("5:12", Matchers.getMatchedTimeOrPattern("Test-55:12:Testing", Matchers.formattedTimePatternsToRegexMap, false), INCORRECT_TIME_FORMAT_MATCHED_ERROR_MESSAGE);
     }
-}
\ No newline at end of file
+
+    @Test
+    void verifyClassifiersMatchRegexes() {
+        // Random inputs over the chars the regexes care about, plus line terminators which '.' doesn't match
+        String alphabet = "0123456789012345:::..''+-,/()[]GMT a\n\r\u2028";
+        Random random = new Random(42);
+        List<String> inputs = new ArrayList<>(List.of("", "GMT", "GMT+", "+", "'", "''.", "31\n", "31.\r\n", "GMT+12\n", "'a\nb'c'"));
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder input = new StringBuilder(i % 4 == 0 ? "GMT" : "");
+            for (int length = random.nextInt(10); length > 0; length--) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            inputs.add(input.toString());
+        }
+
+        for (String input : inputs) {
+            Assertions.assertEquals(RegexMatchers.getTrimmedComponent(input), Matchers.getTrimmedComponent(input), input);
+            Assertions.assertEquals(RegexMatchers.detectShortGmtFormat(input), Matchers.detectShortGmtFormat(input), input);
+            Assertions.assertEquals(RegexMatchers.detectLongGmtFormat(input), Matchers.detectLongGmtFormat(input), input);
+            Assertions.assertEquals(RegexMatchers.detectBasicHmsFormat(input), Matchers.detectBasicHmsFormat(input), input);
+            Assertions.assertEquals(RegexMatchers.detectExtendedHmsFormat(input), Matchers.detectExtendedHmsFormat(input), input);
+            Assertions.assertEquals(RegexMatchers.detectMinutesOrSecondsStandaloneShortFormat(input), Matchers.detectMinutesOrSecondsStandaloneShortFormat(input), input);
+            Assertions.assertEquals(RegexMatchers.detectMinutesOrSecondsStandaloneLongFormat(input), Matchers.detectMinutesOrSecondsStandaloneLongFormat(input), input);
+            Assertions.assertEquals(RegexMatchers.detectHoursShortStandaloneFormat(input), Matchers.detectHoursShortStandaloneFormat(input), input);
+            Assertions.assertEquals(RegexMatchers.detectHoursLongStandaloneFormat(input), Matchers.detectHoursLongStandaloneFormat(input), input);
+            Assertions.assertEquals(RegexMatchers.detectSingleQuotationWordsAndGetMatchedGroup(input), Matchers.detectSingleQuotationWordsAndGetMatchedGroup(input), input);
+            Assertions.assertEquals(RegexMatchers.detectDateCharacterSeparatorAndGetMatchedGroup(input), Matchers.detectDateCharacterSeparatorAndGetMatchedGroup(input), input);
+            for (Map<String, String> timePatterns : List.of(Matchers.formattedTimePatternsToRegexMap, Matchers.standaloneTimePatternsToRegexMap)) {
+                Assertions.assertEquals(RegexMatchers.getMatchedTimeOrPattern(input, timePatterns, false), Matchers.getMatchedTimeOrPattern(input, timePatterns, false), input);
+                Assertions.assertEquals(RegexMatchers.getMatchedTimeOrPattern(input, timePatterns, true), Matchers.getMatchedTimeOrPattern(input, timePatterns, true), input);
+            }
+        }
+    }
+}
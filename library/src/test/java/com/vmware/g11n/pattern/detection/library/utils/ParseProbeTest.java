@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import com.ibm.icu.text.SimpleDateFormat;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseProbeTest {
+
+    @Test
+    void verifyProbeMatchesDateTimeFormatterParse() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEEE, d MMMM yyyy", Locale.US);
+
+        for (String input : List.of("Wednesday, 29 June 2022", "Monday, 29 June 2022", "Wednesday, 29 June 2022 ",
+                "Wednesday 29 June 2022", "29 June 2022", "")) {
+            boolean parsed;
+            try {
+                formatter.parse(input);
+                parsed = true;
+            } catch (DateTimeParseException e) {
+                // Resolving conflicts are only found by the full parse
+                parsed = e.getMessage().contains("Conflict found");
+            }
+            assertEquals(parsed, ParseProbe.probe(formatter, input).parsed, input);
+        }
+    }
+
+    @Test
+    void verifyProbeReportsErrorIndex() {
+        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE;
+
+        assertEquals(-1, ParseProbe.probe(formatter, "2022-06-29").errorIndex);
+        assertEquals(5, ParseProbe.probe(formatter, "2022-x6-29").errorIndex);
+        assertEquals(10, ParseProbe.probe(formatter, "2022-06-29T").errorIndex);
+        assertThrows(DateTimeParseException.class, () -> LocalDate.parse("2022-02-30", formatter));
+        assertTrue(ParseProbe.probe(formatter, "2022-02-30").parsed);
+        assertFalse(ParseProbe.probe(DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2022-06-29T10:15:30+25:00").parsed);
+    }
+
+    @Test
+    void verifyProbeMatchesSimpleDateFormatParse() {
+        SimpleDateFormat format = new SimpleDateFormat("d MMM yyyy", Locale.US);
+
+        assertTrue(ParseProbe.probe(format, "29 Jun 2022").parsed);
+        assertFalse(ParseProbe.probe(format, "Jun 29 2022").parsed);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.library.utils;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+/*
+The regex implementation of the Matchers classifiers, kept as the reference for MatchersTest and MatchersBenchmark.
+The anchored regexes end with \z instead of $, as the classifiers don't accept a trailing line terminator.
+ */
+class RegexMatchers {
+
+    static String getMatchedTimeOrPattern(String input, Map<String, String> timePatterns, boolean returnPattern) {
+        for (Map.Entry<String, String> entry : timePatterns.entrySet()) {
+            Matcher m = Pattern.compile(entry.getValue()).matcher(input);
+            if (m.find()) {
+                return returnPattern ? entry.getKey() : m.group();
+            }
+        }
+        return EMPTY;
+    }
+
+    static String getTrimmedComponent(String input) {
+        Matcher m = Pattern.compile("([,\\[\\])(])").matcher(input);
+        while (m.find()) {
+            String matchedChar = m.group();
+            if (input.startsWith(matchedChar) || input.endsWith(matchedChar)) {
+                input = input.replace(matchedChar, "");
+            }
+        }
+        return input;
+    }
+
+    static boolean detectShortGmtFormat(String input) {
+        return find("^GMT[+-]([1-9]|1[0-2])\\z", input);
+    }
+
+    static boolean detectLongGmtFormat(String input) {
+        return find("^GMT[+-](1[0-2]|0[0-9]):(0[0-9]|[1-5][0-9])\\z", input);
+    }
+
+    static boolean detectBasicHmsFormat(String input) {
+        return find("^[+-](1[0-2]|0[0-9])(0[0-9]|[1-5][0-9])\\z", input);
+    }
+
+    static boolean detectExtendedHmsFormat(String input) {
+        return find("^[+-](1[0-2]|0[0-9]):(0[0-9]|[1-5][0-9])\\z", input);
+    }
+
+    static boolean detectMinutesOrSecondsStandaloneShortFormat(String input) {
+        return find("^([1-5][0-9]|[0-9])\\z", input);
+    }
+
+    static boolean detectMinutesOrSecondsStandaloneLongFormat(String input) {
+        return find("^(0[0-9]|[1-5][0-9])\\z", input);
+    }
+
+    static boolean detectHoursShortStandaloneFormat(String input) {
+        return find("^(1[0-2]|[0-9])\\z", input);
+    }
+
+    static boolean detectHoursLongStandaloneFormat(String input) {
+        return find("^(1[0-2]|0[0-9])\\z", input);
+    }
+
+    static String detectSingleQuotationWordsAndGetMatchedGroup(String input) {
+        return findGroup("'.*?'\\.?", input);
+    }
+
+    static String detectDateCharacterSeparatorAndGetMatchedGroup(String input) {
+        return findGroup("[./\\-,]", input);
+    }
+
+    private static boolean find(String regex, String input) {
+        return Pattern.compile(regex).matcher(input).find();
+    }
+
+    private static String findGroup(String regex, String input) {
+        Matcher m = Pattern.compile(regex).matcher(input);
+        return m.find() ? m.group() : EMPTY;
+    }
+}
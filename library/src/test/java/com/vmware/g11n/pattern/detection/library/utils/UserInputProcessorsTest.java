@@ -11,12 +11,14 @@ import com.vmware.g11n.pattern.detection.model.CldrData;
 import org.junit.jupiter.api.Test;
 
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 
 import static com.vmware.g11n.pattern.detection.library.data.PatternDetectionConstants.INVALID_LOCALE_ERROR;
 import static com.vmware.g11n.pattern.detection.library.utils.ResourceLoaders.loadCldrData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UserInputProcessorsTest {
 
@@ -60,6 +62,19 @@ class UserInputProcessorsTest {
         assertEquals(userDayPeriodAndTimezone, String.join(" ", componentsDayPeriodTimezone), "Original user input was changed after split into a list.");
     }
 
+    @Test
+    void verifySplitInputCombinesLongestPhrasesAndKeepsRepeatedWords() {
+        CldrData cldrDataEn = loadCldrData(Locale.US);
+        CldrData cldrDataEs = loadCldrData(Locale.forLanguageTag("es-ES"));
+
+        assertEquals(List.of("Los Angeles", "Los Angeles,", "7:33 PM"),
+                UserInputProcessors.splitInputString("Los Angeles Los Angeles, 7:33 PM", cldrDataEn));
+        assertEquals(List.of("Monday", "PM 7:33:00", "Pacific Daylight Time"),
+                UserInputProcessors.splitInputString("Monday PM 7:33:00 Pacific Daylight Time", cldrDataEn));
+        assertEquals(List.of("lunes", "7:33 p.\u00A0m."), UserInputProcessors.splitInputString("lunes 7:33 p. m.", cldrDataEs));
+        assertEquals(List.of("lunes", "7:33 p.\u00A0m."), UserInputProcessors.splitInputString("lunes 7:33 p.\u00A0m.", cldrDataEs));
+    }
+
     @Test
     void verifyAndLoadLocaleAssertException() {
         Exception exception = assertThrows(DateTimePatternDetectionException.class, () -> UserInputProcessors.verifyAndLoadLocale("de-CN"));
@@ -77,5 +92,19 @@ class UserInputProcessorsTest {
         String untrimmedInput = "   Testing  untrimmed    input  ";
         String expectedTrimmedInput = "Testing untrimmed input";
         assertEquals(expectedTrimmedInput, UserInputProcessors.trimInput(untrimmedInput));
+        assertEquals("Mittwoch, 9 Februar,, 2022", UserInputProcessors.trimInput("\tMittwoch  , 9 Februar , , 2022\n"));
+    }
+
+    @Test
+    void verifyFoldCaseMatchesEqualsIgnoreCase() {
+        List<String> inputs = List.of("MÄRZ", "märz", "Maerz", "ΣΕΠ", "σεπ", "ςεπ", "µ", "μ", "Μ", "İ", "i", "I", "ı", "ß", "SS", "ǅ", "ǆ", "Ǆ");
+
+        for (String first : inputs) {
+            for (String second : inputs) {
+                assertEquals(first.equalsIgnoreCase(second), UserInputProcessors.foldCase(first).equals(UserInputProcessors.foldCase(second)),
+                        first + " / " + second);
+            }
+        }
+        assertTrue(UserInputProcessors.foldCase("Februar").equals(UserInputProcessors.foldCase("FEBRUAR")));
     }
-}
\ No newline at end of file
+}
@@ -5,18 +5,114 @@
 
 package com.vmware.g11n.pattern.detection.model;
 
+import com.google.common.base.Suppliers;
 import com.vmware.g11n.pattern.detection.model.dateFields.DateFields;
 import com.vmware.g11n.pattern.detection.model.calendar.GregorianCalendar;
 import com.vmware.g11n.pattern.detection.model.timezones.TimezoneNames;
 import lombok.Builder;
-import lombok.Data;
-import lombok.ToString;
 
-@Data
-@ToString
-@Builder
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/*
+The sections are materialized on first access, so a request which never gets to the date fields or timezone names
+doesn't pay for loading them. Each section is loaded at most once and safely published to all threads.
+
+Since model 2.0.0 the sections are only reachable through the getters and setters, the public fields are gone. Equality
+still compares the values of the sections, which loads them.
+ */
 public class CldrData {
-    public GregorianCalendar gregorianCalendar;
-    public DateFields dateFields;
-    public TimezoneNames timezoneNames;
+    private volatile Supplier<GregorianCalendar> gregorianCalendar;
+    private volatile Supplier<DateFields> dateFields;
+    private volatile Supplier<TimezoneNames> timezoneNames;
+
+    @Builder
+    private CldrData(Supplier<GregorianCalendar> gregorianCalendar, Supplier<DateFields> dateFields, Supplier<TimezoneNames> timezoneNames) {
+        this.gregorianCalendar = memoize(gregorianCalendar);
+        this.dateFields = memoize(dateFields);
+        this.timezoneNames = memoize(timezoneNames);
+    }
+
+    public GregorianCalendar getGregorianCalendar() {
+        return gregorianCalendar.get();
+    }
+
+    public DateFields getDateFields() {
+        return dateFields.get();
+    }
+
+    public TimezoneNames getTimezoneNames() {
+        return timezoneNames.get();
+    }
+
+    public void setGregorianCalendar(GregorianCalendar gregorianCalendar) {
+        this.gregorianCalendar = () -> gregorianCalendar;
+    }
+
+    public void setDateFields(DateFields dateFields) {
+        this.dateFields = () -> dateFields;
+    }
+
+    public void setTimezoneNames(TimezoneNames timezoneNames) {
+        this.timezoneNames = () -> timezoneNames;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CldrData cldrData)) {
+            return false;
+        }
+        return Objects.equals(getGregorianCalendar(), cldrData.getGregorianCalendar())
+                && Objects.equals(getDateFields(), cldrData.getDateFields())
+                && Objects.equals(getTimezoneNames(), cldrData.getTimezoneNames());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getGregorianCalendar(), getDateFields(), getTimezoneNames());
+    }
+
+    @Override
+    public String toString() {
+        return "CldrData(gregorianCalendar=" + getGregorianCalendar() + ", dateFields=" + getDateFields()
+                + ", timezoneNames=" + getTimezoneNames() + ")";
+    }
+
+    // A failing loader is not memoized, so the next access tries again
+    private static <T> Supplier<T> memoize(Supplier<T> loader) {
+        return loader == null ? () -> null : Suppliers.memoize(loader::get);
+    }
+
+    public static class CldrDataBuilder {
+
+        public CldrDataBuilder gregorianCalendar(GregorianCalendar gregorianCalendar) {
+            return gregorianCalendar(() -> gregorianCalendar);
+        }
+
+        public CldrDataBuilder gregorianCalendar(Supplier<GregorianCalendar> gregorianCalendar) {
+            this.gregorianCalendar = gregorianCalendar;
+            return this;
+        }
+
+        public CldrDataBuilder dateFields(DateFields dateFields) {
+            return dateFields(() -> dateFields);
+        }
+
+        public CldrDataBuilder dateFields(Supplier<DateFields> dateFields) {
+            this.dateFields = dateFields;
+            return this;
+        }
+
+        public CldrDataBuilder timezoneNames(TimezoneNames timezoneNames) {
+            return timezoneNames(() -> timezoneNames);
+        }
+
+        public CldrDataBuilder timezoneNames(Supplier<TimezoneNames> timezoneNames) {
+            this.timezoneNames = timezoneNames;
+            return this;
+        }
+    }
 }
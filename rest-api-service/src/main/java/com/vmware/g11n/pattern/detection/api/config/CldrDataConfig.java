@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.api.config;
+
+import com.vmware.g11n.pattern.detection.library.DateTimePatternDetection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+@Configuration
+public class CldrDataConfig {
+
+    @Value("${pattern-detection.cldr-data.warm-up:true}")
+    private boolean warmUp;
+
+    @Value("${pattern-detection.cldr-data.version:}")
+    private String cldrVersion;
+
+    @Value("${pattern-detection.cldr-data.zip:}")
+    private String cldrJsonZipPath;
+
+    // Load the CLDR data of all supported locales at startup instead of on the first requests
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCldrData() {
+        if (!cldrVersion.isBlank() && !cldrJsonZipPath.isBlank()) {
+            DateTimePatternDetection.loadCldrVersion(cldrVersion, cldrJsonZipPath);
+        } else if (warmUp) {
+            DateTimePatternDetection.warmUpCldrData();
+        }
+    }
+}
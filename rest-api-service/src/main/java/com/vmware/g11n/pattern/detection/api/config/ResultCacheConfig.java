@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 VMware, Inc.
+ * SPDX-License-Identifier: MIT
+ */
+
+package com.vmware.g11n.pattern.detection.api.config;
+
+import com.vmware.g11n.pattern.detection.library.DateTimePatternDetection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+
+@Configuration
+public class ResultCacheConfig {
+
+    @Value("${pattern-detection.result-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${pattern-detection.result-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${pattern-detection.result-cache.expire-after-write-seconds:600}")
+    private long expireAfterWriteSeconds;
+
+    // Serve repeated validations and conversions from the library result cache
+    @EventListener(ApplicationReadyEvent.class)
+    public void enableResultCache() {
+        if (enabled) {
+            DateTimePatternDetection.enableResultCache(maximumSize, Duration.ofSeconds(expireAfterWriteSeconds));
+        }
+    }
+}
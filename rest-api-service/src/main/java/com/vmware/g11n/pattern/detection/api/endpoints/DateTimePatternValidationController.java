@@ -44,7 +44,9 @@ public class DateTimePatternValidationController {
     @ResponseStatus(HttpStatus.OK)
     @PostMapping(value = "/localizedInput/", consumes = "application/text", produces = "application/json")
     public List<ValidationResult> validateLocalizedInput(
+            @RequestParam(required = false) Integer top,
             @RequestBody String localizedInput) {
-        return validatorService.validateInput(localizedInput.trim());
+        // With top, only the best matching locales are returned, the best first
+        return top != null ? validatorService.validateInput(localizedInput.trim(), top) : validatorService.validateInput(localizedInput.trim());
     }
 }
@@ -15,6 +15,8 @@ public interface IValidatorService {
 
     List<ValidationResult> validateInput(String input);
 
+    List<ValidationResult> validateInput(String input, int maximumResults);
+
     List<ValidationResult> bulkValidateLocalizedInput(List<BatchValidationRequest> batchValidationRequests);
 
 }
@@ -32,6 +32,11 @@ public class ValidatorService implements IValidatorService {
         return dateTimePatternDetection.validateLocalizedInput(input);
     }
 
+    @Override
+    public List<ValidationResult> validateInput(String input, int maximumResults) {
+        return dateTimePatternDetection.validateLocalizedInput(input, maximumResults);
+    }
+
     @Override
     public List<ValidationResult> bulkValidateLocalizedInput(List<BatchValidationRequest> batchValidationRequests) {
         return dateTimePatternDetection.batchValidateLocalizedInput(batchValidationRequests);